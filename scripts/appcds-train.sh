@@ -0,0 +1,47 @@
+#!/usr/bin/env bash
+# AppCDS 학습 실행 (mvn -Pfast-startup package 에서 호출)
+# 1) fat jar를 풀어 CDS가 읽을 수 있는 평범한 jar 구조(application.jar + lib/)로 만든다.
+# 2) AOT 모드로 컨텍스트 refresh 직후 종료(spring.context.exit=onRefresh)하며 로딩된 클래스를 application.jsa로 덤프한다.
+# 학습 실행도 DataSource/Hibernate를 띄우므로 평소 실행과 같은 DB 설정(.env 또는 환경 변수)이 필요하다.
+# 추가 JVM 옵션은 APPCDS_TRAINING_OPTS 로 넘긴다.
+#
+# 사용: scripts/appcds-train.sh target/Board-0.0.1-SNAPSHOT.jar target/fast-startup
+set -euo pipefail
+
+if [ $# -ne 2 ]; then
+  echo "usage: $0 <boot-jar> <output-dir>" >&2
+  exit 1
+fi
+
+JAR=$(realpath "$1")
+OUT=$2
+
+rm -rf "$OUT"
+mkdir -p "$OUT/lib"
+WORK=$(mktemp -d)
+trap 'rm -rf "$WORK"' EXIT
+
+(cd "$WORK" && jar -xf "$JAR")
+cp "$WORK"/BOOT-INF/lib/*.jar "$OUT/lib/"
+
+MAIN_CLASS=$(grep '^Start-Class:' "$WORK/META-INF/MANIFEST.MF" | cut -d' ' -f2 | tr -d '\r')
+{
+  echo "Main-Class: $MAIN_CLASS"
+  echo "Class-Path: "
+  for lib in "$OUT"/lib/*.jar; do
+    # 이어지는 줄: 첫 공백은 줄 연결, 두 번째 공백은 항목 구분
+    echo "  lib/$(basename "$lib")"
+  done
+} > "$WORK/manifest.txt"
+jar --create --file "$OUT/application.jar" --manifest "$WORK/manifest.txt" -C "$WORK/BOOT-INF/classes" .
+
+# 경로를 상대 경로로 기록해야 디렉터리째 옮겨도(컨테이너 이미지 등) 아카이브가 유효하다
+cd "$OUT"
+java ${APPCDS_TRAINING_OPTS:-} \
+  -XX:ArchiveClassesAtExit=application.jsa \
+  -Dspring.aot.enabled=true \
+  -Dspring.context.exit=onRefresh \
+  -jar application.jar
+
+echo "AppCDS archive: $(pwd)/application.jsa"
+echo "run: java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -jar application.jar"
@@ -0,0 +1,74 @@
+#!/usr/bin/env bash
+# 기본 빌드와 빠른 기동 빌드(AOT + AppCDS)의 기동 시간 비교
+# mvn -Pfast-startup -DskipTests package 후 실행한다. 같은 빌드 결과물을
+#  - default:   java -jar target/Board-*.jar
+#  - optimized: target/fast-startup/application.jar (-Dspring.aot.enabled=true, AppCDS)
+# 로 번갈아 띄워 "process running for"(JVM 시작~컨텍스트 준비)와 첫 요청 성공까지의 시간(time-to-first-request)을 잰다.
+# DB 설정은 평소 실행과 같다. 추가 JVM 옵션은 JAVA_OPTS, 결과는 target/startup/startup-report.csv
+#
+# 사용: scripts/startup-benchmark.sh [runs=5] [port=18080]
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${2:-18080}
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+BOOT_JAR=$(ls "$ROOT"/target/*.jar | grep -v '\.original$' | head -n 1)
+FAST_DIR="$ROOT/target/fast-startup"
+REPORT_DIR="$ROOT/target/startup"
+URL="http://localhost:$PORT/api/v1/health"
+
+if [ ! -f "$FAST_DIR/application.jsa" ]; then
+  echo "missing $FAST_DIR/application.jsa - run: mvn -Pfast-startup -DskipTests package" >&2
+  exit 1
+fi
+mkdir -p "$REPORT_DIR"
+CSV="$REPORT_DIR/startup-report.csv"
+echo "mode,run,started_s,first_request_ms" > "$CSV"
+
+now_ms() {
+  echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# $1=mode, $2=run 번호, 나머지=실행 명령
+measure() {
+  local mode=$1 run=$2
+  shift 2
+  local log="$REPORT_DIR/$mode-$run.log"
+  local start
+  start=$(now_ms)
+  "$@" --server.port="$PORT" > "$log" 2>&1 &
+  local pid=$!
+
+  until curl -sf -o /dev/null "$URL"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "$mode run $run exited before serving requests, see $log" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  local first_request=$(( $(now_ms) - start ))
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+
+  local started
+  started=$(grep -o 'process running for [0-9.]*' "$log" | awk '{print $4}' | tail -n 1)
+  echo "$mode,$run,${started:-NA},$first_request" >> "$CSV"
+  printf '%-10s run %d: started %5ss, first request %6d ms\n' "$mode" "$run" "${started:-?}" "$first_request"
+}
+
+for run in $(seq 1 "$RUNS"); do
+  # 번갈아 실행해 디스크 캐시/CPU 상태의 영향을 양쪽에 고르게 나눈다
+  measure default "$run" java ${JAVA_OPTS:-} -jar "$BOOT_JAR"
+  (cd "$FAST_DIR" && measure optimized "$run" java ${JAVA_OPTS:-} \
+      -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -jar application.jar)
+done
+
+echo
+printf '%-10s %12s %20s\n' mode "started(s)" "first request(ms)"
+for mode in default optimized; do
+  started=$(awk -F, -v m="$mode" '$1 == m {print $3}' "$CSV" | sort -n | awk '{a[NR]=$1} END {print a[int((NR+1)/2)]}')
+  first=$(awk -F, -v m="$mode" '$1 == m {print $4}' "$CSV" | sort -n | awk '{a[NR]=$1} END {print a[int((NR+1)/2)]}')
+  printf '%-10s %12s %20s   (median of %d)\n' "$mode" "$started" "$first" "$RUNS"
+done
+echo "report: $CSV"
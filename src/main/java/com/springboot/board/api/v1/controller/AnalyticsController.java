@@ -0,0 +1,54 @@
+package com.springboot.board.api.v1.controller;
+
+import com.springboot.board.api.v1.dto.response.RerunOverviewResponse;
+import com.springboot.board.api.v1.dto.response.SeasonRerunStatsResponse;
+import com.springboot.board.api.v1.dto.response.SoulRerunStatsResponse;
+import com.springboot.board.application.service.AnalyticsService;
+import com.springboot.board.common.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Analytics", description = "재방문(유랑) 통계 API")
+@RestController
+@RequestMapping("/api/v1/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    @Operation(summary = "재방문 통계 요약", description = "전체 유랑 방문 수와 방문 간격(일) 평균/분산/구간별 건수를 반환합니다.")
+    @GetMapping("/reruns")
+    public ApiResponse<RerunOverviewResponse> getOverview() {
+        return ApiResponse.success(analyticsService.getOverview());
+    }
+
+    @Operation(summary = "영혼별 재방문 통계",
+            description = "sort=meanGap|maxGap|minGap|lastGap|visits|lastVisit, order=asc|desc 기준 상위 limit개 영혼의 간격 통계를 반환합니다.")
+    @GetMapping("/reruns/souls")
+    public ApiResponse<List<SoulRerunStatsResponse>> getSouls(
+            @RequestParam(defaultValue = "meanGap") String sort,
+            @RequestParam(defaultValue = "desc") String order,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ApiResponse.success(analyticsService.getSouls(sort, order, limit));
+    }
+
+    @Operation(summary = "영혼 재방문 통계", description = "한 영혼의 방문 수, 마지막 방문일, 최근 간격과 간격 통계를 반환합니다.")
+    @GetMapping("/reruns/souls/{soulId}")
+    public ApiResponse<SoulRerunStatsResponse> getSoul(@PathVariable Integer soulId) {
+        return ApiResponse.success(analyticsService.getSoul(soulId));
+    }
+
+    @Operation(summary = "시즌별 재방문 통계", description = "시즌 순서대로 소속 영혼들의 방문 수와 간격 통계를 반환합니다.")
+    @GetMapping("/reruns/seasons")
+    public ApiResponse<List<SeasonRerunStatsResponse>> getSeasons() {
+        return ApiResponse.success(analyticsService.getSeasons());
+    }
+}
@@ -67,10 +67,11 @@ public class ImageController {
     }
 
     // ✅ URL로 이미지 삭제 (프론트엔드 호환)
-    @Operation(summary = "이미지 삭제 (URL 기반)")
+    @Operation(summary = "이미지 삭제 (URL 기반)",
+               description = "같은 파일을 여러 이미지가 공유할 수 있으므로 영혼에 연결된 이미지는 soulId를 함께 보냅니다.")
     @DeleteMapping
     public ApiResponse<Void> deleteByUrl(@RequestBody DeleteImageRequest request) throws Exception {
-        imageService.deleteByUrl(request.getUrl());
+        imageService.deleteByUrl(request.getSoulId(), request.getUrl());
         return ApiResponse.success(null);
     }
 
@@ -115,7 +116,7 @@ public class ImageController {
             entities = imageRepository.findAll(pageable);
         }
 
-        Page<ImageResponse> responsePage = entities.map(ImageResponse::fromEntity);
+        Page<ImageResponse> responsePage = entities.map(ImageResponse::listItemFromEntity);
         return ApiResponse.success(responsePage);
     }
 
@@ -128,7 +129,7 @@ public class ImageController {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("id").descending());
         Page<ImageEntity> entities = imageRepository.findAllBySoulId(soulId, pageable);
-        Page<ImageResponse> responsePage = entities.map(ImageResponse::fromEntity);
+        Page<ImageResponse> responsePage = entities.map(ImageResponse::listItemFromEntity);
         
         return ApiResponse.success(responsePage);
     }
@@ -142,7 +143,7 @@ public class ImageController {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("id").descending());
         Page<ImageEntity> entities = imageRepository.findAllByImageType(imageType, pageable);
-        Page<ImageResponse> responsePage = entities.map(ImageResponse::fromEntity);
+        Page<ImageResponse> responsePage = entities.map(ImageResponse::listItemFromEntity);
         
         return ApiResponse.success(responsePage);
     }
@@ -150,6 +151,7 @@ public class ImageController {
     // ✅ 요청 DTO
     @lombok.Data
     public static class DeleteImageRequest {
+        private Integer soulId; // 없으면 미연결 이미지 우선
         private String url;
     }
 }
\ No newline at end of file
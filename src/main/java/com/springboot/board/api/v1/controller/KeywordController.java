@@ -0,0 +1,43 @@
+package com.springboot.board.api.v1.controller;
+
+import com.springboot.board.api.v1.dto.response.KeywordFilterResponse;
+import com.springboot.board.api.v1.dto.response.KeywordResponse;
+import com.springboot.board.application.service.KeywordService;
+import com.springboot.board.common.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Keyword", description = "키워드 사전/필터 API")
+@RestController
+@RequestMapping("/api/v1/keywords")
+@RequiredArgsConstructor
+public class KeywordController {
+
+    private final KeywordService keywordService;
+
+    @Operation(summary = "키워드 목록", description = "키워드 사전과 키워드별 영혼/아이템 수를 반환합니다.")
+    @GetMapping
+    public ApiResponse<List<KeywordResponse>> getKeywords() {
+        return ApiResponse.success(keywordService.getKeywords());
+    }
+
+    @Operation(summary = "키워드 필터",
+            description = "q=\"hair AND cape OR mask\" 처럼 AND/OR로 조합한 키워드를 가진 영혼(target=souls) 또는 "
+                    + "IAP 아이템(target=items)의 id와 키워드별 건수(facets)를 반환합니다. AND가 OR보다 먼저 묶입니다.")
+    @GetMapping("/filter")
+    public ApiResponse<KeywordFilterResponse> filter(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "souls") String target,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(defaultValue = "20") int facetLimit) {
+        return ApiResponse.success(keywordService.filter(q, target, page, size, facetLimit));
+    }
+}
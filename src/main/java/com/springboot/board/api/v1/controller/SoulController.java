@@ -1,10 +1,16 @@
 package com.springboot.board.api.v1.controller;
 
+import com.springboot.board.api.v1.dto.request.SoulBatchRequest;
 import com.springboot.board.api.v1.dto.request.SoulCreateRequest;
+import com.springboot.board.api.v1.dto.request.SoulFacetRequest;
 import com.springboot.board.api.v1.dto.request.SoulUpdateRequest;
+import com.springboot.board.api.v1.dto.response.SoulBatchResponse;
+import com.springboot.board.api.v1.dto.response.SoulFacetResponse;
 import com.springboot.board.api.v1.dto.response.SoulResponse;
 import com.springboot.board.application.service.SoulService;
 import com.springboot.board.common.response.ApiResponse;
+import com.springboot.board.common.response.FieldSelection;
+import com.springboot.board.common.response.SparseFieldset;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -27,8 +33,10 @@ public class SoulController {
     // ✅ 1. 검색 API 추가 (구체적 경로 먼저!)
     @Operation(summary = "영혼 검색 (유랑 대백과)")
     @GetMapping("/search")
-    public ApiResponse<List<Map<String, Object>>> searchTravelingVisits(@RequestParam String query) {
-        return ApiResponse.success(soulService.searchTravelingVisits(query));
+    public ApiResponse<List<Map<String, Object>>> searchTravelingVisits(
+            @RequestParam String query,
+            @RequestParam(required = false) String fields) {
+        return ApiResponse.success(soulService.searchTravelingVisits(query, FieldSelection.parse(fields)));
     }
 
     // ✅ 2. 유랑 대백과용
@@ -36,53 +44,94 @@ public class SoulController {
     @GetMapping("/traveling-visits")
     public ApiResponse<Page<Map<String, Object>>> getTravelingVisits(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "15") int size) {
-        return ApiResponse.success(soulService.getAllTravelingVisits(page, size));
+            @RequestParam(defaultValue = "15") int size,
+            @RequestParam(required = false) String fields) {
+        return ApiResponse.success(soulService.getAllTravelingVisits(page, size, FieldSelection.parse(fields)));
     }
 
     // ✅ 3. 오래된 영혼용
     @Operation(summary = "오래된 유랑 조회")
     @GetMapping("/oldest-spirits")
+    @SparseFieldset(SoulResponse.FILTER)
     public ApiResponse<Page<Map<String, Object>>> getOldestSpirits(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
-        return ApiResponse.success(soulService.getOldestSpirits(page, size));
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields) {
+        return ApiResponse.success(soulService.getOldestSpirits(page, size, FieldSelection.parse(fields)));
     }
 
     @Operation(summary = "모든 영혼 조회")
     @GetMapping("/all")
-    public ApiResponse<List<SoulResponse>> getAllSouls() {
-        return ApiResponse.success(soulService.getAllSouls());
+    @SparseFieldset(SoulResponse.FILTER)
+    public ApiResponse<List<SoulResponse>> getAllSouls(@RequestParam(required = false) String fields) {
+        return ApiResponse.success(soulService.getAllSouls(FieldSelection.parse(fields)));
+    }
+
+    @Operation(summary = "영혼 패싯 필터",
+            description = "season/seasonGuide/creator/visited/warband/rerunMin~rerunMax/keyword 조합에 맞는 영혼 id와 "
+                    + "항목별 건수(facets)를 반환합니다. 같은 항목의 여러 값은 OR, keyword와 항목끼리는 AND입니다.")
+    @GetMapping("/facets")
+    public ApiResponse<SoulFacetResponse> getSoulFacets(@Valid SoulFacetRequest request) {
+        return ApiResponse.success(soulService.getSoulFacets(request));
     }
 
     @Operation(summary = "영혼 목록 조회 (페이징, 필터링, 검색)")
     @GetMapping
+    @SparseFieldset(SoulResponse.FILTER)
     public ApiResponse<Page<SoulResponse>> getSouls(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false) String seasonName,
-            @RequestParam(required = false) String query
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) String fields
     ) {
-        return ApiResponse.success(soulService.getSouls(page, size, seasonName, query));
+        return ApiResponse.success(soulService.getSouls(page, size, seasonName, query, FieldSelection.parse(fields)));
+    }
+
+    @Operation(summary = "영혼 다건 조회", description = "ids 순서대로 반환하고, 없는 id는 missingIds에 담습니다.")
+    @GetMapping(params = "ids")
+    @SparseFieldset(SoulResponse.FILTER)
+    public ApiResponse<SoulBatchResponse> getSoulsByIds(
+            @RequestParam List<Integer> ids,
+            @RequestParam(required = false) String fields) {
+        return ApiResponse.success(soulService.getSoulsByIds(ids, FieldSelection.parse(fields)));
+    }
+
+    @Operation(summary = "영혼 다건 조회 (긴 id 목록)", description = "GET ?ids= 와 같고, id 목록을 본문으로 받습니다.")
+    @PostMapping("/batch")
+    @SparseFieldset(SoulResponse.FILTER)
+    public ApiResponse<SoulBatchResponse> getSoulsByIdsBatch(
+            @Valid @RequestBody SoulBatchRequest request,
+            @RequestParam(required = false) String fields) {
+        return ApiResponse.success(soulService.getSoulsByIds(request.getIds(), FieldSelection.parse(fields)));
     }
 
     // ✅ 4. Path Variable 사용하는 API들은 맨 마지막!
     @Operation(summary = "시즌별 영혼 조회")
     @GetMapping("/season/{seasonId}")
-    public ApiResponse<List<SoulResponse>> getSoulsBySeason(@PathVariable Integer seasonId) {
-        return ApiResponse.success(soulService.getSoulsBySeason(seasonId));
+    @SparseFieldset(SoulResponse.FILTER)
+    public ApiResponse<List<SoulResponse>> getSoulsBySeason(
+            @PathVariable Integer seasonId,
+            @RequestParam(required = false) String fields) {
+        return ApiResponse.success(soulService.getSoulsBySeason(seasonId, FieldSelection.parse(fields)));
     }
 
     @Operation(summary = "영혼 상세 조회")
     @GetMapping("/{id}")
-    public ApiResponse<SoulResponse> getSoul(@PathVariable Integer id) {
-        return ApiResponse.success(soulService.getSoul(id));
+    @SparseFieldset(SoulResponse.FILTER)
+    public ApiResponse<SoulResponse> getSoul(
+            @PathVariable Integer id,
+            @RequestParam(required = false) String fields) {
+        return ApiResponse.success(soulService.getSoul(id, FieldSelection.parse(fields)));
     }
 
     @Operation(summary = "이웃 영혼 조회")
     @GetMapping("/{id}/neighbors")
-    public ApiResponse<Map<String, List<SoulResponse>>> getNeighbors(@PathVariable Integer id) {
-        return ApiResponse.success(soulService.getNeighbors(id));
+    @SparseFieldset(SoulResponse.FILTER)
+    public ApiResponse<Map<String, List<SoulResponse>>> getNeighbors(
+            @PathVariable Integer id,
+            @RequestParam(required = false) String fields) {
+        return ApiResponse.success(soulService.getNeighbors(id, FieldSelection.parse(fields)));
     }
 
     @Operation(summary = "영혼 생성")
@@ -0,0 +1,35 @@
+package com.springboot.board.api.v1.controller;
+
+import com.springboot.board.application.push.SseBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "Stream", description = "실시간 알림 (SSE)")
+@RestController
+@RequestMapping("/api/v1/stream")
+@RequiredArgsConstructor
+public class StreamController {
+
+    private final SseBroadcaster broadcaster;
+
+    @Operation(summary = "실시간 알림 구독",
+            description = "visit-started / visit-ended / catalog-changed 이벤트를 Server-Sent Events로 받습니다. "
+                    + "재연결 후에는 /api/v1/sync 로 놓친 변경을 가져옵니다. 구독자 한도를 넘으면 429를 반환합니다.")
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream() {
+        return broadcaster.subscribe()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(broadcaster.getRetryAfterSeconds()))
+                        .build());
+    }
+}
@@ -0,0 +1,28 @@
+package com.springboot.board.api.v1.controller;
+
+import com.springboot.board.api.v1.dto.response.SyncResponse;
+import com.springboot.board.application.service.SyncService;
+import com.springboot.board.common.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Sync", description = "모바일 증분 동기화 API")
+@RestController
+@RequestMapping("/api/v1/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @Operation(summary = "증분 동기화",
+            description = "since 토큰 이후 생성/수정/삭제된 카탈로그만 반환합니다. 토큰이 없거나 만료되면 전체(full=true)를 반환합니다.")
+    @GetMapping
+    public ApiResponse<SyncResponse> sync(@RequestParam(required = false) String since) {
+        return ApiResponse.success(syncService.getChanges(since));
+    }
+}
@@ -5,6 +5,7 @@ import com.springboot.board.api.v1.dto.request.TravelingVisitUpdateRequest;
 import com.springboot.board.api.v1.dto.response.TravelingVisitResponse;
 import com.springboot.board.application.service.TravelingVisitService;
 import com.springboot.board.common.response.ApiResponse;
+import com.springboot.board.common.response.SparseFieldset;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -24,18 +25,21 @@ public class VisitController {
 
     @Operation(summary = "영혼의 유랑 이력 조회", description = "특정 영혼의 모든 유랑 방문 기록을 조회합니다.")
     @GetMapping("/soul/{soulId}")
+    @SparseFieldset(TravelingVisitResponse.FILTER)
     public ApiResponse<List<TravelingVisitResponse>> getVisitsBySoul(@PathVariable Integer soulId) {
         return ApiResponse.success(visitService.getVisitsBySoul(soulId));
     }
 
     @Operation(summary = "현재 진행중인 유랑 조회", description = "현재 진행중인 모든 유랑을 조회합니다.")
     @GetMapping("/current")
+    @SparseFieldset(TravelingVisitResponse.FILTER)
     public ApiResponse<List<TravelingVisitResponse>> getCurrentVisits() {
         return ApiResponse.success(visitService.getCurrentVisits());
     }
 
     @Operation(summary = "유랑 방문 상세 조회", description = "특정 ID의 유랑 방문 기록을 조회합니다.")
     @GetMapping("/{id}")
+    @SparseFieldset(TravelingVisitResponse.FILTER)
     public ApiResponse<TravelingVisitResponse> getVisitById(@PathVariable Long id) {
         return ApiResponse.success(visitService.getVisitById(id));
     }
@@ -0,0 +1,20 @@
+package com.springboot.board.api.v1.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class SoulBatchRequest {
+
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@NotNull Integer> ids;
+}
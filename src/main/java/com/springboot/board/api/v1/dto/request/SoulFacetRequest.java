@@ -0,0 +1,39 @@
+package com.springboot.board.api.v1.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 영혼 패싯 필터 (GET 쿼리 파라미터, 없는 조건은 무시)
+ * 같은 항목의 여러 값은 OR (season=1,2), 항목끼리는 AND. keyword만 모든 값을 가진 영혼 (AND).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class SoulFacetRequest {
+
+    private List<Integer> season;      // 시즌 id
+    private Boolean seasonGuide;
+    private List<String> creator;
+    private Boolean visited;           // 유랑으로 온 적 있는지
+    private Boolean warband;           // 유랑단으로 온 적 있는지
+    @Min(0)
+    private Integer rerunMin;          // 방문 수 범위 (포함)
+    @Min(0)
+    private Integer rerunMax;
+    private List<String> keyword;
+
+    @Min(0)
+    private int page = 0;
+    @Min(1)
+    @Max(1000)
+    private int size = 20;
+    @Min(0)
+    @Max(200)
+    private int facetLimit = 20;       // creator/keyword 패싯 값 수 (많은 순)
+}
@@ -53,6 +53,7 @@ public class SoulUpdateRequest {
      */
     @Data
     public static class ImageInfo {
+        private Long id; // 업로드 응답의 이미지 id
         private String imageType;
         private String url;
     }
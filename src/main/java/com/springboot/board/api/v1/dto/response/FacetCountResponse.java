@@ -0,0 +1,12 @@
+package com.springboot.board.api.v1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class FacetCountResponse {
+    private String value;   // 필터에 그대로 넣는 값 (시즌은 id)
+    private String label;   // 표시용 이름
+    private int count;
+}
@@ -0,0 +1,11 @@
+package com.springboot.board.api.v1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class GapBucketResponse {
+    private String label;   // "0-89", ... "730+"
+    private long count;
+}
@@ -0,0 +1,18 @@
+package com.springboot.board.api.v1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class GapStatsResponse {
+    private long count;             // 간격 수 (방문 수 - 1 의 합)
+    private Double meanDays;        // 간격이 없으면 null
+    private Double varianceDays;    // 모분산
+    private Double stddevDays;
+    private Integer minDays;
+    private Integer maxDays;
+    private List<GapBucketResponse> histogram;
+}
@@ -1,10 +1,13 @@
 package com.springboot.board.api.v1.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.springboot.board.domain.entity.ImageEntity;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Getter
 @Builder
@@ -18,31 +21,71 @@ public class ImageResponse {
     private Long fileSize;
     private LocalDateTime uploadedAt;
 
+    // ✅ 반응형 이미지 (기존 데이터는 null)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer width;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer height;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String placeholder;  // LQIP data URI
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String thumbnailUrl;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, String> variants; // thumbnail / medium / full (단건 조회에서만)
+
+    /**
+     * 단건 응답 - 모든 변형 URL 포함
+     */
     public static ImageResponse fromEntity(ImageEntity img) {
+        return of(img, true);
+    }
+
+    /**
+     * 목록 응답 - 썸네일 URL만 포함
+     */
+    public static ImageResponse listItemFromEntity(ImageEntity img) {
+        return of(img, false);
+    }
+
+    public static java.util.List<ImageResponse> fromEntities(java.util.List<ImageEntity> entities) {
+        if (entities == null) {
+            return java.util.Collections.emptyList();
+        }
+        return entities.stream()
+                .map(ImageResponse::listItemFromEntity)
+                .collect(java.util.stream.Collectors.toList());
+    }
+
+    private static ImageResponse of(ImageEntity img, boolean withVariants) {
         if (img == null) {
             return null;
         }
 
         // ✅ Cloudinary URL은 이미 완전한 URL이므로 그대로 사용
         String url = img.getUrl();
+        String thumbnailUrl = img.getThumbnailUrl() != null ? img.getThumbnailUrl() : url;
+
+        Map<String, String> variants = null;
+        if (withVariants) {
+            variants = new LinkedHashMap<>();
+            variants.put("thumbnail", thumbnailUrl);
+            variants.put("medium", img.getMediumUrl() != null ? img.getMediumUrl() : url);
+            variants.put("full", url);
+        }
 
         return ImageResponse.builder()
                 .id(img.getId())
                 .soulId(img.getSoul() != null ? img.getSoul().getId() : null)
                 .imageType(img.getImageType())
-                .url(url) // Cloudinary URL 그대로 사용
+                .url(url) // 원본 URL 그대로 사용
                 .fileName(img.getFileName()) // public_id
                 .fileSize(img.getFileSize())
                 .uploadedAt(img.getUploadedAt())
+                .width(img.getWidth())
+                .height(img.getHeight())
+                .placeholder(img.getPlaceholder())
+                .thumbnailUrl(thumbnailUrl)
+                .variants(variants)
                 .build();
     }
-
-    public static java.util.List<ImageResponse> fromEntities(java.util.List<ImageEntity> entities) {
-        if (entities == null) {
-            return java.util.Collections.emptyList();
-        }
-        return entities.stream()
-                .map(ImageResponse::fromEntity)
-                .collect(java.util.stream.Collectors.toList());
-    }
-}
\ No newline at end of file
+}
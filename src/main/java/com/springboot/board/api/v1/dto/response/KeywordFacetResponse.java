@@ -0,0 +1,11 @@
+package com.springboot.board.api.v1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class KeywordFacetResponse {
+    private String keyword;
+    private int count; // 필터 결과 중 이 키워드를 가진 수
+}
@@ -0,0 +1,18 @@
+package com.springboot.board.api.v1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class KeywordFilterResponse {
+    private String query;
+    private String target;      // "souls" 또는 "items"
+    private int total;          // 조건에 맞는 전체 수
+    private int page;
+    private int size;
+    private List<Long> ids;     // id 오름차순, 이 페이지만 (내용은 /souls?ids= 로 조회)
+    private List<KeywordFacetResponse> facets;
+}
@@ -0,0 +1,13 @@
+package com.springboot.board.api.v1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class KeywordResponse {
+    private Integer id;
+    private String name;
+    private int soulCount;
+    private int itemCount;
+}
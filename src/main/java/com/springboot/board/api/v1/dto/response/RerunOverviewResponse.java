@@ -0,0 +1,15 @@
+package com.springboot.board.api.v1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class RerunOverviewResponse {
+    private int visitedSouls;
+    private int visitCount;
+    private GapStatsResponse gaps;
+    private LocalDateTime updatedAt;    // 마지막으로 집계가 반영된 시각
+}
@@ -0,0 +1,15 @@
+package com.springboot.board.api.v1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SeasonRerunStatsResponse {
+    private Integer seasonId;
+    private String seasonName;
+    private int visitedSouls;       // 유랑을 한 번 이상 온 영혼 수
+    private int visitCount;
+    private double visitsPerSoul;
+    private GapStatsResponse gaps;  // 소속 영혼들의 간격 전체
+}
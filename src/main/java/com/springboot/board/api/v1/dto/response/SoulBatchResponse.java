@@ -0,0 +1,13 @@
+package com.springboot.board.api.v1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class SoulBatchResponse {
+    private List<SoulResponse> souls;      // 요청한 id 순서
+    private List<Integer> missingIds;      // 존재하지 않는 id
+}
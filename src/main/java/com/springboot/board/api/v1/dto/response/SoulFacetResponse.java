@@ -0,0 +1,20 @@
+package com.springboot.board.api.v1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class SoulFacetResponse {
+    private int total;          // 조건에 맞는 영혼 수
+    private int page;
+    private int size;
+    private List<Integer> ids;  // 시즌 순서 → 영혼 순서, 이 페이지만 (내용은 /souls?ids= 로 조회)
+
+    // 항목(season, seasonGuide, creator, visited, warband, rerun, keyword) → 값별 건수
+    // 각 항목의 건수는 그 항목 조건만 뺀 나머지 조건 기준 (keyword는 결과 안의 건수)
+    private Map<String, List<FacetCountResponse>> facets;
+}
@@ -0,0 +1,19 @@
+package com.springboot.board.api.v1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class SoulRerunStatsResponse {
+    private Integer soulId;
+    private String soulName;
+    private Integer seasonId;
+    private String seasonName;
+    private int visitCount;
+    private LocalDate lastVisitDate;    // 마지막 유랑 종료일
+    private Integer lastGapDays;        // 가장 최근 두 방문 사이 간격 (방문 1회면 null)
+    private GapStatsResponse gaps;
+}
@@ -1,5 +1,6 @@
 package com.springboot.board.api.v1.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -8,7 +9,10 @@ import java.util.List;
 
 @Getter
 @Builder
+@JsonFilter(SoulResponse.FILTER)
 public class SoulResponse {
+    public static final String FILTER = "soulFields";
+
     private Integer id;
     
     // 시즌 정보
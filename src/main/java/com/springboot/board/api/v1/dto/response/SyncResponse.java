@@ -0,0 +1,24 @@
+package com.springboot.board.api.v1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class SyncResponse {
+    private String nextToken;   // 다음 요청의 since 값
+    private boolean full;       // true면 로컬 카탈로그를 통째로 교체 (첫 동기화, 만료/잘못된 토큰)
+
+    // since 이후 생성/수정된 행 (클라이언트는 id 기준 upsert)
+    private List<SeasonResponse> seasons;
+    private List<SoulResponse> souls;               // images/travelingVisits 제외
+    private List<TravelingVisitResponse> travelingVisits;
+    private List<ImageResponse> images;
+    private List<IAPItemResponse> iapItems;
+
+    // since 이후 삭제된 id (SEASON, SOUL, TRAVELING_VISIT, IMAGE, IAP_ITEM)
+    private Map<String, List<Long>> deleted;
+}
@@ -1,5 +1,6 @@
 package com.springboot.board.api.v1.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -7,8 +8,12 @@ import java.time.LocalDate;
 
 @Getter
 @Builder
+@JsonFilter(TravelingVisitResponse.FILTER)
 public class TravelingVisitResponse {
+    public static final String FILTER = "visitFields";
+
     private Long id;
+    private Integer soulId;
     private Integer visitNumber;
     private Integer globalOrder;
     private LocalDate startDate;
@@ -0,0 +1,123 @@
+package com.springboot.board.application.analytics;
+
+/**
+ * 재방문 간격(일) 집계 - 건수, 평균, 분산(M2), 최소/최대, 구간별 건수
+ * 불변이며 merge로 합친다 (평균/분산은 Chan의 병렬 합산식이라 원본 간격 없이 합쳐도 값이 같다).
+ */
+public final class GapStats {
+
+    // 구간 하한(일) - 마지막 구간은 상한 없음
+    static final int[] BUCKET_LOWER = {0, 90, 180, 270, 365, 545, 730};
+
+    public static final GapStats EMPTY = new GapStats(0, 0, 0, 0, 0, new long[BUCKET_LOWER.length]);
+
+    private final long count;
+    private final double mean;
+    private final double m2;   // 평균과의 차이 제곱합
+    private final int min;
+    private final int max;
+    private final long[] histogram;
+
+    private GapStats(long count, double mean, double m2, int min, int max, long[] histogram) {
+        this.count = count;
+        this.mean = mean;
+        this.m2 = m2;
+        this.min = min;
+        this.max = max;
+        this.histogram = histogram;
+    }
+
+    /**
+     * 간격 목록으로 생성 (Welford)
+     */
+    public static GapStats of(int[] gaps) {
+        if (gaps.length == 0) {
+            return EMPTY;
+        }
+        double mean = 0;
+        double m2 = 0;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        long[] histogram = new long[BUCKET_LOWER.length];
+        for (int i = 0; i < gaps.length; i++) {
+            int gap = gaps[i];
+            double delta = gap - mean;
+            mean += delta / (i + 1);
+            m2 += delta * (gap - mean);
+            min = Math.min(min, gap);
+            max = Math.max(max, gap);
+            histogram[bucket(gap)]++;
+        }
+        return new GapStats(gaps.length, mean, m2, min, max, histogram);
+    }
+
+    public GapStats merge(GapStats other) {
+        if (other.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            return other;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        long[] merged = new long[histogram.length];
+        for (int i = 0; i < merged.length; i++) {
+            merged[i] = histogram[i] + other.histogram[i];
+        }
+        return new GapStats(total,
+                mean + delta * other.count / total,
+                m2 + other.m2 + delta * delta * count * other.count / total,
+                Math.min(min, other.min),
+                Math.max(max, other.max),
+                merged);
+    }
+
+    static int bucket(int days) {
+        for (int i = BUCKET_LOWER.length - 1; i > 0; i--) {
+            if (days >= BUCKET_LOWER[i]) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * "0-89", "90-179", ... "730+"
+     */
+    public static String bucketLabel(int index) {
+        return index == BUCKET_LOWER.length - 1
+                ? BUCKET_LOWER[index] + "+"
+                : BUCKET_LOWER[index] + "-" + (BUCKET_LOWER[index + 1] - 1);
+    }
+
+    public static int bucketCount() {
+        return BUCKET_LOWER.length;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * 모분산 (간격이 없으면 0)
+     */
+    public double getVariance() {
+        return count == 0 ? 0 : m2 / count;
+    }
+
+    public Integer getMin() {
+        return count == 0 ? null : min;
+    }
+
+    public Integer getMax() {
+        return count == 0 ? null : max;
+    }
+
+    public long getBucket(int index) {
+        return histogram[index];
+    }
+}
@@ -0,0 +1,277 @@
+package com.springboot.board.application.analytics;
+
+import com.springboot.board.common.datasource.PrimaryReads;
+import com.springboot.board.common.datasource.ReplicationContext;
+import com.springboot.board.domain.entity.SyncTombstoneEntity;
+import com.springboot.board.domain.event.CatalogChangedEvent;
+import com.springboot.board.domain.event.TravelingVisitChangedEvent;
+import com.springboot.board.domain.repository.RerunVisitRow;
+import com.springboot.board.domain.repository.TravelingVisitRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 재방문 간격 통계 저장소 - 영혼별/시즌별/전체 집계를 메모리에 들고 있고 조회는 이 값만 읽는다.
+ * 간격은 같은 영혼의 연속한 두 유랑 시작일 사이의 일수.
+ * 기동 시 전체를 한 번 읽고, 이후에는 유랑이 바뀐 영혼만 다시 읽어 그 영혼 → 소속 시즌 → 전체 순으로 합친다.
+ * 변경은 커밋 후 이벤트로 모아 refresh-ms 마다 반영한다 (요청 스레드에서는 계산하지 않는다).
+ * 쿼리는 잠금 밖에서 하고 결과 반영만 잠금 안에서 한다 (가상 스레드가 쿼리 동안 캐리어를 붙잡지 않도록 synchronized 대신 ReentrantLock).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RerunStatsStore {
+
+    private static final int ID_CHUNK_SIZE = 500; // IN (...) 한 번에 넣는 id 수
+
+    public record SoulStats(Integer soulId, String soulName, Integer seasonId, String seasonName, Integer seasonOrder,
+                            int visitCount, LocalDate lastVisitDate, Integer lastGap, GapStats gaps) {
+    }
+
+    public record SeasonStats(Integer seasonId, String seasonName, Integer seasonOrder,
+                              int visitedSouls, int visitCount, GapStats gaps) {
+    }
+
+    public record Overview(int visitedSouls, int visitCount, GapStats gaps, LocalDateTime updatedAt) {
+    }
+
+    private final TravelingVisitRepository visitRepository;
+    private final PrimaryReads primaryReads;
+
+    private final Set<Integer> pendingSouls = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean reloadRequested = new AtomicBoolean();
+
+    // 읽기는 잠금 없이, 쓰기는 writeLock 안에서만
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private long applied; // writeLock 안에서 증분 반영 횟수 - 전체 다시 읽는 동안 끼어든 반영을 알아챈다
+    private final Map<Integer, SoulStats> souls = new ConcurrentHashMap<>();
+    private final Map<Integer, SeasonStats> seasons = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<Integer>> soulsBySeason = new HashMap<>();
+    private volatile Overview overview = new Overview(0, 0, GapStats.EMPTY, null);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVisitChanged(TravelingVisitChangedEvent event) {
+        pendingSouls.add(event.soulId());
+    }
+
+    /**
+     * 영혼 삭제(유랑 cascade)·시즌 이동·이름 변경은 TravelingVisitService를 거치지 않으므로 여기서 받는다
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (SyncTombstoneEntity.TYPE_SOUL.equals(event.entityType())) {
+            pendingSouls.add(event.entityId().intValue());
+        } else if (SyncTombstoneEntity.TYPE_SEASON.equals(event.entityType())) {
+            reloadRequested.set(true); // 시즌 이름/순서 변경 - 드물어서 전체를 다시 읽는다
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.refresh-ms:1000}")
+    public void refreshPending() {
+        if (reloadRequested.getAndSet(false)) {
+            pendingSouls.clear();
+            reload();
+            return;
+        }
+        List<Integer> soulIds = new ArrayList<>();
+        for (Integer soulId : List.copyOf(pendingSouls)) {
+            if (pendingSouls.remove(soulId)) {
+                soulIds.add(soulId);
+            }
+        }
+        for (int from = 0; from < soulIds.size(); from += ID_CHUNK_SIZE) {
+            List<Integer> chunk = soulIds.subList(from, Math.min(from + ID_CHUNK_SIZE, soulIds.size()));
+            List<RerunVisitRow> rows;
+            // 커밋 이벤트로 들어온 영혼이므로 replica 지연이 없는 primary에서 읽는다
+            try (ReplicationContext.Scope ignored = primaryReads.open()) {
+                rows = visitRepository.findRerunRowsBySoulIdIn(chunk);
+            }
+            refreshSouls(chunk, rows);
+        }
+    }
+
+    /**
+     * 전체 다시 읽기 - 새 값을 먼저 넣고 없어진 키를 지우므로 읽는 쪽에 빈 상태가 보이지 않는다
+     * 읽는 동안 다른 스레드가 증분 반영을 했다면 그 영혼은 이 결과보다 새로우므로 다음 주기에 한 번 더 읽는다.
+     */
+    public void reload() {
+        long started = System.currentTimeMillis();
+        long appliedBefore = appliedCount();
+        Map<Integer, List<RerunVisitRow>> rows;
+        try (ReplicationContext.Scope ignored = primaryReads.open()) {
+            rows = groupBySoul(visitRepository.findRerunRows());
+        }
+        writeLock.lock();
+        try {
+            if (applied != appliedBefore) {
+                reloadRequested.set(true);
+            }
+            Set<Integer> stale = new HashSet<>(souls.keySet());
+            stale.removeAll(rows.keySet());
+            refreshSouls(new ArrayList<>(stale), List.of());
+            refreshSouls(new ArrayList<>(rows.keySet()), rows.values().stream().flatMap(List::stream).toList());
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("Rerun statistics loaded - souls: {}, seasons: {}, gaps: {} ({} ms)",
+                souls.size(), seasons.size(), overview.gaps().getCount(), System.currentTimeMillis() - started);
+    }
+
+    // ========== 조회 (미리 계산된 값만) ==========
+
+    public Overview getOverview() {
+        return overview;
+    }
+
+    public Optional<SoulStats> getSoul(Integer soulId) {
+        return Optional.ofNullable(souls.get(soulId));
+    }
+
+    public Collection<SoulStats> getSouls() {
+        return souls.values();
+    }
+
+    public Collection<SeasonStats> getSeasons() {
+        return seasons.values();
+    }
+
+    // ========== 증분 반영 ==========
+
+    /**
+     * soulIds 영혼의 집계를 rows로 교체 (rows에 없는 영혼은 유랑이 없으므로 제거)
+     * 영향을 받은 시즌만 소속 영혼 집계를 다시 합치고, 전체는 시즌 집계를 합친다.
+     */
+    private void refreshSouls(Collection<Integer> soulIds, List<RerunVisitRow> rows) {
+        if (soulIds.isEmpty()) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            applySouls(soulIds, rows);
+            applied++;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private long appliedCount() {
+        writeLock.lock();
+        try {
+            return applied;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void applySouls(Collection<Integer> soulIds, List<RerunVisitRow> rows) {
+        Map<Integer, List<RerunVisitRow>> bySoul = groupBySoul(rows);
+        Set<Integer> touchedSeasons = new HashSet<>();
+        for (Integer soulId : soulIds) {
+            SoulStats previous = souls.get(soulId);
+            if (previous != null) {
+                touchedSeasons.add(previous.seasonId());
+                Set<Integer> members = soulsBySeason.get(previous.seasonId());
+                if (members != null) {
+                    members.remove(soulId);
+                }
+            }
+
+            List<RerunVisitRow> visits = bySoul.get(soulId);
+            if (visits == null || visits.isEmpty()) {
+                souls.remove(soulId);
+                continue;
+            }
+            SoulStats current = toSoulStats(visits);
+            souls.put(soulId, current);
+            soulsBySeason.computeIfAbsent(current.seasonId(), id -> new HashSet<>()).add(soulId);
+            touchedSeasons.add(current.seasonId());
+        }
+
+        touchedSeasons.forEach(this::recomputeSeason);
+        recomputeOverview();
+    }
+
+    private void recomputeSeason(Integer seasonId) {
+        Set<Integer> members = soulsBySeason.get(seasonId);
+        if (members == null || members.isEmpty()) {
+            soulsBySeason.remove(seasonId);
+            seasons.remove(seasonId);
+            return;
+        }
+        GapStats gaps = GapStats.EMPTY;
+        int visitCount = 0;
+        SoulStats any = null;
+        for (Integer soulId : members) {
+            SoulStats soul = souls.get(soulId);
+            gaps = gaps.merge(soul.gaps());
+            visitCount += soul.visitCount();
+            any = soul;
+        }
+        seasons.put(seasonId, new SeasonStats(seasonId, any.seasonName(), any.seasonOrder(),
+                members.size(), visitCount, gaps));
+    }
+
+    private void recomputeOverview() {
+        GapStats gaps = GapStats.EMPTY;
+        int visitedSouls = 0;
+        int visitCount = 0;
+        for (SeasonStats season : seasons.values()) {
+            gaps = gaps.merge(season.gaps());
+            visitedSouls += season.visitedSouls();
+            visitCount += season.visitCount();
+        }
+        overview = new Overview(visitedSouls, visitCount, gaps, LocalDateTime.now());
+    }
+
+    private static SoulStats toSoulStats(List<RerunVisitRow> visits) {
+        List<RerunVisitRow> sorted = visits.stream()
+                .sorted(Comparator.comparing(RerunVisitRow::startDate))
+                .toList();
+        int[] gaps = new int[sorted.size() - 1];
+        for (int i = 1; i < sorted.size(); i++) {
+            gaps[i - 1] = (int) ChronoUnit.DAYS.between(sorted.get(i - 1).startDate(), sorted.get(i).startDate());
+        }
+        LocalDate lastVisitDate = sorted.stream()
+                .map(RerunVisitRow::endDate)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        RerunVisitRow latest = sorted.get(sorted.size() - 1);
+        return new SoulStats(latest.soulId(), latest.soulName(), latest.seasonId(), latest.seasonName(),
+                latest.seasonOrder(), sorted.size(), lastVisitDate,
+                gaps.length > 0 ? gaps[gaps.length - 1] : null, GapStats.of(gaps));
+    }
+
+    private static Map<Integer, List<RerunVisitRow>> groupBySoul(List<RerunVisitRow> rows) {
+        Map<Integer, List<RerunVisitRow>> bySoul = new HashMap<>();
+        for (RerunVisitRow row : rows) {
+            bySoul.computeIfAbsent(row.soulId(), id -> new ArrayList<>()).add(row);
+        }
+        return bySoul;
+    }
+}
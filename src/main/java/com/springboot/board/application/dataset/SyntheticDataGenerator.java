@@ -0,0 +1,452 @@
+package com.springboot.board.application.dataset;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 규모 테스트용 가짜 데이터 생성기 (synthetic-data 프로필에서만 실행)
+ * 실제 데이터(시즌 약 28개, 영혼 약 300개)를 기준으로 scale배 만큼 시즌/영혼/키워드/이미지/유랑/IAP를 넣는다.
+ * JPA를 거치지 않고 JdbcTemplate 배치 INSERT로 넣는다. MySQL은 URL에 rewriteBatchedStatements=true를 권장한다.
+ *
+ * 유랑은 실제처럼 2주 간격 4일짜리 슬롯으로 만들고, 같은 영혼은 min-rerun-gap-days 이후에만 다시 온다.
+ * 일부 슬롯은 같은 시즌 영혼 여럿이 함께 오는 유랑단(warband)이다. scale만큼 슬롯 줄(lane)을 병렬로 둔다.
+ *
+ * 예) java -jar board.jar --spring.profiles.active=synthetic-data --app.synthetic-data.scale=100
+ */
+@Slf4j
+@Component
+@Profile("synthetic-data")
+public class SyntheticDataGenerator implements ApplicationRunner {
+
+    private static final LocalDate EPOCH = LocalDate.of(2019, 7, 15);
+    private static final int BASE_SEASONS = 28;
+    private static final int BASE_SOULS = 300;
+    private static final int VISIT_INTERVAL_DAYS = 14;
+    private static final int VISIT_LENGTH_DAYS = 4;
+
+    private static final String[] IMAGE_TYPES = {"REPRESENTATIVE", "LOCATION", "NODE_CHART", "EMOTE"};
+    private static final String[] IAP_CATEGORIES = {"뿔", "꼬리", "가면", "케이프", "헤어", "소품"};
+    private static final String[] PURCHASE_TYPES = {"PAID", "CANDLE", "BOTH"};
+    private static final String[] KEYWORDS = {
+            "빛", "어둠", "바다", "숲", "사막", "하늘", "음악", "춤", "우정", "모험",
+            "기억", "별", "꿈", "비", "눈", "불", "바람", "정원", "성", "도서관"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ConfigurableApplicationContext applicationContext;
+
+    private final double scale;
+    private final int batchSize;
+    private final long seed;
+    private final int minRerunGapDays;
+    private final double warbandRate;
+    private final int iapPerSeason;
+    private final boolean truncate;
+    private final boolean exitWhenDone;
+
+    private final Timestamp generatedAt = Timestamp.valueOf(LocalDateTime.now()); // created_date/modified_date
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  ConfigurableApplicationContext applicationContext,
+                                  @Value("${app.synthetic-data.scale:10}") double scale,
+                                  @Value("${app.synthetic-data.batch-size:1000}") int batchSize,
+                                  @Value("${app.synthetic-data.seed:42}") long seed,
+                                  @Value("${app.synthetic-data.min-rerun-gap-days:180}") int minRerunGapDays,
+                                  @Value("${app.synthetic-data.warband-rate:0.08}") double warbandRate,
+                                  @Value("${app.synthetic-data.iap-per-season:8}") int iapPerSeason,
+                                  @Value("${app.synthetic-data.truncate:false}") boolean truncate,
+                                  @Value("${app.synthetic-data.exit-when-done:true}") boolean exitWhenDone) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.applicationContext = applicationContext;
+        this.scale = scale;
+        this.batchSize = batchSize;
+        this.seed = seed;
+        this.minRerunGapDays = minRerunGapDays;
+        this.warbandRate = warbandRate;
+        this.iapPerSeason = iapPerSeason;
+        this.truncate = truncate;
+        this.exitWhenDone = exitWhenDone;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.currentTimeMillis();
+        prepareTables();
+
+        Random random = new Random(seed);
+        int seasonCount = Math.max(1, (int) Math.round(BASE_SEASONS * scale));
+        int soulCount = Math.max(seasonCount, (int) Math.round(BASE_SOULS * scale));
+        int lanes = Math.max(1, (int) Math.round(scale));
+
+        List<Season> seasons = planSeasons(seasonCount, lanes);
+        List<Soul> souls = planSouls(seasons, soulCount, random);
+        List<Visit> visits = planVisits(souls, lanes, random);
+
+        Map<String, Integer> keywordIds = insertKeywords();
+        int seasonRows = insertSeasons(seasons);
+        int soulRows = insertSouls(souls, keywordIds, random);
+        int visitRows = insertVisits(visits);
+        int iapRows = insertIapItems(seasons, keywordIds, random);
+        restartIdentities();
+
+        log.info("Synthetic data generated - scale: {}, seasons: {}, souls: {}, visits: {}, iap items: {} ({} ms)",
+                scale, seasonRows, soulRows, visitRows, iapRows, System.currentTimeMillis() - started);
+
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+
+    // ========== 계획 (메모리) ==========
+
+    /**
+     * 시즌은 시간순으로 겹치지 않게 배치 (scale이 커지면 간격을 좁힌다)
+     */
+    private List<Season> planSeasons(int seasonCount, int lanes) {
+        long spacing = Math.max(1, 90 / lanes);
+        List<Season> seasons = new ArrayList<>(seasonCount);
+        for (int i = 0; i < seasonCount; i++) {
+            LocalDate start = EPOCH.plusDays(i * spacing);
+            seasons.add(new Season(i + 1, start, start.plusDays(70)));
+        }
+        return seasons;
+    }
+
+    private List<Soul> planSouls(List<Season> seasons, int soulCount, Random random) {
+        List<Soul> souls = new ArrayList<>(soulCount);
+        int[] orderInSeason = new int[seasons.size()];
+        for (int i = 0; i < soulCount; i++) {
+            // 앞쪽 시즌은 영혼이 조금 더 많다 (초기 시즌 8명, 최근 시즌 4~6명 정도)
+            Season season = i < seasons.size()
+                    ? seasons.get(i)
+                    : seasons.get((int) (Math.pow(random.nextDouble(), 1.3) * seasons.size()));
+            Soul soul = new Soul(i + 1, season, ++orderInSeason[season.index - 1]);
+            souls.add(soul);
+        }
+        return souls;
+    }
+
+    /**
+     * 2주마다 유랑 슬롯을 열고, 재방문 간격을 만족하는 영혼을 고른다.
+     * 슬롯을 시간순으로 돌기 때문에 globalOrder가 실제처럼 시간순으로 증가한다.
+     */
+    private List<Visit> planVisits(List<Soul> souls, int lanes, Random random) {
+        List<Visit> visits = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        int globalOrder = 0;
+
+        for (LocalDate slot = EPOCH.plusDays(180); !slot.isAfter(today); slot = slot.plusDays(VISIT_INTERVAL_DAYS)) {
+            for (int lane = 0; lane < lanes; lane++) {
+                LocalDate start = slot;
+                LocalDate end = slot.plusDays(VISIT_LENGTH_DAYS);
+
+                Soul first = pickEligible(souls, start, random);
+                if (first == null) {
+                    continue;
+                }
+                globalOrder++;
+
+                List<Soul> group = new ArrayList<>(List.of(first));
+                boolean warband = random.nextDouble() < warbandRate;
+                if (warband) {
+                    int extra = 2 + random.nextInt(4);
+                    for (Soul candidate : souls) {
+                        if (group.size() > extra) {
+                            break;
+                        }
+                        if (candidate != first && candidate.season == first.season && candidate.isEligible(start, minRerunGapDays)) {
+                            group.add(candidate);
+                        }
+                    }
+                    warband = group.size() > 1;
+                }
+
+                for (Soul soul : group) {
+                    soul.visitCount++;
+                    soul.lastVisitEnd = end;
+                    visits.add(new Visit(soul, soul.visitCount, globalOrder, start, end, warband));
+                }
+            }
+        }
+        return visits;
+    }
+
+    private Soul pickEligible(List<Soul> souls, LocalDate start, Random random) {
+        for (int attempt = 0; attempt < 32; attempt++) {
+            Soul candidate = souls.get(random.nextInt(souls.size()));
+            if (candidate.isEligible(start, minRerunGapDays)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    // ========== 배치 INSERT ==========
+
+    /**
+     * 생성에 쓰는 키워드를 사전에 먼저 넣고 이름 → id (이미 있는 키워드는 그대로 쓴다)
+     */
+    private Map<String, Integer> insertKeywords() {
+        Map<String, Integer> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM keyword",
+                (RowCallbackHandler) rs -> ids.put(rs.getString("name"), rs.getInt("id")));
+
+        Set<String> names = new LinkedHashSet<>(List.of(IAP_CATEGORIES));
+        names.addAll(List.of(KEYWORDS));
+        for (String keyword : KEYWORDS) {
+            for (int i = 0; i < 100; i++) {
+                names.add(keyword + i);
+            }
+        }
+
+        BatchInserter inserter = new BatchInserter("INSERT INTO keyword (id, name) VALUES (?, ?)");
+        int id = (int) nextId("keyword");
+        for (String name : names) {
+            if (!ids.containsKey(name)) {
+                inserter.add(id, name);
+                ids.put(name, id++);
+            }
+        }
+        inserter.finish();
+        return ids;
+    }
+
+    private int insertSeasons(List<Season> seasons) {
+        BatchInserter inserter = new BatchInserter(
+                "INSERT INTO season (id, name, order_num, start_date, end_date, color, is_collaboration, created_date, modified_date) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        for (Season season : seasons) {
+            inserter.add(season.id, "합성 시즌 " + season.index, season.orderNum, Date.valueOf(season.start),
+                    Date.valueOf(season.end), String.format("#%06X", season.index * 2654435761L & 0xFFFFFF),
+                    season.index % 15 == 0, generatedAt, generatedAt);
+        }
+        return inserter.finish();
+    }
+
+    private int insertSouls(List<Soul> souls, Map<String, Integer> keywordIds, Random random) {
+        BatchInserter soulInserter = new BatchInserter(
+                "INSERT INTO soul (id, season_id, season_name, name, order_num, start_date, end_date, rerun_count, "
+                        + "creator, description, is_season_guide, created_date, modified_date) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        BatchInserter keywordInserter = new BatchInserter(
+                "INSERT INTO soul_keyword (soul_id, keyword_order, keyword_id) VALUES (?, ?, ?)");
+        BatchInserter imageInserter = new BatchInserter(
+                "INSERT INTO soul_image (id, soul_id, image_type, file_name, url, thumbnail_url, medium_url, "
+                        + "file_size, width, height, uploaded_at, created_date, modified_date) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+
+        long imageId = nextId("soul_image");
+        for (Soul soul : souls) {
+            soulInserter.add(soul.id, soul.season.id, "합성 시즌 " + soul.season.index,
+                    "합성 영혼 " + soul.season.index + "-" + soul.orderInSeason, soul.orderInSeason,
+                    Date.valueOf(soul.season.start), Date.valueOf(soul.season.end), soul.visitCount,
+                    "creator" + random.nextInt(50), "규모 테스트용 영혼 #" + soul.id, soul.orderInSeason == 1,
+                    generatedAt, generatedAt);
+
+            // 같은 키워드가 두 번 뽑히면 한 번만 (조인 테이블에 중복 없음)
+            int keywords = 2 + random.nextInt(5);
+            Set<Integer> soulKeywords = new LinkedHashSet<>();
+            for (int k = 0; k < keywords; k++) {
+                soulKeywords.add(keywordIds.get(KEYWORDS[random.nextInt(KEYWORDS.length)] + random.nextInt(100)));
+            }
+            int order = 0;
+            for (Integer keywordId : soulKeywords) {
+                keywordInserter.add(soul.id, order++, keywordId);
+            }
+
+            int images = 2 + random.nextInt(IMAGE_TYPES.length - 1);
+            for (int i = 0; i < images; i++, imageId++) {
+                String key = "synthetic/" + soul.id + "/" + imageId;
+                imageInserter.add(imageId, soul.id, IMAGE_TYPES[i], key,
+                        "https://res.cloudinary.com/synthetic/image/upload/v1/" + key + ".jpg",
+                        "https://res.cloudinary.com/synthetic/image/upload/c_limit,w_320/v1/" + key + ".jpg",
+                        "https://res.cloudinary.com/synthetic/image/upload/c_limit,w_960/v1/" + key + ".jpg",
+                        120_000L + random.nextInt(400_000), 1600, 900,
+                        Timestamp.valueOf(LocalDateTime.of(soul.season.start, LocalTime.NOON)), generatedAt, generatedAt);
+            }
+        }
+        int rows = soulInserter.finish();
+        keywordInserter.finish();
+        imageInserter.finish();
+        return rows;
+    }
+
+    private int insertVisits(List<Visit> visits) {
+        BatchInserter inserter = new BatchInserter(
+                "INSERT INTO traveling_visit (id, soul_id, visit_number, global_order, start_date, end_date, is_warband_visit, "
+                        + "created_date, modified_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        long id = nextId("traveling_visit");
+        for (Visit visit : visits) {
+            inserter.add(id++, visit.soul.id, visit.visitNumber, visit.globalOrder,
+                    Date.valueOf(visit.start), Date.valueOf(visit.end), visit.warband, generatedAt, generatedAt);
+        }
+        return inserter.finish();
+    }
+
+    private int insertIapItems(List<Season> seasons, Map<String, Integer> keywordIds, Random random) {
+        BatchInserter itemInserter = new BatchInserter(
+                "INSERT INTO iap_item (id, season_id, name, category, purchase_type, price_info, image_url, "
+                        + "created_date, modified_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        BatchInserter keywordInserter = new BatchInserter(
+                "INSERT INTO iap_item_keyword (iap_item_id, keyword_order, keyword_id) VALUES (?, ?, ?)");
+
+        long id = nextId("iap_item");
+        for (Season season : seasons) {
+            for (int i = 0; i < iapPerSeason; i++, id++) {
+                String category = IAP_CATEGORIES[random.nextInt(IAP_CATEGORIES.length)];
+                String purchaseType = PURCHASE_TYPES[random.nextInt(PURCHASE_TYPES.length)];
+                itemInserter.add(id, season.id, "합성 " + category + " " + season.index + "-" + (i + 1), category,
+                        purchaseType, "CANDLE".equals(purchaseType) ? (30 + random.nextInt(90)) + " 양초" : "$9.99",
+                        "https://res.cloudinary.com/synthetic/image/upload/v1/iap/" + id + ".png",
+                        generatedAt, generatedAt);
+                keywordInserter.add(id, 0, keywordIds.get(category));
+                keywordInserter.add(id, 1, keywordIds.get(KEYWORDS[random.nextInt(KEYWORDS.length)]));
+            }
+        }
+        int rows = itemInserter.finish();
+        keywordInserter.finish();
+        return rows;
+    }
+
+    // ========== 테이블 준비 ==========
+
+    /**
+     * 기존 데이터가 있으면 truncate=true일 때만 비우고, 아니면 중단한다 (운영 DB 보호).
+     * 시즌/영혼 id와 순서를 1부터 쓰기 때문에 두 테이블이 비어 있어야 한다.
+     */
+    private void prepareTables() {
+        Integer seasons = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM season", Integer.class);
+        Integer souls = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM soul", Integer.class);
+        if ((seasons != null && seasons > 0) || (souls != null && souls > 0)) {
+            if (!truncate) {
+                throw new IllegalStateException("시즌/영혼 데이터가 이미 있습니다. 비우고 생성하려면 app.synthetic-data.truncate=true");
+            }
+            log.warn("Deleting existing catalog data ({} seasons, {} souls)", seasons, souls);
+            for (String table : List.of("iap_item_keyword", "iap_item", "soul_keyword", "soul_image",
+                    "traveling_visit", "soul", "season")) {
+                jdbcTemplate.update("DELETE FROM " + table);
+            }
+        }
+    }
+
+    private long nextId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max == null ? 1 : max + 1;
+    }
+
+    /**
+     * id를 직접 넣었으므로 H2는 identity 시작값을 옮겨야 한다 (MySQL AUTO_INCREMENT는 자동으로 따라온다)
+     */
+    private void restartIdentities() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"H2".equals(product)) {
+            return;
+        }
+        for (String table : List.of("season", "soul", "soul_image", "traveling_visit", "iap_item", "keyword")) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + nextId(table));
+        }
+    }
+
+    /**
+     * batch-size 행마다 한 번에 보내고 커밋한다 (전체를 메모리에 쌓지 않음)
+     */
+    private class BatchInserter {
+        private final String sql;
+        private final List<Object[]> buffer = new ArrayList<>();
+        private int rows;
+
+        BatchInserter(String sql) {
+            this.sql = sql;
+        }
+
+        void add(Object... values) {
+            buffer.add(values);
+            if (buffer.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        int finish() {
+            flush();
+            return rows;
+        }
+
+        private void flush() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, buffer));
+            rows += buffer.size();
+            buffer.clear();
+        }
+    }
+
+    private static class Season {
+        private final int id;
+        private final int index;
+        private final int orderNum;
+        private final LocalDate start;
+        private final LocalDate end;
+
+        Season(int index, LocalDate start, LocalDate end) {
+            this.id = index;
+            this.index = index;
+            this.orderNum = index;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private static class Soul {
+        private final int id;
+        private final Season season;
+        private final int orderInSeason;
+        private int visitCount;
+        private LocalDate lastVisitEnd;
+
+        Soul(int id, Season season, int orderInSeason) {
+            this.id = id;
+            this.season = season;
+            this.orderInSeason = orderInSeason;
+        }
+
+        /**
+         * 시즌 종료 후 일정 기간이 지났고, 마지막 방문 후 재방문 간격을 넘겼는지
+         */
+        boolean isEligible(LocalDate start, int minGapDays) {
+            LocalDate since = lastVisitEnd != null ? lastVisitEnd : season.end;
+            return ChronoUnit.DAYS.between(since, start) >= minGapDays;
+        }
+    }
+
+    private record Visit(Soul soul, int visitNumber, int globalOrder, LocalDate start, LocalDate end, boolean warband) {
+    }
+}
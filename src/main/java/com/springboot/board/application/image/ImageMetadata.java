@@ -0,0 +1,27 @@
+package com.springboot.board.application.image;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * 업로드 시 추출한 이미지 정보
+ * 디코딩할 수 없는 형식(webp 등)이면 image와 크기 정보가 비어 있다.
+ */
+@Getter
+@Builder
+public class ImageMetadata {
+    private final BufferedImage image;
+    private final Integer width;
+    private final Integer height;
+    private final String placeholder; // LQIP data URI (data:image/jpeg;base64,...)
+
+    public static ImageMetadata empty() {
+        return ImageMetadata.builder().build();
+    }
+
+    public boolean isDecoded() {
+        return image != null;
+    }
+}
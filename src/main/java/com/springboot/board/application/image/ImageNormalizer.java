@@ -0,0 +1,123 @@
+package com.springboot.board.application.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 업로드 전 정규화 - 디코딩 → 이미지 타입별 최대 크기로 축소 → 재인코딩(메타데이터 제거)
+ * 화면에 1600px 이상으로 표시되지 않으므로 원본 스크린샷을 그대로 올리지 않는다.
+ * 움직이는 GIF는 재인코딩하면 첫 프레임만 남으므로 원본 그대로 둔다 (크기/LQIP는 첫 프레임 기준).
+ */
+@Slf4j
+@Component
+public class ImageNormalizer {
+
+    private final ImageProcessor imageProcessor;
+    private final boolean enabled;
+    private final int defaultMaxDimension;
+    private final Map<String, Integer> typeMaxDimensions;
+    private final Set<String> losslessTypes;
+    private final float jpegQuality;
+
+    public ImageNormalizer(ImageProcessor imageProcessor,
+                           @Value("${app.image-normalize.enabled:true}") boolean enabled,
+                           @Value("${app.image-normalize.max-dimension:1600}") int defaultMaxDimension,
+                           @Value("${app.image-normalize.type-max-dimensions:NODE_CHART=3200}") String typeMaxDimensions,
+                           @Value("${app.image-normalize.lossless-types:NODE_CHART}") String losslessTypes,
+                           @Value("${app.image-normalize.jpeg-quality:0.85}") float jpegQuality) {
+        this.imageProcessor = imageProcessor;
+        this.enabled = enabled;
+        this.defaultMaxDimension = defaultMaxDimension;
+        this.typeMaxDimensions = parseDimensions(typeMaxDimensions);
+        this.losslessTypes = Arrays.stream(losslessTypes.split(","))
+                .map(String::trim)
+                .filter(type -> !type.isEmpty())
+                .map(type -> type.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        this.jpegQuality = jpegQuality;
+    }
+
+    /**
+     * 정규화 - 디코딩 실패, 비활성화, 움직이는 GIF면 원본 그대로 반환
+     * 축소/회전이 필요 없는데 재인코딩 결과가 더 크면(이미 최적화된 PNG 등) 원본을 유지한다.
+     * 해상도가 max-pixels를 넘으면 디코딩 전에 IllegalArgumentException.
+     */
+    public NormalizedImage normalize(byte[] content, String contentType, String imageType) {
+        BufferedImage decoded = imageProcessor.decode(content);
+        NormalizedImage original = NormalizedImage.builder()
+                .content(content)
+                .contentType(contentType)
+                .image(decoded)
+                .originalSize(content.length)
+                .transformed(false)
+                .build();
+        if (!enabled || decoded == null) {
+            return original;
+        }
+        if (imageProcessor.isAnimated(content)) {
+            log.info("Animated GIF kept as uploaded - {}x{}, {} bytes", decoded.getWidth(), decoded.getHeight(),
+                    content.length);
+            return original;
+        }
+        // EXIF 방향은 decode에서 픽셀에 반영됐으므로 원본(EXIF 포함)이 아니라 재인코딩본을 써야 한다
+        boolean reoriented = imageProcessor.exifOrientation(content) > 1;
+
+        String type = imageType == null ? "" : imageType.trim().toUpperCase(Locale.ROOT);
+        int maxDimension = typeMaxDimensions.getOrDefault(type, defaultMaxDimension);
+        BufferedImage resized = imageProcessor.resize(decoded, maxDimension);
+        boolean downscaled = resized != decoded;
+
+        // 투명도가 있거나 글자가 많은 타입은 PNG, 나머지는 JPEG
+        boolean lossless = imageProcessor.hasAlpha(resized) || losslessTypes.contains(type);
+        String format = lossless ? "png" : "jpg";
+
+        byte[] encoded;
+        try {
+            encoded = imageProcessor.encode(resized, format, jpegQuality);
+        } catch (IOException e) {
+            log.warn("Image normalization failed, keeping original: {}", e.getMessage());
+            return original;
+        }
+
+        if (!downscaled && !reoriented && encoded.length >= content.length) {
+            return original;
+        }
+
+        log.info("Image normalized - type: {}, {}x{} -> {}x{}, {} -> {} bytes",
+                type, decoded.getWidth(), decoded.getHeight(), resized.getWidth(), resized.getHeight(),
+                content.length, encoded.length);
+
+        return NormalizedImage.builder()
+                .content(encoded)
+                .contentType(lossless ? "image/png" : "image/jpeg")
+                .image(resized)
+                .originalSize(content.length)
+                .transformed(true)
+                .build();
+    }
+
+    /**
+     * "NODE_CHART=3200,MAP=2400" 형식 파싱
+     */
+    private static Map<String, Integer> parseDimensions(String value) {
+        Map<String, Integer> dimensions = new HashMap<>();
+        for (String entry : value.split(",")) {
+            int eq = entry.indexOf('=');
+            if (eq > 0) {
+                dimensions.put(entry.substring(0, eq).trim().toUpperCase(Locale.ROOT),
+                        Integer.parseInt(entry.substring(eq + 1).trim()));
+            }
+        }
+        return dimensions;
+    }
+}
@@ -0,0 +1,312 @@
+package com.springboot.board.application.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
+
+/**
+ * 업로드 이미지 분석/리사이즈 (javax.imageio)
+ */
+@Slf4j
+@Component
+public class ImageProcessor {
+
+    private static final int PLACEHOLDER_SIZE = 16;      // LQIP 최대 변 길이(px)
+    private static final float PLACEHOLDER_QUALITY = 0.5f;
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+
+    private final long maxPixels;
+
+    public ImageProcessor(@Value("${app.image-normalize.max-pixels:40000000}") long maxPixels) {
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * 디코딩 - ImageIO가 지원하지 않는 형식(webp 등)이거나 손상된 파일이면 null
+     * 헤더의 가로/세로를 먼저 읽어 max-pixels를 넘으면 디코딩하지 않고 거부한다 (압축 폭탄).
+     * JPEG의 EXIF 방향은 픽셀에 반영한다 (재인코딩하면 EXIF가 빠지므로).
+     */
+    public BufferedImage decode(byte[] content) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new IllegalArgumentException("이미지 해상도가 너무 큽니다. 최대 " + maxPixels + "픽셀까지 허용됩니다.");
+                }
+                return orient(reader.read(0), exifOrientation(content));
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            log.warn("Image decode failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 프레임이 둘 이상인 GIF 여부 (프레임 데이터는 풀지 않고 블록만 건너뛴다)
+     */
+    public boolean isAnimated(byte[] content) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                return false;
+            }
+            ImageReader reader = readers.next();
+            try {
+                if (!"gif".equalsIgnoreCase(reader.getFormatName())) {
+                    return false;
+                }
+                reader.setInput(input, false, true);
+                return reader.getNumImages(true) > 1;
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * JPEG APP1(Exif) 0번 IFD의 Orientation 값 (1~8, 없거나 JPEG가 아니면 1)
+     */
+    public int exifOrientation(byte[] content) {
+        if (content.length < 4 || (content[0] & 0xFF) != 0xFF || (content[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+        int pos = 2;
+        while (pos + 4 <= content.length && (content[pos] & 0xFF) == 0xFF) {
+            int marker = content[pos + 1] & 0xFF;
+            if (marker == 0xDA || marker == 0xD9) {
+                break; // 이미지 데이터 시작 - 메타데이터는 그 앞에만 있다
+            }
+            int length = readUnsigned(content, pos + 2, 2, false);
+            int segmentEnd = Math.min(content.length, pos + 2 + length);
+            int tiff = pos + 4 + EXIF_HEADER.length;
+            if (marker == 0xE1 && tiff <= segmentEnd
+                    && Arrays.equals(content, pos + 4, tiff, EXIF_HEADER, 0, EXIF_HEADER.length)) {
+                return tiffOrientation(content, tiff, segmentEnd);
+            }
+            if (length < 2) {
+                break;
+            }
+            pos += 2 + length;
+        }
+        return 1;
+    }
+
+    /**
+     * 크기와 LQIP 자리표시 이미지 추출
+     */
+    public ImageMetadata analyze(byte[] content) {
+        return analyze(decode(content));
+    }
+
+    /**
+     * 이미 디코딩한 이미지에서 크기와 LQIP 추출
+     */
+    public ImageMetadata analyze(BufferedImage image) {
+        if (image == null) {
+            return ImageMetadata.empty();
+        }
+
+        String placeholder = null;
+        try {
+            byte[] tiny = encode(resize(image, PLACEHOLDER_SIZE), "jpg", PLACEHOLDER_QUALITY);
+            placeholder = "data:image/jpeg;base64," + Base64.getEncoder().encodeToString(tiny);
+        } catch (IOException e) {
+            log.warn("Placeholder generation failed: {}", e.getMessage());
+        }
+
+        return ImageMetadata.builder()
+                .image(image)
+                .width(image.getWidth())
+                .height(image.getHeight())
+                .placeholder(placeholder)
+                .build();
+    }
+
+    /**
+     * 긴 변이 maxDimension 이하가 되도록 축소 (확대하지 않음)
+     */
+    public BufferedImage resize(BufferedImage source, int maxDimension) {
+        int longest = Math.max(source.getWidth(), source.getHeight());
+        if (longest <= maxDimension) {
+            return source;
+        }
+        return scale(source, (double) maxDimension / longest);
+    }
+
+    /**
+     * 가로만 maxWidth 이하가 되도록 축소 (Cloudinary c_limit,w_N과 같은 결과, 확대하지 않음)
+     */
+    public BufferedImage resizeToWidth(BufferedImage source, int maxWidth) {
+        if (source.getWidth() <= maxWidth) {
+            return source;
+        }
+        return scale(source, (double) maxWidth / source.getWidth());
+    }
+
+    /**
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 줄인다.
+     */
+    private BufferedImage scale(BufferedImage source, double scale) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+        int type = hasAlpha(source) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        int currentWidth = width;
+        int currentHeight = height;
+        do {
+            currentWidth = Math.max(targetWidth, currentWidth / 2);
+            currentHeight = Math.max(targetHeight, currentHeight / 2);
+
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight, type);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+
+        return current;
+    }
+
+    /**
+     * 인코딩 (jpg는 quality 적용, 알파 채널은 제거)
+     * 새로 인코딩하므로 EXIF 등 원본 메타데이터는 포함되지 않는다.
+     */
+    public byte[] encode(BufferedImage image, String format, float quality) throws IOException {
+        BufferedImage target = image;
+        if ("jpg".equals(format) && hasAlpha(image)) {
+            target = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = target.createGraphics();
+            try {
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, image.getWidth(), image.getHeight());
+                g.drawImage(image, 0, 0, null);
+            } finally {
+                g.dispose();
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if ("jpg".equals(format)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(quality);
+            }
+            writer.write(null, new IIOImage(target, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    public boolean hasAlpha(BufferedImage image) {
+        return image.getColorModel().hasAlpha();
+    }
+
+    /**
+     * EXIF 방향대로 뒤집기/회전 (5~8은 가로/세로가 바뀐다)
+     */
+    private BufferedImage orient(BufferedImage image, int orientation) {
+        if (image == null || orientation <= 1 || orientation > 8) {
+            return image;
+        }
+        int w = image.getWidth();
+        int h = image.getHeight();
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> { transform.translate(w, 0); transform.scale(-1, 1); }
+            case 3 -> { transform.translate(w, h); transform.rotate(Math.PI); }
+            case 4 -> { transform.translate(0, h); transform.scale(1, -1); }
+            case 5 -> { transform.rotate(Math.PI / 2); transform.scale(1, -1); }
+            case 6 -> { transform.translate(h, 0); transform.rotate(Math.PI / 2); }
+            case 7 -> { transform.translate(h, w); transform.rotate(-Math.PI / 2); transform.scale(1, -1); }
+            default -> { transform.translate(0, w); transform.rotate(-Math.PI / 2); }
+        }
+        boolean swap = orientation >= 5;
+        BufferedImage oriented = new BufferedImage(swap ? h : w, swap ? w : h,
+                hasAlpha(image) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = oriented.createGraphics();
+        try {
+            g.drawImage(image, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return oriented;
+    }
+
+    private static int tiffOrientation(byte[] content, int tiff, int end) {
+        if (tiff + 8 > end) {
+            return 1;
+        }
+        boolean littleEndian = content[tiff] == 'I' && content[tiff + 1] == 'I';
+        if (!littleEndian && !(content[tiff] == 'M' && content[tiff + 1] == 'M')) {
+            return 1;
+        }
+        long ifd = tiff + (readUnsigned(content, tiff + 4, 4, littleEndian) & 0xFFFFFFFFL);
+        if (ifd + 2 > end) {
+            return 1;
+        }
+        int entries = readUnsigned(content, (int) ifd, 2, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = (int) ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                break;
+            }
+            if (readUnsigned(content, entry, 2, littleEndian) == ORIENTATION_TAG) {
+                int value = readUnsigned(content, entry + 8, 2, littleEndian);
+                return value >= 1 && value <= 8 ? value : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readUnsigned(byte[] content, int offset, int bytes, boolean littleEndian) {
+        int value = 0;
+        for (int i = 0; i < bytes; i++) {
+            int b = content[offset + (littleEndian ? bytes - 1 - i : i)] & 0xFF;
+            value = (value << 8) | b;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,23 @@
+package com.springboot.board.application.image;
+
+/**
+ * 반응형 이미지 변형 크기 (원본은 ImageEntity.url)
+ */
+public enum ImageVariant {
+    THUMBNAIL(120),  // 목록/그리드용
+    MEDIUM(640);     // 상세 화면 모바일용
+
+    private final int width;
+
+    ImageVariant(int width) {
+        this.width = width;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public String suffix() {
+        return "_w" + width;
+    }
+}
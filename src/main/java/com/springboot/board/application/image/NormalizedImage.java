@@ -0,0 +1,20 @@
+package com.springboot.board.application.image;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * 정규화를 거친 업로드 이미지 (저장소로 보낼 바이트)
+ * 디코딩할 수 없는 형식이면 원본 그대로이며 image가 비어 있다.
+ */
+@Getter
+@Builder
+public class NormalizedImage {
+    private final byte[] content;
+    private final String contentType;
+    private final BufferedImage image;   // 저장될 이미지 (분석/변형 생성에 재사용)
+    private final long originalSize;
+    private final boolean transformed;   // 재인코딩된 바이트를 쓰는지 여부
+}
@@ -3,7 +3,9 @@ package com.springboot.board.application.mapper;
 import com.springboot.board.api.v1.dto.request.SoulCreateRequest;
 import com.springboot.board.api.v1.dto.request.SoulUpdateRequest;
 import com.springboot.board.api.v1.dto.response.*;
+import com.springboot.board.common.response.FieldSelection;
 import com.springboot.board.domain.entity.*;
+import com.springboot.board.domain.repository.SoulVisitStats;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -17,40 +19,74 @@ public interface SoulMapper {
         @Mapping(target = "season", ignore = true)
         @Mapping(target = "images", ignore = true)
         @Mapping(target = "travelingVisits", ignore = true)
+        @Mapping(target = "keywords", ignore = true)
         SoulEntity toEntity(SoulCreateRequest request);
 
         @Mapping(target = "season", ignore = true)
         @Mapping(target = "images", ignore = true)
         @Mapping(target = "travelingVisits", ignore = true)
+        @Mapping(target = "keywords", ignore = true)
         @Mapping(target = "id", ignore = true)
         void updateEntity(@MappingTarget SoulEntity entity, SoulUpdateRequest request);
 
         default SoulResponse toResponse(SoulEntity entity) {
-                return SoulResponse.builder()
+                return toResponse(entity, FieldSelection.all(), null);
+        }
+
+        /**
+         * ?fields= 에 있는 연관관계만 접근한다 (지연 로딩도 그때만 발생)
+         * travelingVisits를 요청하지 않았으면 유랑 통계는 visitStats(집계 쿼리 결과, 없으면 방문 0회)에서 가져온다.
+         */
+        default SoulResponse toResponse(SoulEntity entity, FieldSelection fields, SoulVisitStats visitStats) {
+                SoulResponse.SoulResponseBuilder builder = SoulResponse.builder()
                                 .id(entity.getId())
                                 .seasonId(entity.getSeason() != null ? entity.getSeason().getId() : null)
                                 .seasonName(entity.getSeasonName())
-                                .seasonColor(entity.getSeason() != null ? entity.getSeason().getColor() : null)
                                 .name(entity.getName())
                                 .orderNum(entity.getOrderNum())
                                 .startDate(entity.getStartDate())
                                 .endDate(entity.getEndDate())
-                                .rerunCount(entity.getRerunCount())
-                                .keywords(entity.getKeywords())
                                 .creator(entity.getCreator())
                                 .description(entity.getDescription())
-                                .isSeasonGuide(entity.isSeasonGuide())
-                                .images(ImageResponse.fromEntities(entity.getImages()))
-                                .travelingVisits(
-                                                entity.getTravelingVisits() != null
-                                                                ? entity.getTravelingVisits().stream()
-                                                                                .map(this::visitToResponse)
-                                                                                .collect(Collectors.toList())
-                                                                : null)
-                                .totalVisits(entity.getTotalVisitCount())
-                                .hasVisitedAsTS(entity.hasVisitedAsTS())
-                                .lastVisitDate(entity.getLastTravelingVisitDate())
-                                .build();
+                                .isSeasonGuide(entity.isSeasonGuide());
+
+                if (fields.includes("seasonColor")) {
+                        builder.seasonColor(entity.getSeason() != null ? entity.getSeason().getColor() : null);
+                }
+                if (fields.includes("keywords")) {
+                        builder.keywords(entity.getKeywords() != null ? entity.getKeywordNames() : null);
+                }
+                if (fields.includes("images")) {
+                        builder.images(ImageResponse.fromEntities(entity.getImages()));
+                }
+
+                if (fields.includes("travelingVisits")) {
+                        builder.travelingVisits(
+                                                        entity.getTravelingVisits() != null
+                                                                        ? entity.getTravelingVisits().stream()
+                                                                                        .map(this::visitToResponse)
+                                                                                        .collect(Collectors.toList())
+                                                                        : null)
+                                        .rerunCount(entity.getTotalVisitCount())
+                                        .totalVisits(entity.getTotalVisitCount())
+                                        .hasVisitedAsTS(entity.hasVisitedAsTS())
+                                        .lastVisitDate(entity.getLastTravelingVisitDate());
+                } else {
+                        int visitCount = visitStats != null ? visitStats.visitCount().intValue() : 0;
+                        builder.rerunCount(visitCount)
+                                        .totalVisits(visitCount)
+                                        .hasVisitedAsTS(visitCount > 0)
+                                        .lastVisitDate(visitStats != null ? visitStats.lastVisitDate() : null);
+                }
+                return builder.build();
+        }
+
+        /**
+         * travelingVisits 없이 유랑 통계만 요청했는지 (이때만 findVisitStatsBySoulIds 실행)
+         */
+        static boolean needsVisitStats(FieldSelection fields) {
+                return !fields.includes("travelingVisits")
+                                && fields.includesAny("rerunCount", "totalVisits", "hasVisitedAsTS", "lastVisitDate");
         }
 
         default SoulSummaryResponse toSummaryResponse(SoulEntity entity) {
@@ -72,6 +108,7 @@ public interface SoulMapper {
         default TravelingVisitResponse visitToResponse(TravelingVisitEntity entity) {
                 return TravelingVisitResponse.builder()
                                 .id(entity.getId())
+                                .soulId(entity.getSoul() != null ? entity.getSoul().getId() : null)
                                 .visitNumber(entity.getVisitNumber())
                                 .globalOrder(entity.getGlobalOrder())
                                 .startDate(entity.getStartDate())
@@ -0,0 +1,78 @@
+package com.springboot.board.application.push;
+
+import com.springboot.board.application.scheduler.TravelingVisitWatcher;
+import com.springboot.board.domain.entity.SyncTombstoneEntity;
+import com.springboot.board.domain.event.CatalogChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 커밋된 카탈로그 변경을 모아 coalesce-ms 마다 "catalog-changed" 한 건으로 보낸다.
+ * 같은 행이 여러 번 바뀌어도 한 번만 알리고, 클라이언트는 알림을 받으면 /api/v1/sync 로 내용을 가져온다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogChangeNotifier {
+
+    public static final String EVENT_NAME = "catalog-changed";
+
+    private final SseBroadcaster broadcaster;
+    private final TravelingVisitWatcher visitWatcher;
+
+    // 엔티티 타입 → 변경된 id (compute/remove가 같은 키에서 원자적이라 flush 중 유실이 없다)
+    private final Map<String, Set<Long>> pending = new ConcurrentHashMap<>();
+
+    @Value("${app.push.max-ids-per-type:200}")
+    private int maxIdsPerType;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        pending.compute(event.entityType(), (type, ids) -> {
+            Set<Long> result = ids == null ? new HashSet<>() : ids;
+            result.add(event.entityId());
+            return result;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.push.coalesce-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<String, List<Long>> changes = new TreeMap<>();
+        boolean truncated = false;
+        for (String type : List.copyOf(pending.keySet())) {
+            Set<Long> ids = pending.remove(type);
+            if (ids == null || ids.isEmpty()) {
+                continue;
+            }
+            // id가 너무 많으면 일부만 보낸다 - 어차피 클라이언트는 sync로 전체 변경을 받는다
+            truncated |= ids.size() > maxIdsPerType;
+            changes.put(type, ids.stream().sorted().limit(maxIdsPerType).toList());
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("changes", changes);
+        payload.put("truncated", truncated);
+        broadcaster.broadcast(EVENT_NAME, payload);
+
+        // 유랑 기록이 바뀌면 오늘 진행 중인 유랑이 달라졌을 수 있다
+        if (changes.containsKey(SyncTombstoneEntity.TYPE_TRAVELING_VISIT)) {
+            visitWatcher.check();
+        }
+    }
+}
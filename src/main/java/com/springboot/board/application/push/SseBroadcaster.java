@@ -0,0 +1,241 @@
+package com.springboot.board.application.push;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 구독자 관리 + 브로드캐스트
+ * 이벤트마다 JSON 직렬화와 SSE 프레임 구성은 한 번만 하고, 같은 프레임을 모든 구독자에게 보낸다.
+ * 구독자마다 보낼 프레임 큐를 두고 한 번에 한 작업만 큐를 비우므로 프레임 순서가 유지된다.
+ * ResponseBodyEmitter.send는 synchronized라 가상 스레드에서 느린 클라이언트에 쓰면 캐리어가 묶이므로,
+ * 전송은 플랫폼 스레드 풀(sender-threads)에서 한다. 큐가 max-pending-frames를 넘는 느린 구독자는 연결을 닫는다.
+ */
+@Slf4j
+@Component
+public class SseBroadcaster {
+
+    private final Map<SseEmitter, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger reserved = new AtomicInteger(); // 한도 확인과 등록을 한 번에 (subscribers 크기보다 먼저 늘어난다)
+    private final AtomicLong sequence = new AtomicLong();
+    private final ObjectMapper objectMapper;
+    private final Counter sentCounter;
+    private final Counter droppedCounter;
+    private ExecutorService sender;
+
+    @Value("${app.push.max-subscribers:10000}")
+    private int maxSubscribers;
+
+    @Value("${app.push.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${app.push.reconnect-ms:5000}")
+    private long reconnectMs;
+
+    @Value("${app.push.sender-threads:8}")
+    private int senderThreads;
+
+    @Value("${app.push.max-pending-frames:256}")
+    private int maxPendingFrames;
+
+    public SseBroadcaster(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        Gauge.builder("push.subscribers", subscribers, Map::size)
+                .description("Open SSE connections")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("push.events.sent")
+                .description("Events broadcast to SSE subscribers")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("push.subscribers.dropped")
+                .description("SSE subscribers removed after a failed send or a full queue")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void startSender() {
+        sender = Executors.newFixedThreadPool(senderThreads,
+                Thread.ofPlatform().name("sse-sender-", 0).daemon(true).factory());
+    }
+
+    /**
+     * 새 구독 등록 - 한도를 넘으면 empty (컨트롤러가 본문 없이 429 + Retry-After 응답)
+     * EventSource는 Accept: text/event-stream 만 보내므로 JSON 오류 본문은 쓸 수 없다.
+     */
+    public Optional<SseEmitter> subscribe() {
+        if (reserved.incrementAndGet() > maxSubscribers) {
+            reserved.decrementAndGet();
+            return Optional.empty();
+        }
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(emitter));
+
+        // 첫 이벤트로 헤더/프록시 버퍼를 바로 내보내고 재연결 간격을 알려준다 (등록 전에 넣어 항상 첫 프레임)
+        subscriber.enqueue(SseEmitter.event()
+                .name("connected")
+                .reconnectTime(reconnectMs)
+                .data("{}", MediaType.APPLICATION_JSON)
+                .build());
+        subscribers.put(emitter, subscriber);
+        return Optional.of(emitter);
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public long getRetryAfterSeconds() {
+        return reconnectMs / 1000 + 1;
+    }
+
+    /**
+     * payload를 한 번 직렬화해 모든 구독자에게 전송
+     */
+    public void broadcast(String eventName, Object payload) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize push event {}", eventName, e);
+            return;
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = SseEmitter.event()
+                .id(String.valueOf(sequence.incrementAndGet()))
+                .name(eventName)
+                .data(json, MediaType.APPLICATION_JSON)
+                .build();
+        fanOut(frame);
+        sentCounter.increment();
+    }
+
+    /**
+     * 유휴 연결이 프록시/LB에서 끊기지 않도록 주석 프레임 전송 (끊긴 구독자 정리도 겸한다)
+     */
+    @Scheduled(fixedDelayString = "${app.push.heartbeat-ms:25000}")
+    public void heartbeat() {
+        if (!subscribers.isEmpty()) {
+            fanOut(SseEmitter.event().comment("ping").build());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.keySet().forEach(SseEmitter::complete);
+        subscribers.clear();
+        sender.shutdown();
+    }
+
+    private void fanOut(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        subscribers.values().forEach(subscriber -> subscriber.enqueue(frame));
+    }
+
+    private void remove(SseEmitter emitter) {
+        if (subscribers.remove(emitter) != null) {
+            reserved.decrementAndGet();
+        }
+    }
+
+    /**
+     * 구독자별 전송 큐 - draining이 true인 동안 한 작업만 큐를 비운다
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closing;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void enqueue(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            if (closing) {
+                return;
+            }
+            if (pendingCount.incrementAndGet() > maxPendingFrames) {
+                // 따라오지 못하는 구독자 - 닫으면 클라이언트가 재연결 후 sync로 따라잡는다
+                log.debug("SSE subscriber fell {} frames behind, closing", maxPendingFrames);
+                closing = true;
+                drop();
+            } else {
+                pending.add(frame);
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false); // 종료 중
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<ResponseBodyEmitter.DataWithMediaType> frame;
+                while (!closing && (frame = pending.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    emitter.send(frame);
+                }
+                if (closing) {
+                    pending.clear();
+                    emitter.complete(); // 전송 스레드에서 닫아야 진행 중인 send와 다투지 않는다
+                    return;
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 끊긴 연결 - 컨테이너가 비동기 요청을 정리하므로 여기서는 목록에서만 뺀다
+                closing = true;
+                pending.clear();
+                drop();
+                return;
+            }
+            draining.set(false);
+            if (!pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void drop() {
+            if (subscribers.remove(emitter) != null) {
+                reserved.decrementAndGet();
+                droppedCounter.increment();
+            }
+        }
+    }
+}
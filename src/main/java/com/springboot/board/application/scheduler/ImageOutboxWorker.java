@@ -0,0 +1,79 @@
+package com.springboot.board.application.scheduler;
+
+import com.springboot.board.application.service.ImageOutboxService;
+import com.springboot.board.application.storage.ImageStorage;
+import com.springboot.board.domain.entity.ImageOutboxEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * image_outbox 대기열을 주기적으로 비우는 워커
+ * 저장소 일괄 삭제(Cloudinary delete_resources)로 배치 단위 삭제한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageOutboxWorker {
+
+    private final ImageOutboxService outboxService;
+    private final ImageStorage imageStorage;
+
+    @Scheduled(fixedDelayString = "${app.image-outbox.poll-interval-ms:2000}")
+    public void drain() {
+        if (!outboxService.hasDue()) {
+            return;
+        }
+        List<ImageOutboxEntity> batch;
+        while (!(batch = outboxService.claimBatch()).isEmpty()) {
+            if (!process(batch)) {
+                return; // 원격 호출 실패 시 다음 주기까지 대기
+            }
+        }
+    }
+
+    private boolean process(List<ImageOutboxEntity> batch) {
+        List<Long> ids = batch.stream().map(ImageOutboxEntity::getId).toList();
+        Set<String> referenced = outboxService.findStillReferenced(
+                batch.stream().map(ImageOutboxEntity::getPublicId).toList());
+        List<String> publicIds = batch.stream()
+                .map(ImageOutboxEntity::getPublicId)
+                .filter(key -> !referenced.contains(key))
+                .distinct()
+                .toList();
+
+        Set<String> deleted = new HashSet<>(referenced); // 다시 참조된 키는 삭제하지 않고 완료 처리
+        try {
+            if (!publicIds.isEmpty()) {
+                deleted.addAll(imageStorage.deleteAll(publicIds));
+            }
+        } catch (Exception e) {
+            log.warn("Bulk image delete failed ({} items): {}", publicIds.size(), e.getMessage());
+            outboxService.fail(ids, e.getMessage());
+            return false;
+        }
+
+        List<Long> done = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
+        for (ImageOutboxEntity item : batch) {
+            if (deleted.contains(item.getPublicId())) {
+                done.add(item.getId());
+            } else {
+                failed.add(item.getId());
+            }
+        }
+
+        outboxService.complete(done);
+        if (!failed.isEmpty()) {
+            outboxService.fail(failed, "Unexpected delete status");
+        }
+        log.info("Image outbox drained - deleted: {}, retry: {}", done.size(), failed.size());
+        return failed.isEmpty();
+    }
+}
@@ -0,0 +1,72 @@
+package com.springboot.board.application.scheduler;
+
+import com.springboot.board.application.service.ImageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 영혼 생성 폼에서 올리고 버려진 이미지(soul=null) 정리
+ * 한 번에 batch-size개씩, 실행당 max-batches까지만 지우고 배치 사이에 쉬어 DB/저장소 부하를 제한한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.image-sweeper.enabled", havingValue = "true", matchIfMissing = true)
+public class OrphanImageSweeper {
+
+    private final ImageService imageService;
+    private final Counter sweptCounter;
+    private final Counter reclaimedBytesCounter;
+
+    @Value("${app.image-sweeper.grace-hours:24}")
+    private long graceHours;
+
+    @Value("${app.image-sweeper.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.image-sweeper.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${app.image-sweeper.pause-ms:1000}")
+    private long pauseMs;
+
+    public OrphanImageSweeper(ImageService imageService, MeterRegistry meterRegistry) {
+        this.imageService = imageService;
+        this.sweptCounter = Counter.builder("images.orphans.swept")
+                .description("Unattached images deleted by the sweeper")
+                .register(meterRegistry);
+        this.reclaimedBytesCounter = Counter.builder("images.orphans.reclaimed")
+                .baseUnit("bytes")
+                .description("Storage bytes released by the orphan sweeper")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.image-sweeper.interval-ms:3600000}",
+               initialDelayString = "${app.image-sweeper.initial-delay-ms:300000}")
+    public void sweep() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(graceHours);
+
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            ImageService.OrphanSweepResult result = imageService.deleteOrphans(cutoff, batchSize);
+            sweptCounter.increment(result.getCount());
+            reclaimedBytesCounter.increment(result.getReclaimedBytes());
+
+            if (result.getCount() < batchSize) {
+                return;
+            }
+            try {
+                Thread.sleep(pauseMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        log.info("Orphan sweep reached {} batches, continuing next run", maxBatchesPerRun);
+    }
+}
@@ -0,0 +1,35 @@
+package com.springboot.board.application.scheduler;
+
+import com.springboot.board.domain.repository.SyncTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보존 기간이 지난 동기화 삭제 기록 정리
+ * 이보다 오래된 토큰은 SyncService가 전체 동기화로 처리하므로 지워도 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SyncTombstoneSweeper {
+
+    private final SyncTombstoneRepository tombstoneRepository;
+
+    @Value("${app.sync.tombstone-retention-days:90}")
+    private long retentionDays;
+
+    @Scheduled(cron = "${app.sync.tombstone-sweep-cron:0 30 4 * * *}")
+    @Transactional
+    public void sweep() {
+        int deleted = tombstoneRepository.deleteOlderThan(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("Sync tombstones purged - count: {}", deleted);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.springboot.board.application.scheduler;
+
+import com.springboot.board.api.v1.dto.response.TravelingVisitWithSoulResponse;
+import com.springboot.board.application.push.SseBroadcaster;
+import com.springboot.board.application.service.TravelingVisitService;
+import com.springboot.board.common.datasource.PrimaryReads;
+import com.springboot.board.common.datasource.ReplicationContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 오늘 진행 중인 유랑 목록을 기억해 두고, 바뀌면 시작/종료 이벤트를 푸시
+ * 날짜가 바뀐 직후(cron)와 유랑 기록 변경 시(CatalogChangeNotifier)에만 조회한다.
+ * 조회는 잠금 없이 하고, 비교와 교체만 잠금 안에서 한다 (늦게 시작한 조회가 이미 반영됐다면 먼저 시작한 결과는 버린다).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TravelingVisitWatcher {
+
+    public static final String VISIT_STARTED = "visit-started";
+    public static final String VISIT_ENDED = "visit-ended";
+
+    private final TravelingVisitService visitService;
+    private final SseBroadcaster broadcaster;
+    private final PrimaryReads primaryReads;
+
+    private final AtomicLong loadSequence = new AtomicLong();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // lock 안에서만
+    private Map<Long, TravelingVisitWithSoulResponse> active = Map.of();
+    private long appliedSequence;
+
+    /**
+     * 기동 시 현재 상태만 기억 (이미 진행 중인 유랑을 새로 시작된 것으로 알리지 않는다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long sequence = loadSequence.incrementAndGet();
+        Map<Long, TravelingVisitWithSoulResponse> current = loadActive();
+        lock.lock();
+        try {
+            if (sequence > appliedSequence) {
+                appliedSequence = sequence;
+                active = current;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(cron = "${app.push.visit-check-cron:5 0 0 * * *}", zone = "Asia/Seoul")
+    public void check() {
+        long sequence = loadSequence.incrementAndGet();
+        Map<Long, TravelingVisitWithSoulResponse> current = loadActive();
+        lock.lock();
+        try {
+            if (sequence < appliedSequence) {
+                return;
+            }
+            Map<Long, TravelingVisitWithSoulResponse> previous = active;
+            previous.forEach((id, visit) -> {
+                if (!current.containsKey(id)) {
+                    broadcaster.broadcast(VISIT_ENDED, visit);
+                }
+            });
+            current.forEach((id, visit) -> {
+                if (!previous.containsKey(id)) {
+                    broadcaster.broadcast(VISIT_STARTED, visit);
+                }
+            });
+            appliedSequence = sequence;
+            active = current;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Map<Long, TravelingVisitWithSoulResponse> loadActive() {
+        Map<Long, TravelingVisitWithSoulResponse> visits = new LinkedHashMap<>();
+        // 유랑 기록 커밋 직후에도 불리므로 replica 지연이 없는 primary에서 읽는다
+        try (ReplicationContext.Scope ignored = primaryReads.open()) {
+            for (TravelingVisitWithSoulResponse visit : visitService.getCurrentVisitsWithSoul()) {
+                visits.put(visit.getVisitId(), visit);
+            }
+        }
+        log.debug("Active traveling visits: {}", visits.keySet());
+        return visits;
+    }
+}
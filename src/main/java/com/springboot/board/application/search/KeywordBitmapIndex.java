@@ -0,0 +1,194 @@
+package com.springboot.board.application.search;
+
+import com.springboot.board.api.v1.dto.response.KeywordFacetResponse;
+import com.springboot.board.common.datasource.PrimaryReads;
+import com.springboot.board.common.datasource.ReplicationContext;
+import com.springboot.board.domain.entity.KeywordEntity;
+import com.springboot.board.domain.entity.SyncTombstoneEntity;
+import com.springboot.board.domain.event.CatalogChangedEvent;
+import com.springboot.board.domain.repository.KeywordLink;
+import com.springboot.board.domain.repository.KeywordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 키워드 id → 해당 키워드를 가진 영혼/아이템 id 비트맵 (RoaringBitmap)
+ * AND/OR 필터는 비트맵 교집합/합집합, 패싯은 교집합 크기로 계산해 DB를 거치지 않는다.
+ * 조인 테이블 전체를 읽어 통째로 다시 만들고 불변 스냅샷으로 교체한다 (읽기는 잠금 없음).
+ * 재구축 쿼리는 잠금 없이 돌고, 교체만 잠금 안에서 시작 순서를 확인한다 (늦게 시작한 재구축이 이긴다).
+ * 영혼/아이템이 커밋되면 dirty 표시만 하고, refresh-ms 마다 한 번만 재구축한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordBitmapIndex {
+
+    public enum Target { SOULS, ITEMS }
+
+    private final KeywordRepository keywordRepository;
+    private final PrimaryReads primaryReads;
+
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    private final AtomicLong rebuildSequence = new AtomicLong();
+    private final ReentrantLock publishLock = new ReentrantLock();
+    private long publishedSequence; // publishLock 안에서만
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (SyncTombstoneEntity.TYPE_SOUL.equals(event.entityType())
+                || SyncTombstoneEntity.TYPE_IAP_ITEM.equals(event.entityType())) {
+            dirty.set(true);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.keyword-index.refresh-ms:1000}")
+    public void refreshIfDirty() {
+        if (dirty.getAndSet(false)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 조인 테이블을 다시 읽어 스냅샷 교체
+     * 연결을 먼저 읽으므로 그 사이 생긴 키워드도 사전에 들어 있다.
+     */
+    public void rebuild() {
+        long started = System.nanoTime();
+        long sequence = rebuildSequence.incrementAndGet();
+        Map<Integer, RoaringBitmap> souls;
+        Map<Integer, RoaringBitmap> items;
+        Map<String, Integer> idsByName = new HashMap<>();
+        Map<Integer, String> namesById = new HashMap<>();
+        // 커밋 직후 재구축이므로 replica 지연이 없는 primary에서 읽는다
+        try (ReplicationContext.Scope ignored = primaryReads.open()) {
+            souls = toBitmaps(keywordRepository.findSoulLinks());
+            items = toBitmaps(keywordRepository.findItemLinks());
+            for (KeywordEntity keyword : keywordRepository.findAll()) {
+                idsByName.put(keyword.getName(), keyword.getId());
+                namesById.put(keyword.getId(), keyword.getName());
+            }
+        }
+
+        if (!publish(sequence, new Snapshot(Map.copyOf(idsByName), Map.copyOf(namesById), souls, items))) {
+            return;
+        }
+        log.debug("Keyword bitmap index rebuilt: {} keywords, {} soul / {} item keyword sets in {}ms",
+                namesById.size(), souls.size(), items.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    /**
+     * 더 늦게 시작한 재구축이 이미 교체했다면 버린다 (그쪽이 더 최근 커밋까지 읽었다)
+     */
+    private boolean publish(long sequence, Snapshot built) {
+        publishLock.lock();
+        try {
+            if (sequence < publishedSequence) {
+                return false;
+            }
+            publishedSequence = sequence;
+            snapshot = built;
+            return true;
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    /**
+     * 필터식에 맞는 영혼(Integer id)/아이템(Long id) id 집합 - 호출자가 수정해도 되는 복사본
+     * 사전에 없는 키워드는 빈 집합으로 본다.
+     */
+    public RoaringBitmap evaluate(Target target, KeywordQuery query) {
+        Snapshot current = snapshot;
+        List<RoaringBitmap> groups = new ArrayList<>();
+        for (List<String> group : query.anyOf()) {
+            RoaringBitmap[] terms = group.stream()
+                    .map(name -> current.bitmap(target, name))
+                    .toArray(RoaringBitmap[]::new);
+            groups.add(terms.length == 1 ? terms[0] : FastAggregation.and(terms));
+        }
+        if (groups.size() == 1) {
+            return groups.get(0).clone();
+        }
+        return FastAggregation.or(groups.iterator());
+    }
+
+    /**
+     * 키워드별 건수 (많은 순, limit개) - matched가 null이면 전체 기준
+     */
+    public List<KeywordFacetResponse> facets(Target target, RoaringBitmap matched, int limit) {
+        Snapshot current = snapshot;
+        List<KeywordFacetResponse> facets = new ArrayList<>();
+        current.bitmaps(target).forEach((keywordId, bitmap) -> {
+            int count = matched == null ? bitmap.getCardinality() : RoaringBitmap.andCardinality(matched, bitmap);
+            String name = current.namesById().get(keywordId);
+            if (count > 0 && name != null) {
+                facets.add(KeywordFacetResponse.builder().keyword(name).count(count).build());
+            }
+        });
+        return facets.stream()
+                .sorted(Comparator.comparingInt(KeywordFacetResponse::getCount).reversed()
+                        .thenComparing(KeywordFacetResponse::getKeyword))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 키워드를 가진 영혼/아이템 수 (사전에 없으면 0)
+     */
+    public int count(Target target, String keyword) {
+        return snapshot.bitmap(target, keyword).getCardinality();
+    }
+
+    private static Map<Integer, RoaringBitmap> toBitmaps(List<KeywordLink> links) {
+        Map<Integer, RoaringBitmap> bitmaps = new HashMap<>();
+        for (KeywordLink link : links) {
+            bitmaps.computeIfAbsent(link.keywordId(), id -> new RoaringBitmap()).add(link.ownerId().intValue());
+        }
+        bitmaps.values().forEach(RoaringBitmap::runOptimize);
+        return Map.copyOf(bitmaps);
+    }
+
+    // 게시 후에는 어떤 비트맵도 수정하지 않는다 (evaluate는 clone/새 비트맵을 돌려준다)
+    private record Snapshot(Map<String, Integer> idsByName,
+                            Map<Integer, String> namesById,
+                            Map<Integer, RoaringBitmap> souls,
+                            Map<Integer, RoaringBitmap> items) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), Map.of(), Map.of());
+        static final RoaringBitmap NONE = new RoaringBitmap();
+
+        Map<Integer, RoaringBitmap> bitmaps(Target target) {
+            return target == Target.SOULS ? souls : items;
+        }
+
+        RoaringBitmap bitmap(Target target, String name) {
+            Integer id = idsByName.get(name);
+            return id == null ? NONE : bitmaps(target).getOrDefault(id, NONE);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.springboot.board.application.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 키워드 필터식 - "hair AND cape OR mask" 는 (hair ∩ cape) ∪ mask
+ * AND가 OR보다 먼저 묶이고, 연산자는 대소문자를 가리지 않는다. 괄호는 지원하지 않는다.
+ * 키워드 이름에 공백이 있어도 연산자 앞뒤 공백으로만 나누므로 그대로 쓸 수 있다.
+ */
+public record KeywordQuery(List<List<String>> anyOf) {
+
+    private static final Pattern OR = Pattern.compile("\\s+OR\\s+", Pattern.CASE_INSENSITIVE);
+    private static final Pattern AND = Pattern.compile("\\s+AND\\s+", Pattern.CASE_INSENSITIVE);
+
+    public static KeywordQuery parse(String expression) {
+        if (expression == null || expression.isBlank()) {
+            return new KeywordQuery(List.of());
+        }
+        List<List<String>> groups = Arrays.stream(OR.split(expression.trim()))
+                .map(group -> Arrays.stream(AND.split(group.trim()))
+                        .map(String::trim)
+                        .filter(term -> !term.isEmpty())
+                        .toList())
+                .filter(group -> !group.isEmpty())
+                .toList();
+        return new KeywordQuery(groups);
+    }
+
+    /**
+     * 조건 없음 - 필터 대상 전체
+     */
+    public boolean isEmpty() {
+        return anyOf.isEmpty();
+    }
+}
@@ -0,0 +1,467 @@
+package com.springboot.board.application.search;
+
+import com.springboot.board.api.v1.dto.request.SoulFacetRequest;
+import com.springboot.board.api.v1.dto.response.FacetCountResponse;
+import com.springboot.board.api.v1.dto.response.SoulFacetResponse;
+import com.springboot.board.common.datasource.PrimaryReads;
+import com.springboot.board.common.datasource.ReplicationContext;
+import com.springboot.board.domain.entity.KeywordEntity;
+import com.springboot.board.domain.entity.SyncTombstoneEntity;
+import com.springboot.board.domain.event.CatalogChangedEvent;
+import com.springboot.board.domain.repository.KeywordLink;
+import com.springboot.board.domain.repository.KeywordRepository;
+import com.springboot.board.domain.repository.SoulFacetRow;
+import com.springboot.board.domain.repository.SoulRepository;
+import com.springboot.board.domain.repository.SoulVisitFacet;
+import com.springboot.board.domain.repository.TravelingVisitRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 영혼 패싯 필터 - 영혼마다 시즌/가이드/제작자/방문 수/유랑단/키워드를 열(배열)로 들고 있는 스냅샷
+ * 필터 조합과 모든 항목의 건수를 행을 한 번 훑어 계산한다 (DB 조회 없음).
+ * - 모든 조건을 만족한 행: 결과에 넣고 모든 항목 건수에 더한다.
+ * - 한 항목만 못 맞춘 행: 그 항목 건수에만 더한다 (그 항목의 다른 값을 골랐을 때의 결과 수).
+ * - keyword는 여러 값을 AND로 거르므로 건수도 결과 안에서만 센다.
+ * 영혼/유랑/시즌이 커밋되면 dirty 표시만 하고 refresh-ms 마다 한 번만 다시 만든다 (KeywordBitmapIndex와 같은 방식).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SoulFacetIndex {
+
+    public static final String SEASON = "season";
+    public static final String SEASON_GUIDE = "seasonGuide";
+    public static final String CREATOR = "creator";
+    public static final String VISITED = "visited";
+    public static final String WARBAND = "warband";
+    public static final String RERUN = "rerun";
+    public static final String KEYWORD = "keyword";
+
+    // 방문 수 구간 (rerun 패싯 값) - 필터는 rerunMin/rerunMax로 임의 범위
+    private static final String[] RERUN_BUCKETS = {"0", "1", "2", "3-4", "5+"};
+
+    private static final int D_SEASON = 0;
+    private static final int D_GUIDE = 1;
+    private static final int D_CREATOR = 2;
+    private static final int D_VISITED = 3;
+    private static final int D_WARBAND = 4;
+    private static final int D_RERUN = 5;
+    private static final int D_KEYWORD = 6;
+
+    private final SoulRepository soulRepository;
+    private final TravelingVisitRepository visitRepository;
+    private final KeywordRepository keywordRepository;
+    private final PrimaryReads primaryReads;
+
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile Columns columns = Columns.EMPTY;
+
+    private final AtomicLong rebuildSequence = new AtomicLong();
+    private final ReentrantLock publishLock = new ReentrantLock();
+    private long publishedSequence; // publishLock 안에서만
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        switch (event.entityType()) {
+            case SyncTombstoneEntity.TYPE_SOUL, SyncTombstoneEntity.TYPE_TRAVELING_VISIT,
+                 SyncTombstoneEntity.TYPE_SEASON -> dirty.set(true);
+            default -> { }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.soul-facets.refresh-ms:1000}")
+    public void refreshIfDirty() {
+        if (dirty.getAndSet(false)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 쿼리는 잠금 없이 돌고, 교체할 때만 시작 순서를 확인한다 (늦게 시작한 재구축이 이긴다)
+     */
+    public void rebuild() {
+        long started = System.nanoTime();
+        long sequence = rebuildSequence.incrementAndGet();
+        List<SoulFacetRow> rows;
+        Map<Integer, SoulVisitFacet> visits = new HashMap<>();
+        Map<Integer, List<Integer>> keywordIds = new HashMap<>();
+        Map<Integer, String> keywordNames = new HashMap<>();
+        // 커밋 직후 재구축이므로 replica 지연이 없는 primary에서 읽는다
+        try (ReplicationContext.Scope ignored = primaryReads.open()) {
+            rows = new ArrayList<>(soulRepository.findFacetRows());
+            for (SoulVisitFacet visit : visitRepository.findVisitFacets()) {
+                visits.put(visit.soulId(), visit);
+            }
+            for (KeywordLink link : keywordRepository.findSoulLinks()) {
+                keywordIds.computeIfAbsent(link.ownerId().intValue(), id -> new ArrayList<>()).add(link.keywordId());
+            }
+            for (KeywordEntity keyword : keywordRepository.findAll()) {
+                keywordNames.put(keyword.getId(), keyword.getName());
+            }
+        }
+        rows.sort(Comparator.comparing(SoulFacetRow::seasonOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(SoulFacetRow::orderNum, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(SoulFacetRow::soulId));
+
+        Columns built = Columns.build(rows, visits, keywordIds, keywordNames);
+        if (!publish(sequence, built)) {
+            return;
+        }
+        log.debug("Soul facet snapshot rebuilt: {} souls, {} seasons, {} creators, {} keywords in {}ms",
+                built.size, built.seasonIds.length, built.creatorNames.length, built.keywordNames.length,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private boolean publish(long sequence, Columns built) {
+        publishLock.lock();
+        try {
+            if (sequence < publishedSequence) {
+                return false;
+            }
+            publishedSequence = sequence;
+            columns = built;
+            return true;
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    /**
+     * 필터 결과(페이지)와 항목별 건수
+     */
+    public SoulFacetResponse search(SoulFacetRequest request) {
+        Columns c = columns;
+
+        boolean[] seasonAllowed = allowed(request.getSeason(), c.seasonCodes, c.seasonIds.length);
+        boolean[] creatorAllowed = allowed(request.getCreator(), c.creatorCodes, c.creatorNames.length);
+        int[] requiredKeywords = required(request.getKeyword(), c.keywordCodes);
+        int guideFilter = flag(request.getSeasonGuide());
+        int visitedFilter = flag(request.getVisited());
+        int warbandFilter = flag(request.getWarband());
+        int rerunMin = request.getRerunMin() != null ? request.getRerunMin() : 0;
+        int rerunMax = request.getRerunMax() != null ? request.getRerunMax() : Integer.MAX_VALUE;
+
+        int[] seasonCounts = new int[c.seasonIds.length];
+        int[] guideCounts = new int[2];
+        int[] creatorCounts = new int[c.creatorNames.length];
+        int[] visitedCounts = new int[2];
+        int[] warbandCounts = new int[2];
+        int[] rerunCounts = new int[RERUN_BUCKETS.length];
+        int[] keywordCounts = new int[c.keywordNames.length];
+        int[] matched = new int[c.size];
+        int total = 0;
+
+        for (int row = 0; row < c.size; row++) {
+            int guide = c.guide[row] ? 1 : 0;
+            int visited = c.visits[row] > 0 ? 1 : 0;
+            int warband = c.warband[row] ? 1 : 0;
+
+            // 못 맞춘 항목 수와 마지막으로 못 맞춘 항목 (둘 이상이면 어떤 건수에도 들어가지 않는다)
+            int misses = 0;
+            int missed = -1;
+            if (seasonAllowed != null && !seasonAllowed[c.season[row]]) {
+                misses++;
+                missed = D_SEASON;
+            }
+            if (guideFilter >= 0 && guide != guideFilter) {
+                if (++misses > 1) {
+                    continue;
+                }
+                missed = D_GUIDE;
+            }
+            if (creatorAllowed != null && (c.creator[row] < 0 || !creatorAllowed[c.creator[row]])) {
+                if (++misses > 1) {
+                    continue;
+                }
+                missed = D_CREATOR;
+            }
+            if (visitedFilter >= 0 && visited != visitedFilter) {
+                if (++misses > 1) {
+                    continue;
+                }
+                missed = D_VISITED;
+            }
+            if (warbandFilter >= 0 && warband != warbandFilter) {
+                if (++misses > 1) {
+                    continue;
+                }
+                missed = D_WARBAND;
+            }
+            if (c.visits[row] < rerunMin || c.visits[row] > rerunMax) {
+                if (++misses > 1) {
+                    continue;
+                }
+                missed = D_RERUN;
+            }
+            if (requiredKeywords != null && !containsAll(c.keywords[row], requiredKeywords)) {
+                if (++misses > 1) {
+                    continue;
+                }
+                missed = D_KEYWORD;
+            }
+
+            boolean hit = misses == 0;
+            if (hit) {
+                matched[total++] = row;
+                for (int keyword : c.keywords[row]) {
+                    keywordCounts[keyword]++;
+                }
+            }
+            if (hit || missed == D_SEASON) {
+                seasonCounts[c.season[row]]++;
+            }
+            if (hit || missed == D_GUIDE) {
+                guideCounts[guide]++;
+            }
+            if ((hit || missed == D_CREATOR) && c.creator[row] >= 0) {
+                creatorCounts[c.creator[row]]++;
+            }
+            if (hit || missed == D_VISITED) {
+                visitedCounts[visited]++;
+            }
+            if (hit || missed == D_WARBAND) {
+                warbandCounts[warband]++;
+            }
+            if (hit || missed == D_RERUN) {
+                rerunCounts[rerunBucket(c.visits[row])]++;
+            }
+        }
+
+        List<Integer> ids = new ArrayList<>();
+        long offset = (long) request.getPage() * request.getSize();
+        for (long i = offset; i < total && ids.size() < request.getSize(); i++) {
+            ids.add(c.soulIds[matched[(int) i]]);
+        }
+
+        Map<String, List<FacetCountResponse>> facets = new LinkedHashMap<>();
+        List<FacetCountResponse> seasons = new ArrayList<>();
+        for (int code = 0; code < seasonCounts.length; code++) {
+            if (seasonCounts[code] > 0) {
+                seasons.add(facet(String.valueOf(c.seasonIds[code]), c.seasonNames[code], seasonCounts[code]));
+            }
+        }
+        facets.put(SEASON, seasons);
+        facets.put(SEASON_GUIDE, booleanFacet(guideCounts));
+        facets.put(CREATOR, topFacets(c.creatorNames, creatorCounts, request.getFacetLimit()));
+        facets.put(VISITED, booleanFacet(visitedCounts));
+        facets.put(WARBAND, booleanFacet(warbandCounts));
+        List<FacetCountResponse> reruns = new ArrayList<>();
+        for (int bucket = 0; bucket < RERUN_BUCKETS.length; bucket++) {
+            reruns.add(facet(RERUN_BUCKETS[bucket], RERUN_BUCKETS[bucket], rerunCounts[bucket]));
+        }
+        facets.put(RERUN, reruns);
+        facets.put(KEYWORD, topFacets(c.keywordNames, keywordCounts, request.getFacetLimit()));
+
+        return SoulFacetResponse.builder()
+                .total(total)
+                .page(request.getPage())
+                .size(request.getSize())
+                .ids(ids)
+                .facets(facets)
+                .build();
+    }
+
+    static int rerunBucket(int visits) {
+        if (visits <= 2) {
+            return visits;
+        }
+        return visits <= 4 ? 3 : 4;
+    }
+
+    private static int flag(Boolean value) {
+        return value == null ? -1 : value ? 1 : 0;
+    }
+
+    /**
+     * 필터 값 → 코드별 허용 여부 (조건 없으면 null, 사전에 없는 값은 무시)
+     */
+    private static <T> boolean[] allowed(List<T> values, Map<T, Integer> codes, int size) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        boolean[] allowed = new boolean[size];
+        for (T value : values) {
+            Integer code = codes.get(value);
+            if (code != null) {
+                allowed[code] = true;
+            }
+        }
+        return allowed;
+    }
+
+    /**
+     * 모두 가져야 하는 키워드 코드 (정렬) - 사전에 없는 키워드가 있으면 아무 행도 맞지 않는다
+     */
+    private static int[] required(List<String> names, Map<String, Integer> codes) {
+        if (names == null || names.isEmpty()) {
+            return null;
+        }
+        int[] required = new int[names.size()];
+        for (int i = 0; i < names.size(); i++) {
+            Integer code = codes.get(names.get(i));
+            required[i] = code != null ? code : -1;
+        }
+        Arrays.sort(required);
+        return required;
+    }
+
+    private static boolean containsAll(int[] sortedCodes, int[] required) {
+        for (int code : required) {
+            if (Arrays.binarySearch(sortedCodes, code) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static FacetCountResponse facet(String value, String label, int count) {
+        return FacetCountResponse.builder().value(value).label(label).count(count).build();
+    }
+
+    private static List<FacetCountResponse> booleanFacet(int[] counts) {
+        return List.of(facet("true", "true", counts[1]), facet("false", "false", counts[0]));
+    }
+
+    private static List<FacetCountResponse> topFacets(String[] names, int[] counts, int limit) {
+        List<FacetCountResponse> facets = new ArrayList<>();
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] > 0) {
+                facets.add(facet(names[code], names[code], counts[code]));
+            }
+        }
+        return facets.stream()
+                .sorted(Comparator.comparingInt(FacetCountResponse::getCount).reversed()
+                        .thenComparing(FacetCountResponse::getValue))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 열 단위 스냅샷 - 행 i는 시즌 순서 → 영혼 순서로 정렬된 i번째 영혼. 게시 후에는 수정하지 않는다.
+     * 문자열 값(시즌/제작자/키워드)은 사전 코드로 바꿔 int 배열에 둔다.
+     */
+    private static final class Columns {
+
+        static final Columns EMPTY = build(List.of(), Map.of(), Map.of(), Map.of());
+
+        final int size;
+        final int[] soulIds;
+        final int[] season;       // seasonIds 코드
+        final boolean[] guide;
+        final int[] creator;      // creatorNames 코드, 없으면 -1
+        final int[] visits;
+        final boolean[] warband;
+        final int[][] keywords;   // keywordNames 코드 (정렬)
+
+        final int[] seasonIds;
+        final String[] seasonNames;
+        final Map<Integer, Integer> seasonCodes;
+        final String[] creatorNames;
+        final Map<String, Integer> creatorCodes;
+        final String[] keywordNames;
+        final Map<String, Integer> keywordCodes;
+
+        private Columns(int size, int[] soulIds, int[] season, boolean[] guide, int[] creator, int[] visits,
+                        boolean[] warband, int[][] keywords, int[] seasonIds, String[] seasonNames,
+                        Map<Integer, Integer> seasonCodes, String[] creatorNames, Map<String, Integer> creatorCodes,
+                        String[] keywordNames, Map<String, Integer> keywordCodes) {
+            this.size = size;
+            this.soulIds = soulIds;
+            this.season = season;
+            this.guide = guide;
+            this.creator = creator;
+            this.visits = visits;
+            this.warband = warband;
+            this.keywords = keywords;
+            this.seasonIds = seasonIds;
+            this.seasonNames = seasonNames;
+            this.seasonCodes = seasonCodes;
+            this.creatorNames = creatorNames;
+            this.creatorCodes = creatorCodes;
+            this.keywordNames = keywordNames;
+            this.keywordCodes = keywordCodes;
+        }
+
+        static Columns build(List<SoulFacetRow> rows, Map<Integer, SoulVisitFacet> visitFacets,
+                             Map<Integer, List<Integer>> keywordIds, Map<Integer, String> keywordNameById) {
+            int size = rows.size();
+            int[] soulIds = new int[size];
+            int[] season = new int[size];
+            boolean[] guide = new boolean[size];
+            int[] creator = new int[size];
+            int[] visits = new int[size];
+            boolean[] warband = new boolean[size];
+            int[][] keywords = new int[size][];
+
+            Map<Integer, Integer> seasonCodes = new HashMap<>();
+            List<Integer> seasonIds = new ArrayList<>();
+            List<String> seasonNames = new ArrayList<>();
+            Map<String, Integer> creatorCodes = new HashMap<>();
+            List<String> creatorNames = new ArrayList<>();
+            Map<Integer, Integer> keywordCodeById = new HashMap<>();
+            Map<String, Integer> keywordCodes = new HashMap<>();
+            List<String> keywordNames = new ArrayList<>();
+
+            for (int row = 0; row < size; row++) {
+                SoulFacetRow soul = rows.get(row);
+                soulIds[row] = soul.soulId();
+                season[row] = seasonCodes.computeIfAbsent(soul.seasonId(), id -> {
+                    seasonIds.add(id);
+                    seasonNames.add(soul.seasonName());
+                    return seasonIds.size() - 1;
+                });
+                guide[row] = soul.seasonGuide();
+                creator[row] = soul.creator() == null || soul.creator().isBlank() ? -1
+                        : creatorCodes.computeIfAbsent(soul.creator(), name -> {
+                            creatorNames.add(name);
+                            return creatorNames.size() - 1;
+                        });
+
+                SoulVisitFacet visit = visitFacets.get(soul.soulId());
+                visits[row] = visit != null ? visit.visitCount().intValue() : 0;
+                warband[row] = visit != null && visit.warbandCount() != null && visit.warbandCount() > 0;
+
+                List<Integer> ids = keywordIds.getOrDefault(soul.soulId(), List.of());
+                keywords[row] = ids.stream()
+                        .filter(keywordNameById::containsKey)
+                        .mapToInt(id -> keywordCodeById.computeIfAbsent(id, key -> {
+                            String name = keywordNameById.get(key);
+                            keywordNames.add(name);
+                            keywordCodes.put(name, keywordNames.size() - 1);
+                            return keywordNames.size() - 1;
+                        }))
+                        .distinct()
+                        .sorted()
+                        .toArray();
+            }
+
+            return new Columns(size, soulIds, season, guide, creator, visits, warband, keywords,
+                    seasonIds.stream().mapToInt(Integer::intValue).toArray(), seasonNames.toArray(String[]::new),
+                    Map.copyOf(seasonCodes), creatorNames.toArray(String[]::new), Map.copyOf(creatorCodes),
+                    keywordNames.toArray(String[]::new), Map.copyOf(keywordCodes));
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.springboot.board.application.service;
+
+import com.springboot.board.api.v1.dto.response.GapBucketResponse;
+import com.springboot.board.api.v1.dto.response.GapStatsResponse;
+import com.springboot.board.api.v1.dto.response.RerunOverviewResponse;
+import com.springboot.board.api.v1.dto.response.SeasonRerunStatsResponse;
+import com.springboot.board.api.v1.dto.response.SoulRerunStatsResponse;
+import com.springboot.board.application.analytics.GapStats;
+import com.springboot.board.application.analytics.RerunStatsStore;
+import com.springboot.board.application.analytics.RerunStatsStore.SeasonStats;
+import com.springboot.board.application.analytics.RerunStatsStore.SoulStats;
+import com.springboot.board.common.exception.DataNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 재방문 통계 조회 - RerunStatsStore에 미리 계산된 값만 읽는다 (DB 조회 없음)
+ */
+@Service
+@RequiredArgsConstructor
+public class AnalyticsService {
+
+    public static final int MAX_LIMIT = 500;
+
+    // 영혼 목록 정렬 기준 → 값 (값이 없는 영혼은 방향과 관계없이 뒤로)
+    private static final Map<String, Function<SoulStats, Comparable<?>>> SOUL_SORTS = Map.of(
+            "meanGap", soul -> soul.gaps().getCount() == 0 ? null : soul.gaps().getMean(),
+            "maxGap", soul -> soul.gaps().getMax(),
+            "minGap", soul -> soul.gaps().getMin(),
+            "lastGap", SoulStats::lastGap,
+            "visits", SoulStats::visitCount,
+            "lastVisit", SoulStats::lastVisitDate
+    );
+
+    private final RerunStatsStore store;
+
+    public RerunOverviewResponse getOverview() {
+        RerunStatsStore.Overview overview = store.getOverview();
+        return RerunOverviewResponse.builder()
+                .visitedSouls(overview.visitedSouls())
+                .visitCount(overview.visitCount())
+                .gaps(toResponse(overview.gaps()))
+                .updatedAt(overview.updatedAt())
+                .build();
+    }
+
+    public SoulRerunStatsResponse getSoul(Integer soulId) {
+        return store.getSoul(soulId)
+                .map(this::toResponse)
+                .orElseThrow(() -> new DataNotFoundException("유랑 방문 기록이 있는 영혼을 찾을 수 없습니다. soulId=" + soulId));
+    }
+
+    /**
+     * 영혼별 통계 - sort 기준 정렬 후 상위 limit개
+     */
+    public List<SoulRerunStatsResponse> getSouls(String sort, String order, int limit) {
+        Function<SoulStats, Comparable<?>> key = SOUL_SORTS.get(sort);
+        if (key == null) {
+            throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다. sort=" + sort
+                    + " (meanGap, maxGap, minGap, lastGap, visits, lastVisit)");
+        }
+        if (!"asc".equalsIgnoreCase(order) && !"desc".equalsIgnoreCase(order)) {
+            throw new IllegalArgumentException("order는 asc 또는 desc여야 합니다. order=" + order);
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit은 1~" + MAX_LIMIT + " 사이여야 합니다. limit=" + limit);
+        }
+
+        Comparator<Comparable<Object>> direction = "desc".equalsIgnoreCase(order)
+                ? Comparator.reverseOrder()
+                : Comparator.naturalOrder();
+        @SuppressWarnings("unchecked")
+        Comparator<SoulStats> comparator = Comparator
+                .comparing((SoulStats soul) -> (Comparable<Object>) key.apply(soul), Comparator.nullsLast(direction))
+                .thenComparing(SoulStats::soulId);
+
+        return store.getSouls().stream()
+                .sorted(comparator)
+                .limit(limit)
+                .map(this::toResponse)
+                .toList();
+    }
+
+    /**
+     * 시즌별 통계 - 시즌 순서대로
+     */
+    public List<SeasonRerunStatsResponse> getSeasons() {
+        return store.getSeasons().stream()
+                .sorted(Comparator.comparing(SeasonStats::seasonOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(SeasonStats::seasonId))
+                .map(season -> SeasonRerunStatsResponse.builder()
+                        .seasonId(season.seasonId())
+                        .seasonName(season.seasonName())
+                        .visitedSouls(season.visitedSouls())
+                        .visitCount(season.visitCount())
+                        .visitsPerSoul(round((double) season.visitCount() / season.visitedSouls()))
+                        .gaps(toResponse(season.gaps()))
+                        .build())
+                .toList();
+    }
+
+    private SoulRerunStatsResponse toResponse(SoulStats soul) {
+        return SoulRerunStatsResponse.builder()
+                .soulId(soul.soulId())
+                .soulName(soul.soulName())
+                .seasonId(soul.seasonId())
+                .seasonName(soul.seasonName())
+                .visitCount(soul.visitCount())
+                .lastVisitDate(soul.lastVisitDate())
+                .lastGapDays(soul.lastGap())
+                .gaps(toResponse(soul.gaps()))
+                .build();
+    }
+
+    private GapStatsResponse toResponse(GapStats gaps) {
+        List<GapBucketResponse> histogram = new ArrayList<>(GapStats.bucketCount());
+        for (int i = 0; i < GapStats.bucketCount(); i++) {
+            histogram.add(GapBucketResponse.builder()
+                    .label(GapStats.bucketLabel(i))
+                    .count(gaps.getBucket(i))
+                    .build());
+        }
+        boolean empty = gaps.getCount() == 0;
+        return GapStatsResponse.builder()
+                .count(gaps.getCount())
+                .meanDays(empty ? null : round(gaps.getMean()))
+                .varianceDays(empty ? null : round(gaps.getVariance()))
+                .stddevDays(empty ? null : round(Math.sqrt(gaps.getVariance())))
+                .minDays(gaps.getMin())
+                .maxDays(gaps.getMax())
+                .histogram(histogram)
+                .build();
+    }
+
+    // 소수 첫째 자리
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
@@ -6,12 +6,15 @@ import com.springboot.board.api.v1.dto.response.IAPItemResponse;
 import com.springboot.board.common.exception.DataNotFoundException;
 import com.springboot.board.domain.entity.IAPItemEntity;
 import com.springboot.board.domain.entity.SeasonEntity;
+import com.springboot.board.domain.entity.SyncTombstoneEntity;
 import com.springboot.board.domain.repository.IAPItemRepository;
 import com.springboot.board.domain.repository.SeasonRepository;
+import com.springboot.board.domain.repository.SyncTombstoneRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,6 +25,8 @@ public class IAPItemService {
 
     private final IAPItemRepository iapItemRepository;
     private final SeasonRepository seasonRepository;
+    private final SyncTombstoneRepository tombstoneRepository;
+    private final KeywordService keywordService;
 
     public List<IAPItemResponse> getAllItems() {
         return iapItemRepository.findAll().stream()
@@ -41,6 +46,18 @@ public class IAPItemService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 증분 동기화 - since 이후 생성/수정된 아이템 (null이면 전체)
+     */
+    public List<IAPItemResponse> getItemsModifiedAfter(LocalDateTime since) {
+        List<IAPItemEntity> items = since == null
+                ? iapItemRepository.findAllWithSeasonAndKeywords()
+                : iapItemRepository.findModifiedAfter(since);
+        return items.stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
     public List<IAPItemResponse> searchItems(String query) {
         return iapItemRepository.searchItems(query).stream()
                 .map(this::toResponse)
@@ -58,7 +75,7 @@ public class IAPItemService {
                 .category(request.getCategory())
                 .purchaseType(request.getPurchaseType())
                 .priceInfo(request.getPriceInfo())
-                .keywords(request.getKeywords())
+                .keywords(keywordService.resolve(request.getKeywords()))
                 .imageUrl(request.getImageUrl())
                 .build();
 
@@ -72,6 +89,7 @@ public class IAPItemService {
             throw new DataNotFoundException("IAP 아이템을 찾을 수 없습니다. id=" + id);
         }
         iapItemRepository.deleteById(id);
+        tombstoneRepository.save(SyncTombstoneEntity.of(SyncTombstoneEntity.TYPE_IAP_ITEM, id));
     }
 
     private IAPItemResponse toResponse(IAPItemEntity entity) {
@@ -83,7 +101,7 @@ public class IAPItemService {
                 .priceInfo(entity.getPriceInfo())
                 .seasonId(entity.getSeason().getId())
                 .seasonName(entity.getSeason().getName())
-                .keywords(entity.getKeywords())
+                .keywords(entity.getKeywords() != null ? entity.getKeywordNames() : null)
                 .imageUrl(entity.getImageUrl())
                 .build();
     }
@@ -114,7 +132,8 @@ public class IAPItemService {
             item.setPriceInfo(request.getPriceInfo());
         }
         if (request.getKeywords() != null) {
-            item.setKeywords(request.getKeywords());
+            item.setKeywords(keywordService.resolve(request.getKeywords()));
+            item.markModified(); // 키워드만 바뀌어도 동기화 대상
         }
         if (request.getImageUrl() != null) {
             item.setImageUrl(request.getImageUrl());
@@ -0,0 +1,140 @@
+package com.springboot.board.application.service;
+
+import com.springboot.board.common.datasource.PrimaryReads;
+import com.springboot.board.common.datasource.ReplicationContext;
+import com.springboot.board.domain.entity.ImageOutboxEntity;
+import com.springboot.board.domain.repository.ImageOutboxRepository;
+import com.springboot.board.domain.repository.ImageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 원격 이미지 삭제 대기열(outbox) 관리
+ * 요청 스레드는 대기열에 기록만 하고, 실제 삭제는 ImageOutboxWorker가 수행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ImageOutboxService {
+
+    private final ImageOutboxRepository outboxRepository;
+    private final ImageRepository imageRepository;
+    private final PrimaryReads primaryReads;
+
+    @Value("${app.image-outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.image-outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.image-outbox.backoff-base-seconds:5}")
+    private long backoffBaseSeconds;
+
+    @Value("${app.image-outbox.backoff-max-seconds:3600}")
+    private long backoffMaxSeconds;
+
+    @Value("${app.image-outbox.lease-seconds:120}")
+    private long leaseSeconds;
+
+    /**
+     * 삭제 예약 (호출한 트랜잭션에 참여)
+     */
+    @Transactional
+    public void enqueueDeletion(String publicId) {
+        if (publicId == null || publicId.isBlank()) {
+            return;
+        }
+        outboxRepository.save(ImageOutboxEntity.builder()
+                .publicId(publicId)
+                .build());
+        log.debug("Image deletion enqueued: {}", publicId);
+    }
+
+    /**
+     * 삭제 예약 (독립 트랜잭션) - 업로드 후 롤백된 경우의 보상 처리용
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void enqueueDeletionInNewTransaction(String publicId) {
+        enqueueDeletion(publicId);
+    }
+
+    /**
+     * 처리할 항목이 있는지 (readOnly - replica에서 확인)
+     * 빈 대기열을 쓰기 트랜잭션으로 폴링하면 커밋마다 read-your-writes window가 열려 읽기가 primary로 몰린다.
+     * 아직 복제되지 않은 항목은 다음 주기에 처리된다.
+     */
+    public boolean hasDue() {
+        return outboxRepository.existsByStatusAndNextAttemptAtLessThanEqual(
+                ImageOutboxEntity.STATUS_PENDING, LocalDateTime.now());
+    }
+
+    /**
+     * 처리할 배치를 가져오고 lease 시간만큼 다음 시도를 미뤄둔다.
+     * 워커가 중간에 죽어도 lease가 지나면 다시 처리된다.
+     */
+    @Transactional
+    public List<ImageOutboxEntity> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ImageOutboxEntity> batch = outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                ImageOutboxEntity.STATUS_PENDING, now, PageRequest.of(0, batchSize));
+        for (ImageOutboxEntity item : batch) {
+            item.setNextAttemptAt(now.plusSeconds(leaseSeconds));
+        }
+        return batch;
+    }
+
+    /**
+     * 삭제 예약 이후 다시 참조된 키 (같은 내용이 재업로드된 경우) - 저장소에서 지우면 안 됨
+     * 방금 커밋된 참조를 놓치면 사용 중인 파일을 지우므로 primary에서 읽는다.
+     */
+    public Set<String> findStillReferenced(Collection<String> keys) {
+        try (ReplicationContext.Scope ignored = primaryReads.open()) {
+            return new HashSet<>(imageRepository.findReferencedFileNames(keys));
+        }
+    }
+
+    /**
+     * 처리 완료된 항목 제거
+     */
+    @Transactional
+    public void complete(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            outboxRepository.deleteAllByIdInBatch(ids);
+        }
+    }
+
+    /**
+     * 실패한 항목에 지수 백오프 적용, 최대 재시도 초과 시 FAILED 처리
+     */
+    @Transactional
+    public void fail(Collection<Long> ids, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        String message = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+
+        for (ImageOutboxEntity item : outboxRepository.findAllById(ids)) {
+            int attempts = item.getAttempts() + 1;
+            item.setAttempts(attempts);
+            item.setLastError(message);
+
+            if (attempts >= maxAttempts) {
+                item.setStatus(ImageOutboxEntity.STATUS_FAILED);
+                log.error("Image deletion gave up after {} attempts: {}", attempts, item.getPublicId());
+            } else {
+                long delay = Math.min(backoffBaseSeconds << Math.min(attempts - 1, 20), backoffMaxSeconds);
+                item.setNextAttemptAt(now.plusSeconds(delay));
+            }
+        }
+    }
+}
@@ -1,21 +1,47 @@
 package com.springboot.board.application.service;
 
-import com.cloudinary.Cloudinary;
-import com.cloudinary.utils.ObjectUtils;
+import com.springboot.board.api.v1.dto.response.ImageResponse;
+import com.springboot.board.application.image.ImageMetadata;
+import com.springboot.board.application.image.ImageNormalizer;
+import com.springboot.board.application.image.ImageProcessor;
+import com.springboot.board.application.image.ImageVariant;
+import com.springboot.board.application.image.NormalizedImage;
+import com.springboot.board.application.storage.ImageStorage;
+import com.springboot.board.application.storage.StoredImage;
 import com.springboot.board.common.exception.DataNotFoundException;
+import com.springboot.board.common.util.HashUtil;
+import com.springboot.board.domain.entity.ImageAssetEntity;
 import com.springboot.board.domain.entity.ImageEntity;
 import com.springboot.board.domain.entity.SoulEntity;
+import com.springboot.board.domain.entity.SyncTombstoneEntity;
+import com.springboot.board.domain.repository.ImageAssetRepository;
 import com.springboot.board.domain.repository.ImageRepository;
 import com.springboot.board.domain.repository.SoulRepository;
+import com.springboot.board.domain.repository.SyncTombstoneRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -23,199 +49,122 @@ import java.util.Map;
 @Transactional(readOnly = true)
 public class ImageService {
 
+    private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
+    private static final int MAX_CLAIM_ATTEMPTS = 3; // 같은 해시 동시 저장 충돌 시 재시도
+    // ImageProcessor(ImageIO)가 디코딩할 수 있는 래스터 형식만 - SVG 등은 저장소에서 그대로 서빙되면 스크립트가 실행된다
+    private static final Set<String> ALLOWED_CONTENT_TYPES = Set.of("image/jpeg", "image/jpg", "image/png", "image/gif");
+
     private final ImageRepository imageRepository;
+    private final ImageAssetRepository assetRepository;
     private final SoulRepository soulRepository;
-    private final Cloudinary cloudinary; // ✅ Cloudinary 주입
+    private final SyncTombstoneRepository tombstoneRepository;
+    private final ImageStorage imageStorage; // ✅ Cloudinary 또는 로컬 저장소
+    private final ImageOutboxService outboxService;
+    private final ImageProcessor imageProcessor;
+    private final ImageNormalizer imageNormalizer;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Soul 없이 이미지 업로드 (영혼 생성 시)
+     * 원격 업로드는 트랜잭션 밖에서 수행해 DB 커넥션을 붙잡지 않는다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ImageEntity uploadWithoutSoul(String imageType, MultipartFile file) throws IOException {
-        if (file.isEmpty()) {
-            throw new IllegalArgumentException("업로드할 파일이 없습니다.");
-        }
+        validate(file);
 
-        // 파일 크기 검증 (10MB)
-        long maxSize = 10 * 1024 * 1024;
-        if (file.getSize() > maxSize) {
-            throw new IllegalArgumentException("파일 크기가 너무 큽니다. 최대 10MB까지 허용됩니다.");
-        }
-
-        // 이미지 파일 형식 검증
-        String contentType = file.getContentType();
-        if (contentType == null || !contentType.startsWith("image/")) {
-            throw new IllegalArgumentException("이미지 파일만 업로드 가능합니다.");
-        }
-
-        log.info("Starting Cloudinary upload without soul - type: {}, file: {}", imageType, file.getOriginalFilename());
-
-        try {
-            // ✅ Cloudinary 업로드 (transformation 제거!)
-            Map uploadResult = cloudinary.uploader().upload(file.getBytes(), 
-                ObjectUtils.asMap(
-                    "folder", "sky-planner",
-                    "resource_type", "image",
-                    "quality", "auto:good",
-                    "fetch_format", "auto"
-                )
-            );
-
-            String cloudinaryUrl = (String) uploadResult.get("secure_url");
-            String publicId = (String) uploadResult.get("public_id");
-            
-            log.info("Cloudinary upload successful - URL: {}", cloudinaryUrl);
+        log.info("Starting image upload without soul - type: {}, file: {}", imageType, file.getOriginalFilename());
 
+        ImageEntity saved = persist(file, imageType, asset -> {
             // DB 엔티티 생성
             ImageEntity entity = ImageEntity.builder()
                     .soul(null)
                     .imageType(imageType.trim().toUpperCase())
-                    .fileName(publicId) // Cloudinary public_id 저장
-                    .url(cloudinaryUrl) // Cloudinary URL 저장
-                    .fileSize(file.getSize())
                     .uploadedAt(LocalDateTime.now())
                     .build();
+            applyAsset(entity, asset);
+            return imageRepository.save(entity);
+        });
+        log.info("Image saved successfully without soul - id: {}", saved.getId());
 
-            ImageEntity saved = imageRepository.save(entity);
-            log.info("Image saved successfully without soul - id: {}", saved.getId());
-
-            return saved;
-            
-        } catch (IOException e) {
-            log.error("Cloudinary upload failed: {}", e.getMessage());
-            throw new IOException("Cloudinary 업로드에 실패했습니다: " + e.getMessage());
-        }
+        return saved;
     }
 
     /**
      * 기존 메소드 (Soul과 함께 업로드)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ImageEntity upload(Integer soulId, String imageType, MultipartFile file) throws IOException {
-        if (file.isEmpty()) {
-            throw new IllegalArgumentException("업로드할 파일이 없습니다.");
-        }
-
-        // 파일 크기 검증
-        long maxSize = 10 * 1024 * 1024;
-        if (file.getSize() > maxSize) {
-            throw new IllegalArgumentException("파일 크기가 너무 큽니다. 최대 10MB까지 허용됩니다.");
-        }
+        validate(file);
 
-        // 이미지 파일 형식 검증
-        String contentType = file.getContentType();
-        if (contentType == null || !contentType.startsWith("image/")) {
-            throw new IllegalArgumentException("이미지 파일만 업로드 가능합니다.");
-        }
-
-        log.info("Starting Cloudinary upload - soulId: {}, type: {}, file: {}",
+        log.info("Starting image upload - soulId: {}, type: {}, file: {}",
                 soulId, imageType, file.getOriginalFilename());
 
-        // Soul 조회
-        SoulEntity soul = soulRepository.findById(soulId)
-                .orElseThrow(() -> new DataNotFoundException("영혼을 찾을 수 없습니다. id=" + soulId));
+        // Soul 존재 여부는 업로드 전에 확인
+        if (!soulRepository.existsById(soulId)) {
+            throw new DataNotFoundException("영혼을 찾을 수 없습니다. id=" + soulId);
+        }
 
-        try {
-            // ✅ Cloudinary 업로드 (transformation 제거!)
-            Map uploadResult = cloudinary.uploader().upload(file.getBytes(), 
-                ObjectUtils.asMap(
-                    "folder", "sky-planner",
-                    "resource_type", "image",
-                    "quality", "auto:good",
-                    "fetch_format", "auto"
-                )
-            );
-
-            String cloudinaryUrl = (String) uploadResult.get("secure_url");
-            String publicId = (String) uploadResult.get("public_id");
-            
-            log.info("Cloudinary upload successful - URL: {}", cloudinaryUrl);
+        ImageEntity saved = persist(file, imageType, asset -> {
+            SoulEntity soul = soulRepository.findById(soulId)
+                    .orElseThrow(() -> new DataNotFoundException("영혼을 찾을 수 없습니다. id=" + soulId));
 
             // DB 엔티티 생성
             ImageEntity entity = ImageEntity.builder()
                     .soul(soul)
                     .imageType(imageType.trim().toUpperCase())
-                    .fileName(publicId)
-                    .url(cloudinaryUrl)
-                    .fileSize(file.getSize())
                     .uploadedAt(LocalDateTime.now())
                     .build();
+            applyAsset(entity, asset);
+            return imageRepository.save(entity);
+        });
+        log.info("Image saved successfully - id: {}", saved.getId());
 
-            ImageEntity saved = imageRepository.save(entity);
-            log.info("Image saved successfully - id: {}", saved.getId());
-
-            return saved;
-            
-        } catch (IOException e) {
-            log.error("Cloudinary upload failed: {}", e.getMessage());
-            throw new IOException("Cloudinary 업로드에 실패했습니다: " + e.getMessage());
-        }
+        return saved;
     }
 
     /**
      * 이미지 교체
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ImageEntity replace(Long id, MultipartFile newFile) throws IOException {
         if (newFile.isEmpty()) {
             throw new IllegalArgumentException("교체할 파일이 없습니다.");
         }
+        validate(newFile);
 
-        ImageEntity existing = imageRepository.findById(id)
+        String imageType = imageRepository.findById(id)
+                .map(ImageEntity::getImageType)
                 .orElseThrow(() -> new IllegalArgumentException("이미지를 찾을 수 없습니다. id=" + id));
 
-        // ✅ 기존 Cloudinary 이미지 삭제
-        try {
-            cloudinary.uploader().destroy(existing.getFileName(), ObjectUtils.emptyMap());
-            log.info("Old Cloudinary image deleted: {}", existing.getFileName());
-        } catch (IOException e) {
-            log.warn("Failed to delete old Cloudinary image: {}", e.getMessage());
-        }
+        // ✅ 새 이미지 먼저 업로드 (실패 시 기존 이미지 유지)
+        ImageEntity replaced = persist(newFile, imageType, asset -> {
+            ImageEntity existing = imageRepository.findById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("이미지를 찾을 수 없습니다. id=" + id));
 
-        // ✅ 새 이미지 업로드
-        try {
-            Map uploadResult = cloudinary.uploader().upload(newFile.getBytes(), 
-                ObjectUtils.asMap(
-                    "folder", "sky-planner",
-                    "resource_type", "image",
-                    "quality", "auto:good",
-                    "fetch_format", "auto"
-                )
-            );
-
-            String cloudinaryUrl = (String) uploadResult.get("secure_url");
-            String publicId = (String) uploadResult.get("public_id");
+            // ✅ 기존 자산 참조 해제 (마지막 참조였으면 outbox로 삭제 예약)
+            releaseAsset(existing);
 
             // 엔티티 업데이트
-            existing.setFileName(publicId);
-            existing.setUrl(cloudinaryUrl);
-            existing.setFileSize(newFile.getSize());
+            applyAsset(existing, asset);
             existing.setUploadedAt(LocalDateTime.now());
+            return imageRepository.save(existing);
+        });
 
-            log.info("Image replaced successfully - new URL: {}", cloudinaryUrl);
-            return existing;
-            
-        } catch (IOException e) {
-            log.error("Cloudinary upload failed: {}", e.getMessage());
-            throw new IOException("Cloudinary 업로드에 실패했습니다: " + e.getMessage());
-        }
+        log.info("Image replaced successfully - new URL: {}", replaced.getUrl());
+        return replaced;
     }
 
     /**
      * 이미지 삭제 (ID 기반)
+     * 저장소 삭제는 outbox에 기록만 하고 워커가 비동기로 처리
      */
     @Transactional
-    public void delete(Long id) throws IOException {
+    public void delete(Long id) {
         ImageEntity img = imageRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("이미지를 찾을 수 없습니다. id=" + id));
 
-        // ✅ Cloudinary에서 삭제
-        try {
-            cloudinary.uploader().destroy(img.getFileName(), ObjectUtils.emptyMap());
-            log.info("Cloudinary image deleted: {}", img.getFileName());
-        } catch (IOException e) {
-            log.error("Failed to delete from Cloudinary: {}", e.getMessage());
-        }
+        releaseAsset(img);
+        recordDeletion(img);
 
         // DB 삭제
         imageRepository.delete(img);
@@ -223,23 +172,36 @@ public class ImageService {
     }
 
     /**
-     * URL 기반 삭제
+     * URL 기반 삭제 - 중복 제거로 같은 URL을 여러 이미지가 공유하므로 영혼까지 맞는 행만 지운다
+     * soulId가 없으면 미연결 이미지(soul=null)를 찾고, 없을 때는 URL을 쓰는 이미지가 하나뿐일 때만 지운다.
      */
     @Transactional
-    public void deleteByUrl(String url) throws IOException {
-        // URL에서 public_id 추출
-        String publicId = extractPublicIdFromUrl(url);
-        
-        ImageEntity img = imageRepository.findByFileName(publicId)
-                .orElseThrow(() -> new IllegalArgumentException("이미지를 찾을 수 없습니다. url=" + url));
-
-        // ✅ Cloudinary에서 삭제
-        try {
-            cloudinary.uploader().destroy(publicId, ObjectUtils.emptyMap());
-            log.info("Cloudinary image deleted: {}", publicId);
-        } catch (IOException e) {
-            log.error("Failed to delete from Cloudinary: {}", e.getMessage());
+    public void deleteByUrl(Integer soulId, String url) {
+        // URL에서 저장소 키 추출 (인덱스 조회 후 URL/영혼으로 거른다)
+        String key = imageStorage.keyFromUrl(url);
+        List<ImageEntity> sameUrl = imageRepository.findAllByFileName(key).stream()
+                .filter(img -> url.equals(img.getUrl()))
+                .toList();
+
+        List<ImageEntity> candidates = sameUrl.stream()
+                .filter(img -> soulId == null
+                        ? img.getSoul() == null
+                        : img.getSoul() != null && soulId.equals(img.getSoul().getId()))
+                .toList();
+        if (candidates.isEmpty() && soulId == null && sameUrl.size() == 1) {
+            candidates = sameUrl;
+        }
+        if (candidates.isEmpty()) {
+            throw new IllegalArgumentException("이미지를 찾을 수 없습니다. url=" + url);
+        }
+        // 미연결 이미지끼리는 같은 자산을 가리키므로 어느 것을 지워도 같다
+        if (candidates.size() > 1 && soulId != null) {
+            throw new IllegalArgumentException("같은 URL의 이미지가 여러 개입니다. id로 삭제하세요. url=" + url);
         }
+        ImageEntity img = candidates.get(0);
+
+        releaseAsset(img);
+        recordDeletion(img);
 
         // DB 삭제
         imageRepository.delete(img);
@@ -247,29 +209,340 @@ public class ImageService {
     }
 
     /**
-     * Cloudinary URL에서 public_id 추출
-     * 예: https://res.cloudinary.com/demo/image/upload/v1234567890/sky-planner/abc123.jpg
-     * -> sky-planner/abc123
+     * 영혼 생성 전에 올린 이미지(soul=null)를 영혼에 연결
+     * 업로드 응답의 id로 연결하고, id가 없으면 URL마다 미연결 행 하나만 가져온다.
+     * 중복 제거로 같은 URL을 다른 업로드나 IAP 아이템이 함께 쓸 수 있어 URL로 전부 가져오지 않는다.
+     */
+    @Transactional
+    public void attachToSoul(SoulEntity soul, Collection<PendingImage> images) {
+        if (images == null || images.isEmpty()) {
+            return;
+        }
+        Set<Long> attachedIds = soul.getImages().stream()
+                .map(ImageEntity::getId)
+                .collect(Collectors.toCollection(HashSet::new));
+        Set<String> attachedUrls = soul.getImages().stream()
+                .map(ImageEntity::getUrl)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        List<String> urls = images.stream()
+                .filter(image -> image.id() == null && image.url() != null && !attachedUrls.contains(image.url()))
+                .map(PendingImage::url)
+                .distinct()
+                .toList();
+        Map<String, List<ImageEntity>> candidatesByUrl = urls.isEmpty() ? Map.of()
+                : imageRepository.findAttachableByUrls(urls).stream()
+                        .collect(Collectors.groupingBy(ImageEntity::getUrl, Collectors.toCollection(ArrayList::new)));
+
+        for (PendingImage image : images) {
+            // 수정 요청은 이미 연결된 이미지도 함께 보낸다
+            if (image.id() != null ? attachedIds.contains(image.id()) : attachedUrls.contains(image.url())) {
+                continue;
+            }
+            ImageEntity img = image.id() != null
+                    ? findAttachable(image).orElse(null)
+                    : takeCandidate(candidatesByUrl.get(image.url()), image.imageType());
+            if (img == null) {
+                log.warn("No unattached image to attach - soulId: {}, id: {}, url: {}", soul.getId(), image.id(), image.url());
+                continue;
+            }
+            if (image.imageType() != null && !image.imageType().isBlank()) {
+                img.setImageType(image.imageType().trim().toUpperCase());
+            }
+            img.setSoul(soul);
+            soul.getImages().add(img);
+            attachedIds.add(img.getId());
+            attachedUrls.add(img.getUrl());
+        }
+    }
+
+    private Optional<ImageEntity> findAttachable(PendingImage image) {
+        return imageRepository.findById(image.id())
+                .filter(img -> img.getSoul() == null)
+                .filter(img -> image.url() == null || image.url().equals(img.getUrl()));
+    }
+
+    /**
+     * 같은 URL의 후보 중 하나만 꺼낸다 (타입이 같은 행 우선)
+     */
+    private ImageEntity takeCandidate(List<ImageEntity> candidates, String imageType) {
+        if (candidates == null || candidates.isEmpty()) {
+            return null;
+        }
+        int index = 0;
+        if (imageType != null) {
+            for (int i = 0; i < candidates.size(); i++) {
+                if (imageType.trim().equalsIgnoreCase(candidates.get(i).getImageType())) {
+                    index = i;
+                    break;
+                }
+            }
+        }
+        return candidates.remove(index);
+    }
+
+    /**
+     * 영혼에 연결할 업로드 이미지 (id는 업로드 응답의 id, 없으면 url로 찾는다)
+     */
+    public record PendingImage(Long id, String imageType, String url) {
+    }
+
+    /**
+     * 증분 동기화 - since 이후 생성/수정된 영혼 이미지 (null이면 전체, 미연결 이미지 제외)
+     */
+    public List<ImageResponse> getSoulImagesModifiedAfter(LocalDateTime since) {
+        return ImageResponse.fromEntities(since == null
+                ? imageRepository.findBySoulIsNotNull()
+                : imageRepository.findBySoulIsNotNullAndModifiedDateAfter(since));
+    }
+
+    /**
+     * 유예 기간이 지난 미연결 이미지 한 배치 삭제 (저장소 삭제는 outbox)
+     * 미연결 이미지는 동기화 대상이 아니므로 삭제 기록을 남기지 않는다.
+     */
+    @Transactional
+    public OrphanSweepResult deleteOrphans(LocalDateTime cutoff, int batchSize) {
+        List<ImageEntity> orphans = imageRepository.findOrphans(cutoff, PageRequest.of(0, batchSize));
+
+        long reclaimedBytes = 0;
+        for (ImageEntity img : orphans) {
+            if (releaseAsset(img) && img.getFileSize() != null) {
+                reclaimedBytes += img.getFileSize();
+            }
+        }
+        imageRepository.deleteAllInBatch(orphans);
+
+        if (!orphans.isEmpty()) {
+            log.info("Orphan images deleted - count: {}, reclaimed bytes: {}", orphans.size(), reclaimedBytes);
+        }
+        return new OrphanSweepResult(orphans.size(), reclaimedBytes);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class OrphanSweepResult {
+        private final int count;
+        private final long reclaimedBytes; // 저장소에서 실제로 삭제 예약된 바이트 (공유 자산 제외)
+    }
+
+    /**
+     * 영혼 삭제 등으로 함께 지워지는 이미지들의 자산 참조 해제
      */
-    private String extractPublicIdFromUrl(String url) {
-        // "upload/" 이후 부분 추출
-        int uploadIndex = url.indexOf("/upload/");
-        if (uploadIndex == -1) {
-            return url.substring(url.lastIndexOf('/') + 1);
+    @Transactional
+    public void releaseAll(Collection<ImageEntity> images) {
+        if (images != null) {
+            images.forEach(this::releaseAsset);
         }
-        
-        String afterUpload = url.substring(uploadIndex + 8); // "/upload/" 길이만큼 건너뜀
-        
-        // 버전 정보 제거 (v1234567890/)
-        int versionEnd = afterUpload.indexOf('/', afterUpload.indexOf('/') + 1);
-        if (versionEnd == -1) {
-            versionEnd = afterUpload.indexOf('/', 1);
+    }
+
+    /**
+     * 영혼에 연결된 이미지만 동기화 대상이라 삭제 기록도 그때만 남긴다
+     */
+    private void recordDeletion(ImageEntity img) {
+        if (img.getSoul() != null) {
+            tombstoneRepository.save(SyncTombstoneEntity.of(SyncTombstoneEntity.TYPE_IMAGE, img.getId()));
+        }
+    }
+
+    private void validate(MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 파일이 없습니다.");
+        }
+
+        // 파일 크기 검증 (10MB)
+        if (file.getSize() > MAX_FILE_SIZE) {
+            throw new IllegalArgumentException("파일 크기가 너무 큽니다. 최대 10MB까지 허용됩니다.");
+        }
+
+        // 이미지 파일 형식 검증 (JPEG, PNG, GIF)
+        String contentType = file.getContentType();
+        if (contentType == null || !ALLOWED_CONTENT_TYPES.contains(contentType.toLowerCase(Locale.ROOT))) {
+            throw new IllegalArgumentException("JPEG, PNG, GIF 이미지만 업로드 가능합니다.");
+        }
+    }
+
+    /**
+     * 내용 해시(SHA-256)로 기존 자산을 찾고, 없을 때만 정규화 후 저장소에 업로드 (트랜잭션 밖)
+     * 해시는 업로드 원본 기준이라 중복 파일은 디코딩 없이 재사용된다.
+     *
+     * @param reuse false면 기존 자산을 찾지 않고 항상 업로드
+     */
+    private PreparedAsset prepareAsset(MultipartFile file, String imageType, boolean reuse) throws IOException {
+        byte[] content = file.getBytes();
+        String hash = HashUtil.sha256Hex(content);
+
+        Optional<ImageAssetEntity> existing = reuse ? assetRepository.findByContentHash(hash) : Optional.empty();
+        if (existing.isPresent()) {
+            log.info("Duplicate image reused - hash: {}, key: {}", hash, existing.get().getFileName());
+            return new PreparedAsset(existing.get(), false);
+        }
+
+        // 축소/재인코딩 후 크기/LQIP 추출, 원본과 반응형 변형 저장
+        NormalizedImage normalized = imageNormalizer.normalize(content, file.getContentType(), imageType);
+        if (normalized.getImage() == null) {
+            // Content-Type만 이미지이고 내용은 디코딩되지 않는 파일 (SVG, HTML 등)
+            throw new IllegalArgumentException("이미지 파일을 읽을 수 없습니다.");
+        }
+        ImageMetadata metadata = imageProcessor.analyze(normalized.getImage());
+        StoredImage stored = store(normalized.getContent(), normalized.getContentType());
+        Map<ImageVariant, String> variants = Map.of();
+        try {
+            variants = imageStorage.storeVariants(stored, metadata.getImage());
+        } catch (RuntimeException e) {
+            // 변형은 없어도 원본으로 서비스 가능
+            log.warn("Image variants skipped - key: {}, reason: {}", stored.getKey(), e.getMessage());
+        }
+
+        ImageAssetEntity asset = ImageAssetEntity.builder()
+                .contentHash(hash)
+                .fileName(stored.getKey())
+                .url(stored.getUrl())
+                .fileSize(stored.getSize())
+                .width(metadata.getWidth())
+                .height(metadata.getHeight())
+                .placeholder(metadata.getPlaceholder())
+                .thumbnailUrl(variants.get(ImageVariant.THUMBNAIL))
+                .mediumUrl(variants.get(ImageVariant.MEDIUM))
+                .refCount(1)
+                .build();
+        return new PreparedAsset(asset, true);
+    }
+
+    /**
+     * 자산 준비(트랜잭션 밖) 후 저장
+     * 재사용하려던 자산이 그 사이 마지막 참조 해제로 지워졌으면 새로 업로드해서 다시 저장한다.
+     * (replica가 삭제를 아직 못 봤을 수 있어 다시 조회하지 않는다)
+     */
+    private ImageEntity persist(MultipartFile file, String imageType, Function<ImageAssetEntity, ImageEntity> action)
+            throws IOException {
+        boolean reuse = true;
+        for (int attempt = 1; ; attempt++) {
+            PreparedAsset prepared = prepareAsset(file, imageType, reuse);
+            try {
+                return persist(prepared, action);
+            } catch (AssetReleasedException e) {
+                if (attempt >= MAX_CLAIM_ATTEMPTS) {
+                    throw new IllegalStateException("이미지 자산을 확보하지 못했습니다. hash=" + e.getHash(), e);
+                }
+                log.info("Reused image asset was released concurrently - uploading again, hash: {}", e.getHash());
+                reuse = false;
+            }
+        }
+    }
+
+    /**
+     * 자산 참조 확보와 엔티티 저장을 짧은 트랜잭션 하나로 처리
+     * 같은 내용이 동시에 올라와 content_hash 유니크 키에서 지면 다시 시도한다 (이번에는 먼저 저장된 자산을 재사용).
+     * 실패하면 방금 올린 원격 파일은 outbox로 삭제 예약
+     */
+    private ImageEntity persist(PreparedAsset prepared, Function<ImageAssetEntity, ImageEntity> action) {
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return transactionTemplate.execute(status -> action.apply(claimAsset(prepared)));
+                } catch (DataIntegrityViolationException e) {
+                    String hash = prepared.getAsset().getContentHash();
+                    if (attempt >= MAX_CLAIM_ATTEMPTS || assetRepository.findByContentHash(hash).isEmpty()) {
+                        throw e;
+                    }
+                    log.info("Concurrent upload of the same image - reusing asset, hash: {}", hash);
+                }
+            }
+        } catch (RuntimeException e) {
+            if (prepared.isUploaded()) {
+                outboxService.enqueueDeletionInNewTransaction(prepared.getAsset().getFileName());
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 같은 해시의 자산이 이미 있으면 참조 수만 올리고, 없으면 새 자산 저장
+     */
+    private ImageAssetEntity claimAsset(PreparedAsset prepared) {
+        ImageAssetEntity asset = prepared.getAsset();
+        String hash = asset.getContentHash();
+
+        if (assetRepository.incrementRefCount(hash) > 0) {
+            ImageAssetEntity current = assetRepository.findByContentHash(hash)
+                    .orElseThrow(() -> new IllegalStateException("이미지 자산을 찾을 수 없습니다. hash=" + hash));
+            // 동시에 같은 이미지가 먼저 저장된 경우 우리가 올린 파일은 정리
+            if (prepared.isUploaded() && !current.getFileName().equals(asset.getFileName())) {
+                outboxService.enqueueDeletion(asset.getFileName());
+            }
+            return current;
+        }
+
+        if (!prepared.isUploaded()) {
+            // 재사용하려던 자산이 조회 이후 삭제됨 - 파일 삭제가 이미 outbox에 예약됐으므로 같은 키로 되살리지 않는다
+            throw new AssetReleasedException(hash);
+        }
+
+        // 새로 올린 자산 저장
+        asset.setId(null);
+        asset.setRefCount(1);
+        return assetRepository.save(asset);
+    }
+
+    @Getter
+    private static class AssetReleasedException extends RuntimeException {
+        private final String hash;
+
+        AssetReleasedException(String hash) {
+            super("Image asset released before it could be claimed: " + hash);
+            this.hash = hash;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class PreparedAsset {
+        private final ImageAssetEntity asset;
+        private final boolean uploaded; // 이번 요청에서 저장소에 새로 올렸는지 여부
+    }
+
+    private void applyAsset(ImageEntity entity, ImageAssetEntity asset) {
+        entity.setFileName(asset.getFileName()); // 저장소 키 (Cloudinary public_id)
+        entity.setUrl(asset.getUrl());
+        entity.setFileSize(asset.getFileSize());
+        entity.setContentHash(asset.getContentHash());
+        entity.setWidth(asset.getWidth());
+        entity.setHeight(asset.getHeight());
+        entity.setPlaceholder(asset.getPlaceholder());
+        entity.setThumbnailUrl(asset.getThumbnailUrl());
+        entity.setMediumUrl(asset.getMediumUrl());
+    }
+
+    /**
+     * 자산 참조 해제 - 마지막 참조였으면 저장소 삭제를 outbox에 예약
+     *
+     * @return 저장소 삭제가 예약되었는지 여부
+     */
+    private boolean releaseAsset(ImageEntity img) {
+        String hash = img.getContentHash();
+        if (hash == null) {
+            // 중복 제거 도입 전 데이터는 단독 소유
+            outboxService.enqueueDeletion(img.getFileName());
+            return true;
+        }
+
+        assetRepository.decrementRefCount(hash);
+        if (assetRepository.deleteIfUnreferenced(hash) > 0) {
+            outboxService.enqueueDeletion(img.getFileName());
+            return true;
+        }
+        return false;
+    }
+
+    private StoredImage store(byte[] content, String contentType) throws IOException {
+        StoredImage stored;
+        try {
+            stored = imageStorage.store(content, contentType);
+        } catch (IOException e) {
+            log.error("Image upload failed: {}", e.getMessage());
+            throw new IOException("이미지 업로드에 실패했습니다: " + e.getMessage());
         }
-        
-        String pathWithExt = afterUpload.substring(versionEnd + 1);
-        
-        // 확장자 제거
-        int dotIndex = pathWithExt.lastIndexOf('.');
-        return dotIndex == -1 ? pathWithExt : pathWithExt.substring(0, dotIndex);
+        log.info("Image upload successful - URL: {}", stored.getUrl());
+        return stored;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,124 @@
+package com.springboot.board.application.service;
+
+import com.springboot.board.api.v1.dto.response.KeywordFacetResponse;
+import com.springboot.board.api.v1.dto.response.KeywordFilterResponse;
+import com.springboot.board.api.v1.dto.response.KeywordResponse;
+import com.springboot.board.application.search.KeywordBitmapIndex;
+import com.springboot.board.application.search.KeywordBitmapIndex.Target;
+import com.springboot.board.application.search.KeywordQuery;
+import com.springboot.board.domain.entity.KeywordEntity;
+import com.springboot.board.domain.repository.KeywordRepository;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class KeywordService {
+
+    private final KeywordRepository keywordRepository;
+    private final KeywordBitmapIndex index;
+
+    /**
+     * 키워드 이름 → 사전 엔티티 (없으면 새로 추가, 입력 순서 유지, 공백/중복 제거)
+     */
+    @Transactional
+    public List<KeywordEntity> resolve(List<String> names) {
+        if (names == null) {
+            return new ArrayList<>();
+        }
+        Set<String> normalized = names.stream()
+                .filter(name -> name != null && !name.isBlank())
+                .map(String::trim)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (normalized.isEmpty()) {
+            return new ArrayList<>();
+        }
+        for (String name : normalized) {
+            if (name.length() > KeywordEntity.MAX_LENGTH) {
+                throw new IllegalArgumentException("키워드는 " + KeywordEntity.MAX_LENGTH + "자 이하여야 합니다. keyword=" + name);
+            }
+        }
+
+        Map<String, KeywordEntity> existing = keywordRepository.findByNameIn(normalized).stream()
+                .collect(Collectors.toMap(KeywordEntity::getName, Function.identity()));
+        List<KeywordEntity> keywords = new ArrayList<>(normalized.size());
+        for (String name : normalized) {
+            KeywordEntity keyword = existing.get(name);
+            keywords.add(keyword != null ? keyword : keywordRepository.save(KeywordEntity.of(name)));
+        }
+        return keywords;
+    }
+
+    /**
+     * 키워드 사전 전체와 키워드별 영혼/아이템 수 (수는 비트맵 인덱스 기준)
+     */
+    public List<KeywordResponse> getKeywords() {
+        return keywordRepository.findAll().stream()
+                .sorted(Comparator.comparing(KeywordEntity::getName))
+                .map(keyword -> KeywordResponse.builder()
+                        .id(keyword.getId())
+                        .name(keyword.getName())
+                        .soulCount(index.count(Target.SOULS, keyword.getName()))
+                        .itemCount(index.count(Target.ITEMS, keyword.getName()))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * "hair AND cape OR mask" 형식 필터 - DB 조회 없이 비트맵 인덱스로만 계산
+     * 키워드 이름은 정확히 일치해야 한다 (대소문자 구분).
+     */
+    public KeywordFilterResponse filter(String query, String target, int page, int size, int facetLimit) {
+        KeywordQuery parsed = KeywordQuery.parse(query);
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("키워드 필터식이 비어 있습니다.");
+        }
+        if (page < 0 || size <= 0) {
+            throw new IllegalArgumentException("잘못된 페이지입니다. page=" + page + ", size=" + size);
+        }
+        Target resolvedTarget = switch (target == null ? "souls" : target.toLowerCase()) {
+            case "souls" -> Target.SOULS;
+            case "items" -> Target.ITEMS;
+            default -> throw new IllegalArgumentException("target은 souls 또는 items 입니다. target=" + target);
+        };
+
+        RoaringBitmap matched = index.evaluate(resolvedTarget, parsed);
+        int total = matched.getCardinality();
+        List<Long> ids = new ArrayList<>();
+        long offset = (long) page * size;
+        if (offset < total) {
+            // 비트맵은 id 오름차순 - offset번째 값으로 건너뛴 뒤 size개
+            PeekableIntIterator it = matched.getIntIterator();
+            it.advanceIfNeeded(matched.select((int) offset));
+            while (it.hasNext() && ids.size() < size) {
+                ids.add((long) it.next());
+            }
+        }
+        List<KeywordFacetResponse> facets = facetLimit > 0
+                ? index.facets(resolvedTarget, matched, facetLimit)
+                : List.of();
+
+        return KeywordFilterResponse.builder()
+                .query(query)
+                .target(resolvedTarget == Target.SOULS ? "souls" : "items")
+                .total(total)
+                .page(page)
+                .size(size)
+                .ids(ids)
+                .facets(facets)
+                .build();
+    }
+}
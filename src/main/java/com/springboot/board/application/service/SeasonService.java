@@ -5,13 +5,17 @@ import com.springboot.board.api.v1.dto.request.SeasonUpdateRequest;
 import com.springboot.board.api.v1.dto.response.SeasonResponse;
 import com.springboot.board.common.exception.DataNotFoundException;
 import com.springboot.board.domain.entity.SeasonEntity;
+import com.springboot.board.domain.entity.SyncTombstoneEntity;
 import com.springboot.board.domain.repository.IAPItemRepository;
 import com.springboot.board.domain.repository.SeasonRepository;
 import com.springboot.board.domain.repository.SoulRepository;
+import com.springboot.board.domain.repository.SyncTombstoneRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,10 +29,23 @@ public class SeasonService {
     private final SeasonRepository seasonRepository;
     private final SoulRepository soulRepository;
     private final IAPItemRepository iapItemRepository;
+    private final SyncTombstoneRepository tombstoneRepository;
 
     public List<SeasonResponse> getAllSeasons() {
-        List<SeasonEntity> seasons = seasonRepository.findAllByOrderByOrderNumAsc();
+        return toResponses(seasonRepository.findAllByOrderByOrderNumAsc());
+    }
+
+    /**
+     * 증분 동기화 - since 이후 생성/수정된 시즌 (null이면 전체)
+     */
+    public List<SeasonResponse> getSeasonsModifiedAfter(LocalDateTime since) {
+        List<SeasonEntity> seasons = since == null
+                ? seasonRepository.findAllByOrderByOrderNumAsc()
+                : seasonRepository.findByModifiedDateAfter(since);
+        return seasons.isEmpty() ? new ArrayList<>() : toResponses(seasons);
+    }
 
+    private List<SeasonResponse> toResponses(List<SeasonEntity> seasons) {
         // 영혼 개수 조회
         List<Map<String, Object>> soulCounts = soulRepository.countBySeasonGrouped();
         Map<Integer, Long> soulCountMap = new HashMap<>();
@@ -93,6 +110,7 @@ public class SeasonService {
             throw new DataNotFoundException("시즌을 찾을 수 없습니다. id=" + id);
         }
         seasonRepository.deleteById(id);
+        tombstoneRepository.save(SyncTombstoneEntity.of(SyncTombstoneEntity.TYPE_SEASON, id));
     }
 
     private SeasonResponse toResponse(SeasonEntity entity, Map<Integer, Long> soulCountMap) {
@@ -1,17 +1,25 @@
 package com.springboot.board.application.service;
 
 import com.springboot.board.api.v1.dto.request.SoulCreateRequest;
+import com.springboot.board.api.v1.dto.request.SoulFacetRequest;
 import com.springboot.board.api.v1.dto.request.SoulUpdateRequest;
 import com.springboot.board.api.v1.dto.response.ImageResponse;
+import com.springboot.board.api.v1.dto.response.SoulBatchResponse;
+import com.springboot.board.api.v1.dto.response.SoulFacetResponse;
 import com.springboot.board.api.v1.dto.response.SoulResponse;
 import com.springboot.board.application.mapper.SoulMapper;
+import com.springboot.board.application.search.SoulFacetIndex;
 import com.springboot.board.common.exception.DataNotFoundException;
+import com.springboot.board.common.response.FieldSelection;
 import com.springboot.board.domain.entity.ImageEntity;
 import com.springboot.board.domain.entity.SeasonEntity;
 import com.springboot.board.domain.entity.SoulEntity;
+import com.springboot.board.domain.entity.SyncTombstoneEntity;
 import com.springboot.board.domain.entity.TravelingVisitEntity;
 import com.springboot.board.domain.repository.SeasonRepository;
 import com.springboot.board.domain.repository.SoulRepository;
+import com.springboot.board.domain.repository.SoulVisitStats;
+import com.springboot.board.domain.repository.SyncTombstoneRepository;
 import com.springboot.board.domain.repository.TravelingVisitRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
@@ -19,6 +27,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -27,10 +36,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class SoulService {
+    private static final int ID_CHUNK_SIZE = 500; // IN (...) 한 번에 넣는 id 수
+    private static final FieldSelection SYNC_FIELDS = FieldSelection.parse(
+            "seasonId,seasonName,seasonColor,name,orderNum,startDate,endDate,rerunCount,keywords,creator,"
+                    + "description,seasonGuide,totalVisits,hasVisitedAsTS,lastVisitDate");
+
     private final TravelingVisitRepository travelingVisitRepository;
     private final SoulRepository soulRepository;
     private final SeasonRepository seasonRepository;
+    private final ImageService imageService;
     private final SoulMapper mapper;
+    private final KeywordService keywordService;
+    private final SoulFacetIndex facetIndex;
+    private final SyncTombstoneRepository tombstoneRepository;
 
     /**
      * 영혼 생성
@@ -44,9 +62,19 @@ public class SoulService {
         // 2. Entity 변환
         SoulEntity entity = mapper.toEntity(req);
         entity.setSeason(season);
+        if (req.getKeywords() != null) {
+            entity.setKeywords(keywordService.resolve(req.getKeywords()));
+        }
 
         // 3. 저장
         SoulEntity saved = soulRepository.save(entity);
+
+        // 4. 생성 전에 올려둔 이미지 연결
+        if (req.getImages() != null) {
+            imageService.attachToSoul(saved, req.getImages().stream()
+                    .map(info -> new ImageService.PendingImage(info.getId(), info.getImageType(), info.getUrl()))
+                    .collect(Collectors.toList()));
+        }
         return mapper.toResponse(saved);
     }
 
@@ -90,7 +118,8 @@ public class SoulService {
         
         // 키워드 리스트 업데이트
         if (req.getKeywords() != null) {
-            entity.setKeywords(req.getKeywords());
+            entity.setKeywords(keywordService.resolve(req.getKeywords()));
+            entity.markModified(); // 키워드만 바뀌어도 동기화 대상
         }
         
         if (req.getCreator() != null) {
@@ -105,6 +134,13 @@ public class SoulService {
             entity.setSeasonGuide(req.getIsSeasonGuide());
         }
 
+        // 수정 중 새로 올린 이미지 연결
+        if (req.getImages() != null) {
+            imageService.attachToSoul(entity, req.getImages().stream()
+                    .map(info -> new ImageService.PendingImage(info.getId(), info.getImageType(), info.getUrl()))
+                    .collect(Collectors.toList()));
+        }
+
         return mapper.toResponse(entity);
     }
 
@@ -113,23 +149,36 @@ public class SoulService {
      */
     @Transactional
     public void deleteSoul(Integer id) {
-        if (!soulRepository.existsById(id)) {
-            throw new DataNotFoundException("영혼을 찾을 수 없습니다. id=" + id);
-        }
-        soulRepository.deleteById(id);
+        SoulEntity soul = soulRepository.findById(id)
+                .orElseThrow(() -> new DataNotFoundException("영혼을 찾을 수 없습니다. id=" + id));
+
+        // 이미지는 cascade로 삭제되므로 공유 자산 참조를 먼저 해제
+        imageService.releaseAll(soul.getImages());
+
+        // cascade로 함께 지워지는 이미지/유랑 기록도 삭제 기록을 남긴다
+        List<SyncTombstoneEntity> tombstones = new ArrayList<>();
+        tombstones.add(SyncTombstoneEntity.of(SyncTombstoneEntity.TYPE_SOUL, soul.getId()));
+        soul.getImages().forEach(img -> tombstones.add(SyncTombstoneEntity.of(SyncTombstoneEntity.TYPE_IMAGE, img.getId())));
+        soul.getTravelingVisits().forEach(visit -> tombstones.add(
+                SyncTombstoneEntity.of(SyncTombstoneEntity.TYPE_TRAVELING_VISIT, visit.getId())));
+        tombstoneRepository.saveAll(tombstones);
+
+        soulRepository.delete(soul);
     }
 
     /**
      * 영혼 단건 조회
      */
-    public SoulResponse getSoul(Integer id) {
-        SoulEntity soul = soulRepository
-                .findWithImagesById(id)
+    public SoulResponse getSoul(Integer id, FieldSelection fields) {
+        Optional<SoulEntity> found = fields.includes("images")
+                ? soulRepository.findWithImagesById(id)
+                : soulRepository.findById(id);
+        SoulEntity soul = found
                 .orElseThrow(() -> new DataNotFoundException("영혼을 찾을 수 없습니다. id=" + id));
-        return mapper.toResponse(soul);
+        return toResponses(List.of(soul), fields).get(0);
     }
 
-public Page<SoulResponse> getSouls(int page, int size, String seasonName, String query) {
+public Page<SoulResponse> getSouls(int page, int size, String seasonName, String query, FieldSelection fields) {
     Pageable pageable = PageRequest.of(page, size, Sort.by("orderNum").ascending());
     Page<SoulEntity> soulPage;
 
@@ -150,17 +199,74 @@ public Page<SoulResponse> getSouls(int page, int size, String seasonName, String
         soulPage = soulRepository.findAllWithSeason(pageable);
     }
 
-    return soulPage.map(mapper::toResponse);
+    return new PageImpl<>(toResponses(soulPage.getContent(), fields), soulPage.getPageable(), soulPage.getTotalElements());
 }
     /**
-     * 모든 영혼 조회 (내림차순)
+     * 패싯 필터 - 시즌/가이드/제작자/방문 여부/유랑단/방문 수/키워드 조합과 항목별 건수 (메모리 스냅샷, DB 조회 없음)
      */
-    public List<SoulResponse> getAllSouls() {
-        return soulRepository.findAll(
-                Sort.by(Sort.Order.desc("startDate"), Sort.Order.desc("name")))
-                .stream()
-                .map(mapper::toResponse)
+    public SoulFacetResponse getSoulFacets(SoulFacetRequest request) {
+        return facetIndex.search(request);
+    }
+
+    /**
+     * 영혼 다건 조회 - 요청한 id 순서를 유지하고, 없는 id는 실패 대신 missingIds로 돌려준다.
+     * 연관관계는 종류별로 IN 쿼리 1번씩(ID_CHUNK_SIZE 단위)이라 쿼리 수가 id 개수에 비례하지 않는다.
+     */
+    public SoulBatchResponse getSoulsByIds(List<Integer> ids, FieldSelection fields) {
+        List<Integer> requested = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
                 .collect(Collectors.toList());
+
+        Map<Integer, SoulEntity> found = new HashMap<>();
+        for (List<Integer> chunk : chunks(requested)) {
+            soulRepository.findAllWithSeasonByIdIn(chunk).forEach(soul -> found.put(soul.getId(), soul));
+            // 같은 영속성 컨텍스트의 엔티티에 컬렉션을 채워 넣는다 (반환값은 사용하지 않음)
+            if (fields.includes("images")) {
+                soulRepository.fetchImagesByIdIn(chunk);
+            }
+            if (fields.includes("travelingVisits")) {
+                soulRepository.fetchTravelingVisitsByIdIn(chunk);
+            }
+            if (fields.includes("keywords")) {
+                soulRepository.fetchKeywordsByIdIn(chunk);
+            }
+        }
+
+        List<SoulEntity> souls = new ArrayList<>();
+        List<Integer> missingIds = new ArrayList<>();
+        for (Integer id : requested) {
+            SoulEntity soul = found.get(id);
+            if (soul != null) {
+                souls.add(soul);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        return SoulBatchResponse.builder()
+                .souls(toResponses(souls, fields))
+                .missingIds(missingIds)
+                .build();
+    }
+
+    /**
+     * 증분 동기화 - since 이후 생성/수정된 영혼 (null이면 전체)
+     * images/travelingVisits는 동기화 응답에 따로 내려가므로 제외하고, 나머지는 다건 조회와 같은 IN 배치로 로딩
+     */
+    public List<SoulResponse> getSoulsModifiedAfter(LocalDateTime since) {
+        List<Integer> ids = since == null
+                ? soulRepository.findAllIds()
+                : soulRepository.findIdsModifiedAfter(since);
+        return ids.isEmpty() ? new ArrayList<>() : getSoulsByIds(ids, SYNC_FIELDS).getSouls();
+    }
+
+    /**
+     * 모든 영혼 조회 (내림차순)
+     */
+    public List<SoulResponse> getAllSouls(FieldSelection fields) {
+        return toResponses(soulRepository.findAll(
+                Sort.by(Sort.Order.desc("startDate"), Sort.Order.desc("name"))), fields);
     }
 
     /**
@@ -177,74 +283,26 @@ public Page<SoulResponse> getSouls(int page, int size, String seasonName, String
     /**
      * 시즌별 영혼 조회
      */
-    public List<SoulResponse> getSoulsBySeason(Integer seasonId) {
-        return soulRepository.findBySeasonId(seasonId).stream()
-                .map(mapper::toResponse)
-                .collect(Collectors.toList());
+    public List<SoulResponse> getSoulsBySeason(Integer seasonId, FieldSelection fields) {
+        return toResponses(soulRepository.findBySeasonId(seasonId), fields);
     }
 
     /**
      * 모든 유랑 이력 조회 (페이징) - ✅ globalOrder 추가
+     * 정렬/페이징은 엔티티 기준으로 먼저 하고, 현재 페이지만 응답으로 변환한다.
      */
-    public Page<Map<String, Object>> getAllTravelingVisits(int page, int size) {
-        List<TravelingVisitEntity> allVisits = travelingVisitRepository
-                .findAllValidVisitsWithSoul();
+    public Page<Map<String, Object>> getAllTravelingVisits(int page, int size, FieldSelection fields) {
+        List<TravelingVisitEntity> allVisits = findAllValidVisits(fields);
 
         if (allVisits.isEmpty()) {
             return new PageImpl<>(Collections.emptyList(), PageRequest.of(page, size), 0);
         }
 
-        List<Map<String, Object>> results = new ArrayList<>();
-        LocalDate today = LocalDate.now();
-
-        for (TravelingVisitEntity visit : allVisits) {
-            SoulEntity soul = visit.getSoul();
-
-            boolean isActive = !today.isBefore(visit.getStartDate()) &&
-                    !today.isAfter(visit.getEndDate());
-
-            SoulResponse soulResponse = mapper.toResponse(soul);
-
-            Map<String, Object> result = new HashMap<>();
-            result.put("id", soul.getId());
-            result.put("seasonId", soul.getSeason() != null ? soul.getSeason().getId() : null);
-            result.put("seasonName", soul.getSeasonName());
-            result.put("seasonColor", soul.getSeason() != null ? soul.getSeason().getColor() : null);
-            result.put("name", soul.getName());
-            result.put("orderNum", soul.getOrderNum());
-            result.put("startDate", visit.getStartDate());
-            result.put("endDate", visit.getEndDate());
-            result.put("rerunCount", soul.getRerunCount());
-            result.put("keywords", soul.getKeywords());
-            result.put("creator", soul.getCreator());
-            result.put("description", soul.getDescription());
-            result.put("isSeasonGuide", soul.isSeasonGuide());
-            result.put("images", ImageResponse.fromEntities(soul.getImages()));
-
-            result.put("visitNumber", visit.getVisitNumber());
-            result.put("globalOrder", visit.getGlobalOrder()); // ✅ 추가!
-            result.put("isWarbandVisit", visit.isWarbandVisit());
-            result.put("isActive", isActive);
-            result.put("__travelingVisitId", visit.getId());
-
-            results.add(result);
-        }
-
-        results.sort((a, b) -> {
-            LocalDate dateA = (LocalDate) a.get("startDate");
-            LocalDate dateB = (LocalDate) b.get("startDate");
-
-            int dateCompare = dateB.compareTo(dateA);
-            if (dateCompare != 0) {
-                return dateCompare;
-            }
-
-            String nameA = (String) a.get("name");
-            String nameB = (String) b.get("name");
-            return nameA.compareTo(nameB);
-        });
+        List<TravelingVisitEntity> sorted = new ArrayList<>(allVisits);
+        sorted.sort(Comparator.comparing(TravelingVisitEntity::getStartDate, Comparator.reverseOrder())
+                .thenComparing(visit -> visit.getSoul().getName()));
 
-        int totalElements = results.size();
+        int totalElements = sorted.size();
         int startIndex = page * size;
 
         if (startIndex >= totalElements) {
@@ -253,7 +311,17 @@ public Page<SoulResponse> getSouls(int page, int size, String seasonName, String
         }
 
         int endIndex = Math.min(startIndex + size, totalElements);
-        List<Map<String, Object>> pagedResults = results.subList(startIndex, endIndex);
+        List<TravelingVisitEntity> pagedVisits = sorted.subList(startIndex, endIndex);
+
+        LocalDate today = LocalDate.now();
+        Map<Integer, SoulVisitStats> visitStats = loadVisitStats(souls(pagedVisits), fields.includes("rerunCount"));
+        List<Map<String, Object>> pagedResults = pagedVisits.stream()
+                .map(visit -> {
+                    Map<String, Object> result = toVisitRow(visit, fields, today, visitStats);
+                    result.put("__travelingVisitId", visit.getId());
+                    return result;
+                })
+                .collect(Collectors.toList());
 
         return new PageImpl<>(pagedResults, PageRequest.of(page, size), totalElements);
     }
@@ -331,7 +399,7 @@ public Page<SoulResponse> getSouls(int page, int size, String seasonName, String
     /**
      * 이전/다음 이웃 조회
      */
-    public Map<String, List<SoulResponse>> getNeighbors(Integer id) {
+    public Map<String, List<SoulResponse>> getNeighbors(Integer id, FieldSelection fields) {
         SoulEntity current = soulRepository.findById(id)
                 .orElseThrow(() -> new DataNotFoundException("영혼을 찾을 수 없습니다. id=" + id));
 
@@ -349,16 +417,11 @@ public Page<SoulResponse> getSouls(int page, int size, String seasonName, String
             throw new DataNotFoundException("영혼을 찾을 수 없습니다. id=" + id);
         }
 
-        List<SoulResponse> prev = new ArrayList<>();
-        for (int i = Math.max(0, idx - 2); i < idx; i++) {
-            prev.add(mapper.toResponse(all.get(i)));
-        }
-        Collections.reverse(prev);
+        List<SoulEntity> prevSouls = new ArrayList<>(all.subList(Math.max(0, idx - 2), idx));
+        Collections.reverse(prevSouls);
+        List<SoulResponse> prev = toResponses(prevSouls, fields);
 
-        List<SoulResponse> next = new ArrayList<>();
-        for (int i = idx + 1; i <= Math.min(all.size() - 1, idx + 2); i++) {
-            next.add(mapper.toResponse(all.get(i)));
-        }
+        List<SoulResponse> next = toResponses(all.subList(idx + 1, Math.min(all.size(), idx + 3)), fields);
 
         Map<String, List<SoulResponse>> result = new HashMap<>();
         result.put("prev", prev);
@@ -369,11 +432,10 @@ public Page<SoulResponse> getSouls(int page, int size, String seasonName, String
     /**
      * 가장 오랫동안 안 온 영혼들 조회 (페이징)
      */
-public Page<Map<String, Object>> getOldestSpirits(int page, int size) {
+public Page<Map<String, Object>> getOldestSpirits(int page, int size, FieldSelection fields) {
     LocalDate today = LocalDate.now();
 
-    List<TravelingVisitEntity> allVisits = travelingVisitRepository
-            .findAllValidVisitsWithSoul();
+    List<TravelingVisitEntity> allVisits = findAllValidVisits(fields);
 
     if (allVisits.isEmpty()) {
         return new PageImpl<>(Collections.emptyList(), PageRequest.of(page, size), 0);
@@ -394,10 +456,29 @@ public Page<Map<String, Object>> getOldestSpirits(int page, int size) {
         }
     }
 
-    List<Map<String, Object>> results = new ArrayList<>();
+    // ✅ 이 부분을 수정! (오름차순 → 내림차순) - 마지막 방문이 오래된 순
+    List<TravelingVisitEntity> latestVisits = new ArrayList<>(latestVisitPerSoul.values());
+    latestVisits.sort(Comparator.comparing(TravelingVisitEntity::getEndDate));
 
-    for (TravelingVisitEntity visit : latestVisitPerSoul.values()) {
-        SoulEntity soul = visit.getSoul();
+    int totalElements = latestVisits.size();
+    int startIndex = page * size;
+
+    if (startIndex >= totalElements) {
+        return new PageImpl<>(Collections.emptyList(),
+                PageRequest.of(page, size), totalElements);
+    }
+
+    int endIndex = Math.min(startIndex + size, totalElements);
+    List<TravelingVisitEntity> pagedVisits = latestVisits.subList(startIndex, endIndex);
+
+    // 현재 페이지의 영혼만 변환 (?fields= 는 soul 객체에 적용)
+    List<SoulResponse> souls = toResponses(pagedVisits.stream()
+            .map(TravelingVisitEntity::getSoul)
+            .collect(Collectors.toList()), fields);
+    List<Map<String, Object>> pagedResults = new ArrayList<>();
+
+    for (int i = 0; i < pagedVisits.size(); i++) {
+        TravelingVisitEntity visit = pagedVisits.get(i);
         LocalDate lastVisitDate = visit.getEndDate();
         long daysSince = ChronoUnit.DAYS.between(lastVisitDate, today);
 
@@ -405,77 +486,112 @@ public Page<Map<String, Object>> getOldestSpirits(int page, int size) {
                 !today.isAfter(visit.getEndDate());
 
         Map<String, Object> result = new HashMap<>();
-        result.put("soul", mapper.toResponse(soul));
+        result.put("soul", souls.get(i));
         result.put("lastVisitDate", lastVisitDate);
         result.put("daysSinceLastVisit", daysSince);
         result.put("isActive", isActive);
         result.put("visitNumber", visit.getVisitNumber());
         result.put("globalOrder", visit.getGlobalOrder());
 
-        results.add(result);
-    }
-
-    // ✅ 이 부분을 수정! (오름차순 → 내림차순)
-    results.sort((a, b) -> {
-        Long daysA = (Long) a.get("daysSinceLastVisit");
-        Long daysB = (Long) b.get("daysSinceLastVisit");
-        return daysB.compareTo(daysA); // ✅ 이 줄 수정! (a, b 순서 바꿈)
-    });
-
-    int totalElements = results.size();
-    int startIndex = page * size;
-
-    if (startIndex >= totalElements) {
-        return new PageImpl<>(Collections.emptyList(),
-                PageRequest.of(page, size), totalElements);
+        pagedResults.add(result);
     }
 
-    int endIndex = Math.min(startIndex + size, totalElements);
-    List<Map<String, Object>> pagedResults = results.subList(startIndex, endIndex);
-
     return new PageImpl<>(pagedResults, PageRequest.of(page, size), totalElements);
 }
 
 // SoulService.java에 추가
-public List<Map<String, Object>> searchTravelingVisits(String query) {
+public List<Map<String, Object>> searchTravelingVisits(String query, FieldSelection fields) {
     LocalDate today = LocalDate.now();
     
-    // TravelingVisit 엔티티에서 검색
-    List<TravelingVisitEntity> visits = travelingVisitRepository
-        .searchWithSoulAndImages(query, Pageable.unpaged())
-        .getContent();
-    
+    // TravelingVisit 엔티티에서 검색 (이미지는 요청했을 때만 함께 조회)
+    List<TravelingVisitEntity> visits = fields.includes("images")
+        ? travelingVisitRepository.searchWithSoulAndImages(query, Pageable.unpaged()).getContent()
+        : travelingVisitRepository.searchWithSoul(query);
+
+    Map<Integer, SoulVisitStats> visitStats = loadVisitStats(souls(visits), fields.includes("rerunCount"));
     return visits.stream()
-        .map(visit -> {
-            SoulEntity soul = visit.getSoul();
-            boolean isActive = !today.isBefore(visit.getStartDate()) &&
-                    !today.isAfter(visit.getEndDate());
-            
-            Map<String, Object> result = new HashMap<>();
-            result.put("id", soul.getId());
-            result.put("seasonId", soul.getSeason() != null ? soul.getSeason().getId() : null);
-            result.put("seasonName", soul.getSeasonName());
-            result.put("seasonColor", soul.getSeason() != null ? soul.getSeason().getColor() : null);
-            result.put("name", soul.getName());
-            result.put("orderNum", soul.getOrderNum());
-            result.put("startDate", visit.getStartDate());
-            result.put("endDate", visit.getEndDate());
-            result.put("rerunCount", soul.getRerunCount());
-            result.put("keywords", soul.getKeywords());
-            result.put("creator", soul.getCreator());
-            result.put("description", soul.getDescription());
-            result.put("isSeasonGuide", soul.isSeasonGuide());
-            result.put("images", ImageResponse.fromEntities(soul.getImages()));
-            result.put("visitNumber", visit.getVisitNumber());
-            result.put("globalOrder", visit.getGlobalOrder());
-            result.put("isWarbandVisit", visit.isWarbandVisit());
-            result.put("isActive", isActive);
-            
-            return result;
-        })
+        .map(visit -> toVisitRow(visit, fields, today, visitStats))
         .collect(Collectors.toList());
 }
 
+    /**
+     * 유랑 대백과 행 (영혼 + 방문 정보를 펼친 Map) - ?fields= 에 있는 키만 넣는다
+     */
+    private Map<String, Object> toVisitRow(TravelingVisitEntity visit, FieldSelection fields, LocalDate today,
+                                           Map<Integer, SoulVisitStats> visitStats) {
+        SoulEntity soul = visit.getSoul();
+        boolean isActive = !today.isBefore(visit.getStartDate()) &&
+                !today.isAfter(visit.getEndDate());
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("id", soul.getId());
+        fields.put(result, "seasonId", () -> soul.getSeason() != null ? soul.getSeason().getId() : null);
+        fields.put(result, "seasonName", soul::getSeasonName);
+        fields.put(result, "seasonColor", () -> soul.getSeason() != null ? soul.getSeason().getColor() : null);
+        fields.put(result, "name", soul::getName);
+        fields.put(result, "orderNum", soul::getOrderNum);
+        fields.put(result, "startDate", visit::getStartDate);
+        fields.put(result, "endDate", visit::getEndDate);
+        fields.put(result, "rerunCount", () -> {
+            SoulVisitStats stats = visitStats.get(soul.getId());
+            return stats != null ? stats.visitCount().intValue() : 0;
+        });
+        fields.put(result, "keywords", () -> soul.getKeywords() != null ? soul.getKeywordNames() : null);
+        fields.put(result, "creator", soul::getCreator);
+        fields.put(result, "description", soul::getDescription);
+        fields.put(result, "isSeasonGuide", soul::isSeasonGuide);
+        fields.put(result, "images", () -> ImageResponse.fromEntities(soul.getImages()));
+        fields.put(result, "visitNumber", visit::getVisitNumber);
+        fields.put(result, "globalOrder", visit::getGlobalOrder);
+        fields.put(result, "isWarbandVisit", visit::isWarbandVisit);
+        fields.put(result, "isActive", () -> isActive);
+        return result;
+    }
+
+    /**
+     * FieldSelection에 맞춰 변환 - travelingVisits 없이 유랑 통계만 필요하면 집계 쿼리 1번으로 채운다
+     */
+    private List<SoulResponse> toResponses(List<SoulEntity> souls, FieldSelection fields) {
+        Map<Integer, SoulVisitStats> visitStats = loadVisitStats(souls, SoulMapper.needsVisitStats(fields));
+        return souls.stream()
+                .map(soul -> mapper.toResponse(soul, fields, visitStats.get(soul.getId())))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Integer, SoulVisitStats> loadVisitStats(Collection<SoulEntity> souls, boolean needed) {
+        if (!needed || souls.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Integer> soulIds = souls.stream().map(SoulEntity::getId).distinct().collect(Collectors.toList());
+        Map<Integer, SoulVisitStats> visitStats = new HashMap<>();
+        for (List<Integer> chunk : chunks(soulIds)) {
+            travelingVisitRepository.findVisitStatsBySoulIds(chunk)
+                    .forEach(stats -> visitStats.put(stats.soulId(), stats));
+        }
+        return visitStats;
+    }
+
+    private static List<List<Integer>> chunks(List<Integer> ids) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
+    private List<SoulEntity> souls(List<TravelingVisitEntity> visits) {
+        return visits.stream().map(TravelingVisitEntity::getSoul).distinct().collect(Collectors.toList());
+    }
+
+    /**
+     * images를 요청하지 않았으면 이미지 fetch join 없이 조회
+     */
+    private List<TravelingVisitEntity> findAllValidVisits(FieldSelection fields) {
+        return fields.includes("images")
+                ? travelingVisitRepository.findAllValidVisitsWithSoul()
+                : travelingVisitRepository.findAllValidVisitsWithSoulAndSeason();
+    }
+
     /**
      * 대표 이미지 URL 추출
      */
@@ -0,0 +1,88 @@
+package com.springboot.board.application.service;
+
+import com.springboot.board.api.v1.dto.response.SyncResponse;
+import com.springboot.board.domain.entity.SyncTombstoneEntity;
+import com.springboot.board.domain.repository.SyncTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 모바일 앱 증분 동기화
+ * 토큰은 서버 시각(epoch ms)이고, since 이후 modified_date가 바뀐 행과 삭제 기록만 내려준다.
+ * 진행 중이던 트랜잭션/replica 지연으로 늦게 보이는 행을 놓치지 않도록 nextToken을 overlap만큼 앞당긴다
+ * (경계의 행은 다음 동기화에 한 번 더 올 수 있으며, 클라이언트는 id 기준 upsert로 처리한다).
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SyncService {
+
+    private final SeasonService seasonService;
+    private final SoulService soulService;
+    private final TravelingVisitService visitService;
+    private final ImageService imageService;
+    private final IAPItemService iapItemService;
+    private final SyncTombstoneRepository tombstoneRepository;
+
+    @Value("${app.sync.overlap-seconds:5}")
+    private long overlapSeconds;
+
+    @Value("${app.sync.tombstone-retention-days:90}")
+    private long tombstoneRetentionDays;
+
+    public SyncResponse getChanges(String sinceToken) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = parseToken(sinceToken, startedAt);
+
+        Map<String, List<Long>> deleted = new LinkedHashMap<>();
+        if (since != null) {
+            for (SyncTombstoneEntity tombstone : tombstoneRepository.findByDeletedAtAfterOrderByIdAsc(since)) {
+                deleted.computeIfAbsent(tombstone.getEntityType(), type -> new ArrayList<>()).add(tombstone.getEntityId());
+            }
+        }
+
+        return SyncResponse.builder()
+                .nextToken(toToken(startedAt.minusSeconds(overlapSeconds)))
+                .full(since == null)
+                .seasons(seasonService.getSeasonsModifiedAfter(since))
+                .souls(soulService.getSoulsModifiedAfter(since))
+                .travelingVisits(visitService.getVisitsModifiedAfter(since))
+                .images(imageService.getSoulImagesModifiedAfter(since))
+                .iapItems(iapItemService.getItemsModifiedAfter(since))
+                .deleted(deleted)
+                .build();
+    }
+
+    /**
+     * 토큰이 없거나, 해석할 수 없거나, 삭제 기록 보존 기간보다 오래됐으면 null (전체 동기화)
+     */
+    private LocalDateTime parseToken(String token, LocalDateTime now) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        LocalDateTime since;
+        try {
+            since = LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(token.trim())), ZoneId.systemDefault());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (since.isBefore(now.minusDays(tombstoneRetentionDays))) {
+            return null;
+        }
+        return since;
+    }
+
+    private static String toToken(LocalDateTime time) {
+        return String.valueOf(time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
@@ -8,10 +8,14 @@ import com.springboot.board.application.mapper.SoulMapper;
 import com.springboot.board.common.exception.DataNotFoundException;
 import com.springboot.board.domain.entity.ImageEntity;
 import com.springboot.board.domain.entity.SoulEntity;
+import com.springboot.board.domain.entity.SyncTombstoneEntity;
 import com.springboot.board.domain.entity.TravelingVisitEntity;
+import com.springboot.board.domain.event.TravelingVisitChangedEvent;
 import com.springboot.board.domain.repository.SoulRepository;
+import com.springboot.board.domain.repository.SyncTombstoneRepository;
 import com.springboot.board.domain.repository.TravelingVisitRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -20,6 +24,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -31,6 +36,8 @@ public class TravelingVisitService {
     private final TravelingVisitRepository visitRepository;
     private final SoulRepository soulRepository;
     private final SoulMapper soulMapper;
+    private final SyncTombstoneRepository tombstoneRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<TravelingVisitResponse> getVisitsBySoul(Integer soulId) {
         return visitRepository.findBySoulIdOrderByVisitNumberAsc(soulId).stream()
@@ -44,6 +51,27 @@ public class TravelingVisitService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 오늘 진행 중인 유랑 (영혼 이름/대표 이미지 포함) - 방문 시작/종료 푸시용
+     */
+    public List<TravelingVisitWithSoulResponse> getCurrentVisitsWithSoul() {
+        return visitRepository.findCurrentVisits(LocalDate.now()).stream()
+                .map(this::toVisitWithSoulResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 증분 동기화 - since 이후 생성/수정된 유랑 기록 (null이면 전체)
+     */
+    public List<TravelingVisitResponse> getVisitsModifiedAfter(LocalDateTime since) {
+        List<TravelingVisitEntity> visits = since == null
+                ? visitRepository.findAll()
+                : visitRepository.findByModifiedDateAfter(since);
+        return visits.stream()
+                .map(soulMapper::visitToResponse)
+                .collect(Collectors.toList());
+    }
+
     public TravelingVisitResponse getVisitById(Long id) {
         TravelingVisitEntity visit = visitRepository.findById(id)
                 .orElseThrow(() -> new DataNotFoundException("유랑 방문 기록을 찾을 수 없습니다. id=" + id));
@@ -100,7 +128,7 @@ public class TravelingVisitService {
                 .soulName(soul.getName())
                 .seasonName(soul.getSeasonName())
                 .orderNum(soul.getOrderNum())
-                .rerunCount(soul.getRerunCount())
+                .rerunCount(soul.getTotalVisitCount())
                 .representativeImageUrl(representativeImageUrl)
                 .build();
     }
@@ -124,15 +152,18 @@ public class TravelingVisitService {
                 .build();
 
         TravelingVisitEntity saved = visitRepository.save(entity);
+        eventPublisher.publishEvent(new TravelingVisitChangedEvent(soul.getId()));
         return soulMapper.visitToResponse(saved);
     }
 
     @Transactional
     public void deleteVisit(Long id) {
-        if (!visitRepository.existsById(id)) {
-            throw new DataNotFoundException("유랑 방문 기록을 찾을 수 없습니다. id=" + id);
-        }
-        visitRepository.deleteById(id);
+        TravelingVisitEntity visit = visitRepository.findById(id)
+                .orElseThrow(() -> new DataNotFoundException("유랑 방문 기록을 찾을 수 없습니다. id=" + id));
+        Integer soulId = visit.getSoul().getId();
+        visitRepository.delete(visit);
+        tombstoneRepository.save(SyncTombstoneEntity.of(SyncTombstoneEntity.TYPE_TRAVELING_VISIT, id));
+        eventPublisher.publishEvent(new TravelingVisitChangedEvent(soulId));
     }
 
     @Transactional
@@ -168,6 +199,7 @@ public class TravelingVisitService {
             visit.setWarbandVisit(request.getIsWarbandVisit());
         }
 
+        eventPublisher.publishEvent(new TravelingVisitChangedEvent(visit.getSoul().getId()));
         return soulMapper.visitToResponse(visit);
     }
 }
\ No newline at end of file
@@ -0,0 +1,216 @@
+package com.springboot.board.application.storage;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.utils.ObjectUtils;
+import com.springboot.board.application.image.ImageVariant;
+import com.springboot.board.common.exception.StorageUnavailableException;
+import com.springboot.board.common.util.CircuitBreaker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Cloudinary 저장소 (기본값)
+ * 모든 원격 호출은 전용 스레드풀에서 전체 타임아웃과 서킷 브레이커를 거쳐 실행된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "cloudinary", matchIfMissing = true)
+public class CloudinaryImageStorage implements ImageStorage {
+
+    private static final int DELETE_BATCH_SIZE = 100; // delete_resources 최대 개수
+
+    private final Cloudinary cloudinary;
+    private final ExecutorService executor;
+    private final CircuitBreaker circuitBreaker;
+    private final long callTimeoutMs;
+    private final MeterRegistry meterRegistry;
+
+    public CloudinaryImageStorage(Cloudinary cloudinary,
+                                  @Qualifier("cloudinaryExecutor") ExecutorService executor,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${cloudinary.call-timeout-ms:30000}") long callTimeoutMs,
+                                  @Value("${cloudinary.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                                  @Value("${cloudinary.circuit-breaker.open-seconds:30}") long openSeconds) {
+        this.cloudinary = cloudinary;
+        this.executor = executor;
+        this.callTimeoutMs = callTimeoutMs;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, Duration.ofSeconds(openSeconds));
+        this.meterRegistry = meterRegistry;
+
+        // 0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN
+        Gauge.builder("storage.cloudinary.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("Cloudinary circuit breaker state")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public StoredImage store(byte[] content, String contentType) throws IOException {
+        Map uploadResult = call("upload", () -> cloudinary.uploader().upload(content,
+            ObjectUtils.asMap(
+                "folder", "sky-planner",
+                "resource_type", "image",
+                "quality", "auto:good",
+                "fetch_format", "auto"
+            )
+        ));
+
+        return StoredImage.builder()
+                .key((String) uploadResult.get("public_id"))
+                .url((String) uploadResult.get("secure_url"))
+                .size(content.length)
+                .build();
+    }
+
+    /**
+     * Cloudinary는 요청 시점에 변환하므로 변환 URL만 만든다.
+     * 예: .../image/upload/v123/sky-planner/abc.jpg -> .../image/upload/c_limit,w_120,q_auto,f_auto/v123/sky-planner/abc.jpg
+     */
+    @Override
+    public Map<ImageVariant, String> storeVariants(StoredImage stored, BufferedImage decoded) {
+        Map<ImageVariant, String> variants = new EnumMap<>(ImageVariant.class);
+        String url = stored.getUrl();
+        int uploadIndex = url.indexOf("/upload/");
+        if (uploadIndex == -1) {
+            return variants;
+        }
+
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (decoded != null && decoded.getWidth() <= variant.getWidth()) {
+                continue; // 원본보다 큰 변형은 불필요
+            }
+            String transformation = "c_limit,w_" + variant.getWidth() + ",q_auto,f_auto/";
+            variants.put(variant, url.substring(0, uploadIndex + 8) + transformation + url.substring(uploadIndex + 8));
+        }
+        return variants;
+    }
+
+    @Override
+    public Set<String> deleteAll(Collection<String> keys) throws IOException {
+        Set<String> done = new HashSet<>();
+        List<String> all = new ArrayList<>(keys);
+
+        for (int from = 0; from < all.size(); from += DELETE_BATCH_SIZE) {
+            List<String> chunk = all.subList(from, Math.min(from + DELETE_BATCH_SIZE, all.size()));
+            Map<?, ?> deleted = (Map<?, ?>) call("delete_resources",
+                    () -> cloudinary.api().deleteResources(chunk, ObjectUtils.emptyMap())).get("deleted");
+
+            // "deleted" 또는 "not_found" 모두 완료로 간주
+            for (String key : chunk) {
+                Object status = deleted != null ? deleted.get(key) : null;
+                if ("deleted".equals(status) || "not_found".equals(status)) {
+                    done.add(key);
+                }
+            }
+        }
+        return done;
+    }
+
+    /**
+     * 원격 호출 실행 - 서킷이 열려 있거나 스레드풀이 가득 차면 즉시 실패
+     * 호출마다 storage.cloudinary.call 타이머에 operation/outcome 태그로 기록한다.
+     */
+    private <T> T call(String operation, Callable<T> task) throws IOException {
+        long start = System.nanoTime();
+        if (!circuitBreaker.tryAcquirePermission()) {
+            record(operation, "circuit_open", start);
+            throw new StorageUnavailableException("이미지 저장소가 일시적으로 응답하지 않습니다.",
+                    circuitBreaker.getRetryAfterSeconds());
+        }
+
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            // 원격이 아니라 우리 스레드풀이 가득 찬 것 - 서킷 실패로 세지 않는다
+            circuitBreaker.releasePermission();
+            record(operation, "rejected", start);
+            throw new StorageUnavailableException("이미지 저장소 요청이 밀려 있습니다.", 1);
+        }
+
+        try {
+            T result = future.get(callTimeoutMs, TimeUnit.MILLISECONDS);
+            circuitBreaker.onSuccess();
+            record(operation, "success", start);
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            circuitBreaker.onFailure();
+            record(operation, "timeout", start);
+            log.warn("Cloudinary {} timed out after {}ms", operation, callTimeoutMs);
+            throw new IOException("Cloudinary " + operation + " timed out");
+        } catch (ExecutionException e) {
+            circuitBreaker.onFailure();
+            record(operation, "error", start);
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException io ? io : new IOException(cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            circuitBreaker.onFailure(); // 결과를 모른 채 끝났으므로 실패로 본다 (시험 호출이면 HALF_OPEN에 남지 않도록)
+            record(operation, "interrupted", start);
+            Thread.currentThread().interrupt();
+            throw new IOException("Cloudinary " + operation + " interrupted");
+        }
+    }
+
+    private void record(String operation, String outcome, long startNanos) {
+        Timer.builder("storage.cloudinary.call")
+                .description("Cloudinary API call latency")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Cloudinary URL에서 public_id 추출
+     * 예: https://res.cloudinary.com/demo/image/upload/v1234567890/sky-planner/abc123.jpg
+     * -> sky-planner/abc123
+     */
+    @Override
+    public String keyFromUrl(String url) {
+        // "upload/" 이후 부분 추출
+        int uploadIndex = url.indexOf("/upload/");
+        if (uploadIndex == -1) {
+            return url.substring(url.lastIndexOf('/') + 1);
+        }
+        
+        String afterUpload = url.substring(uploadIndex + 8); // "/upload/" 길이만큼 건너뜀
+        
+        // 버전 정보 제거 (v1234567890/)
+        int versionEnd = afterUpload.indexOf('/', afterUpload.indexOf('/') + 1);
+        if (versionEnd == -1) {
+            versionEnd = afterUpload.indexOf('/', 1);
+        }
+        
+        String pathWithExt = afterUpload.substring(versionEnd + 1);
+        
+        // 확장자 제거
+        int dotIndex = pathWithExt.lastIndexOf('.');
+        return dotIndex == -1 ? pathWithExt : pathWithExt.substring(0, dotIndex);
+    }
+}
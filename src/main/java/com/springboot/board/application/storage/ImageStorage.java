@@ -0,0 +1,47 @@
+package com.springboot.board.application.storage;
+
+import com.springboot.board.application.image.ImageVariant;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 이미지 원본 저장소 추상화
+ * app.storage.type 설정에 따라 Cloudinary 또는 로컬 디스크 구현이 선택된다.
+ */
+public interface ImageStorage {
+
+    /**
+     * 이미지 저장
+     *
+     * @param content     이미지 바이트
+     * @param contentType MIME 타입 (image/png 등)
+     * @return 저장소 키와 공개 URL
+     */
+    StoredImage store(byte[] content, String contentType) throws IOException;
+
+    /**
+     * 반응형 변형 URL 생성
+     * Cloudinary는 변환 URL만 만들고, 로컬 저장소는 축소본 파일을 함께 기록한다.
+     *
+     * @param stored  store()로 저장된 원본
+     * @param decoded 디코딩된 원본 (지원하지 않는 형식이면 null)
+     * @return 생성된 변형 URL (원본보다 큰 변형은 생략)
+     */
+    Map<ImageVariant, String> storeVariants(StoredImage stored, BufferedImage decoded) throws IOException;
+
+    /**
+     * 여러 이미지 일괄 삭제 (변형 포함)
+     *
+     * @return 삭제되었거나 이미 존재하지 않는 키 목록 (나머지는 재시도 대상)
+     */
+    Set<String> deleteAll(Collection<String> keys) throws IOException;
+
+    /**
+     * 공개 URL에서 저장소 키 추출 (URL 기반 삭제용)
+     */
+    String keyFromUrl(String url);
+}
@@ -0,0 +1,172 @@
+package com.springboot.board.application.storage;
+
+import com.springboot.board.application.image.ImageProcessor;
+import com.springboot.board.application.image.ImageVariant;
+import com.springboot.board.common.util.HashUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 로컬 디스크 저장소
+ * 내용 해시(SHA-256) 기반 경로(ab/cd/abcd....png)에 저장하므로 같은 파일은 한 번만 기록되고,
+ * 경로가 바뀌지 않아 immutable 캐시 헤더로 서빙할 수 있다. (UploadFileController)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+public class LocalImageStorage implements ImageStorage {
+
+    public static final String URL_PREFIX = "/uploads/";
+
+    private static final float VARIANT_QUALITY = 0.82f;
+    private static final String[] VARIANT_EXTENSIONS = { "jpg", "png" };
+
+    private final Path root;
+    private final String baseUrl;
+    private final ImageProcessor imageProcessor;
+
+    public LocalImageStorage(@Value("${app.upload-dir}") String uploadDir,
+                             @Value("${app.base-url}") String baseUrl,
+                             ImageProcessor imageProcessor) throws IOException {
+        this.root = Path.of(uploadDir).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.imageProcessor = imageProcessor;
+        Files.createDirectories(root);
+        log.info("Local image storage at {}", root);
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    @Override
+    public StoredImage store(byte[] content, String contentType) throws IOException {
+        String hash = HashUtil.sha256Hex(content);
+        String key = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + "." + extension(contentType);
+        write(key, content);
+
+        return StoredImage.builder()
+                .key(key)
+                .url(baseUrl + URL_PREFIX + key)
+                .size(content.length)
+                .build();
+    }
+
+    /**
+     * 축소본을 원본 옆에 기록 (abcd.png -> abcd_w120.jpg)
+     */
+    @Override
+    public Map<ImageVariant, String> storeVariants(StoredImage stored, BufferedImage decoded) throws IOException {
+        Map<ImageVariant, String> variants = new EnumMap<>(ImageVariant.class);
+        if (decoded == null) {
+            return variants;
+        }
+
+        String format = imageProcessor.hasAlpha(decoded) ? "png" : "jpg";
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (decoded.getWidth() <= variant.getWidth()) {
+                continue; // 원본보다 큰 변형은 불필요
+            }
+            BufferedImage resized = imageProcessor.resizeToWidth(decoded, variant.getWidth()); // c_limit,w_N과 같게 가로 기준
+            String variantKey = variantKey(stored.getKey(), variant, format);
+            write(variantKey, imageProcessor.encode(resized, format, VARIANT_QUALITY));
+            variants.put(variant, baseUrl + URL_PREFIX + variantKey);
+        }
+        return variants;
+    }
+
+    /**
+     * 임시 파일에 FileChannel로 기록 후 원자적 이동 (내용 주소라 이미 있으면 건너뜀)
+     */
+    private void write(String key, byte[] content) throws IOException {
+        Path target = resolve(key);
+        String name = target.getFileName().toString();
+
+        if (!Files.exists(target)) {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), name, ".tmp");
+            try {
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                    ByteBuffer buffer = ByteBuffer.wrap(content);
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    channel.force(false);
+                }
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // 동시에 같은 내용이 먼저 저장된 경우 - 내용이 같으므로 그대로 사용
+                log.debug("Local image already stored: {}", key);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    @Override
+    public Set<String> deleteAll(Collection<String> keys) throws IOException {
+        Set<String> done = new HashSet<>();
+        for (String key : keys) {
+            Files.deleteIfExists(resolve(key));
+            for (ImageVariant variant : ImageVariant.values()) {
+                for (String extension : VARIANT_EXTENSIONS) {
+                    Files.deleteIfExists(resolve(variantKey(key, variant, extension)));
+                }
+            }
+            done.add(key);
+        }
+        return done;
+    }
+
+    @Override
+    public String keyFromUrl(String url) {
+        int index = url.indexOf(URL_PREFIX);
+        return index == -1 ? url : url.substring(index + URL_PREFIX.length());
+    }
+
+    /**
+     * 저장소 루트 밖으로 벗어나는 경로는 거부
+     */
+    public Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다. key=" + key);
+        }
+        return path;
+    }
+
+    private static String variantKey(String key, ImageVariant variant, String extension) {
+        int dotIndex = key.lastIndexOf('.');
+        String base = dotIndex == -1 ? key : key.substring(0, dotIndex);
+        return base + variant.suffix() + "." + extension;
+    }
+
+    private static String extension(String contentType) {
+        if (contentType == null) {
+            return "bin";
+        }
+        return switch (contentType.toLowerCase()) {
+            case "image/jpeg", "image/jpg" -> "jpg";
+            case "image/png" -> "png";
+            case "image/gif" -> "gif";
+            default -> "bin";
+        };
+    }
+}
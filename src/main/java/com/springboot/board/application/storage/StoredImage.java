@@ -0,0 +1,15 @@
+package com.springboot.board.application.storage;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 저장소에 올라간 이미지 정보
+ */
+@Getter
+@Builder
+public class StoredImage {
+    private final String key;  // Cloudinary public_id 또는 로컬 상대 경로
+    private final String url;  // 공개 URL
+    private final long size;
+}
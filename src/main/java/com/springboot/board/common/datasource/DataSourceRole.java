@@ -0,0 +1,9 @@
+package com.springboot.board.common.datasource;
+
+/**
+ * 라우팅 대상 DataSource
+ */
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
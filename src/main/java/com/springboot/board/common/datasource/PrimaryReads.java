@@ -0,0 +1,24 @@
+package com.springboot.board.common.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커밋 이벤트를 받아 다시 읽는 작업(인덱스/통계 재구축)의 조회를 primary로 고정
+ * replica가 아직 따라오지 못한 시점에 읽으면 방금 커밋된 변경이 빠진 스냅샷이 만들어진다.
+ * replica 설정이 없으면(ReplicationContext 없음) 아무것도 하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PrimaryReads {
+
+    private static final ReplicationContext.Scope NONE = () -> { };
+
+    private final ObjectProvider<ReplicationContext> replicationContext;
+
+    public ReplicationContext.Scope open() {
+        ReplicationContext context = replicationContext.getIfAvailable();
+        return context == null ? NONE : context.forcePrimary();
+    }
+}
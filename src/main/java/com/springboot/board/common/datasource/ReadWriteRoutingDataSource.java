@@ -0,0 +1,38 @@
+package com.springboot.board.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 replica, 그 외는 primary로 라우팅
+ * 트랜잭션 속성이 정해진 뒤 커넥션을 얻도록 LazyConnectionDataSourceProxy로 감싸서 사용해야 한다.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicationContext replicationContext;
+
+    public ReadWriteRoutingDataSource(ReplicationContext replicationContext) {
+        this.replicationContext = replicationContext;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+
+        if (!readOnly) {
+            // 트랜잭션 밖 커넥션(스키마 작업 등)과 쓰기 트랜잭션은 primary
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                replicationContext.markWrite();
+            }
+            return DataSourceRole.PRIMARY;
+        }
+
+        if (replicationContext.shouldReadFromPrimary()) {
+            return DataSourceRole.PRIMARY;
+        }
+        return DataSourceRole.REPLICA;
+    }
+}
@@ -0,0 +1,100 @@
+package com.springboot.board.common.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 쓰기 직후 읽기를 primary로 고정하기 위한 상태 (read-your-writes)
+ * - 요청 단위: 같은 요청에서 쓰기 트랜잭션이 있었으면 이후 읽기도 primary
+ * - 전역: 마지막 쓰기 커밋 후 window 동안은 모든 읽기를 primary (복제 지연 대비, 다음 요청의 재조회 포함)
+ *   스케줄러 등 요청 밖의 쓰기도 포함하며, 롤백된 트랜잭션은 window를 열지 않는다.
+ * - 범위 지정: forcePrimary() 안의 읽기는 모두 primary (커밋 이벤트 뒤 인덱스 재구축 등)
+ */
+public class ReplicationContext {
+
+    private final ThreadLocal<RequestState> requestState = new ThreadLocal<>();
+    private final ThreadLocal<Boolean> primaryScope = new ThreadLocal<>();
+    private final AtomicLong lastWriteAt = new AtomicLong();
+    private final long stickyWindowMs;
+
+    // Set으로 관리되므로 한 트랜잭션에서 여러 번 등록해도 한 번만 실행된다
+    private final TransactionSynchronization stampOnCommit = new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+            lastWriteAt.set(System.currentTimeMillis());
+        }
+    };
+
+    public ReplicationContext(long stickyWindowMs) {
+        this.stickyWindowMs = stickyWindowMs;
+    }
+
+    /**
+     * 요청 시작 (ReplicationContextFilter)
+     */
+    public void begin() {
+        requestState.set(new RequestState());
+    }
+
+    /**
+     * 요청 종료 시 호출 (스레드 재사용 대비)
+     */
+    public void clear() {
+        requestState.remove();
+    }
+
+    /**
+     * 쓰기 트랜잭션이 커넥션을 얻을 때 호출 - 전역 window는 커밋 시점부터 센다
+     */
+    public void markWrite() {
+        RequestState state = requestState.get();
+        if (state != null) {
+            state.wrote = true;
+        }
+        if (stickyWindowMs <= 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(stampOnCommit);
+        } else {
+            lastWriteAt.set(System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 닫을 때까지 이 스레드의 readOnly 조회를 primary로 보낸다 (중첩 가능)
+     */
+    public Scope forcePrimary() {
+        Boolean previous = primaryScope.get();
+        primaryScope.set(Boolean.TRUE);
+        return () -> {
+            if (previous == null) {
+                primaryScope.remove();
+            } else {
+                primaryScope.set(previous);
+            }
+        };
+    }
+
+    public boolean shouldReadFromPrimary() {
+        if (primaryScope.get() != null) {
+            return true;
+        }
+        RequestState state = requestState.get();
+        if (state != null && state.wrote) {
+            return true;
+        }
+        return stickyWindowMs > 0 && System.currentTimeMillis() - lastWriteAt.get() < stickyWindowMs;
+    }
+
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static class RequestState {
+        private boolean wrote;
+    }
+}
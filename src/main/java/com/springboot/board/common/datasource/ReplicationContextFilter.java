@@ -0,0 +1,31 @@
+package com.springboot.board.common.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청 단위 read-your-writes 상태 초기화
+ */
+@RequiredArgsConstructor
+public class ReplicationContextFilter extends OncePerRequestFilter {
+
+    private final ReplicationContext replicationContext;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        replicationContext.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            replicationContext.clear();
+        }
+    }
+}
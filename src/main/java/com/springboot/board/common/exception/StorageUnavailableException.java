@@ -0,0 +1,19 @@
+package com.springboot.board.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 외부 이미지 저장소 장애로 요청을 처리할 수 없음 (503, Retry-After 포함)
+ * 서킷 브레이커가 열려 있거나 저장소 호출 대기열이 가득 찬 경우
+ */
+@Getter
+public class StorageUnavailableException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    public StorageUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,18 @@
+package com.springboot.board.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 동시 처리 한도를 넘은 요청 (429, Retry-After 포함)
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
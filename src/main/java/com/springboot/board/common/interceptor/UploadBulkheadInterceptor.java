@@ -0,0 +1,83 @@
+package com.springboot.board.common.interceptor;
+
+import com.springboot.board.common.exception.TooManyRequestsException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이미지 쓰기 API(POST/PUT/DELETE) 전용 bulkhead
+ * 동시 처리 수와 대기 수를 제한해, 대용량 업로드가 몰려도 조회 API가 Tomcat 스레드를 확보할 수 있게 한다.
+ * 한도를 넘으면 기다리지 않고 429 + Retry-After로 즉시 거절한다.
+ */
+@Slf4j
+@Component
+public class UploadBulkheadInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = UploadBulkheadInterceptor.class.getName() + ".permit";
+
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final int maxWaiting;
+    private final long maxWaitMs;
+    private final long retryAfterSeconds;
+
+    public UploadBulkheadInterceptor(@Value("${app.upload-bulkhead.max-concurrent:4}") int maxConcurrent,
+                                     @Value("${app.upload-bulkhead.max-waiting:8}") int maxWaiting,
+                                     @Value("${app.upload-bulkhead.max-wait-ms:500}") long maxWaitMs,
+                                     @Value("${app.upload-bulkhead.retry-after-seconds:2}") long retryAfterSeconds) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxWaiting = maxWaiting;
+        this.maxWaitMs = maxWaitMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) throws Exception {
+        if ("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod())
+                || "OPTIONS".equals(request.getMethod())) {
+            return true;
+        }
+
+        if (!permits.tryAcquire()) {
+            // 짧은 대기열 - 가득 차면 즉시 거절
+            if (waiting.incrementAndGet() > maxWaiting) {
+                waiting.decrementAndGet();
+                throw reject(request);
+            }
+            try {
+                if (!permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                    throw reject(request);
+                }
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+
+        request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permits.release();
+        }
+    }
+
+    private TooManyRequestsException reject(HttpServletRequest request) {
+        log.warn("Upload bulkhead full - rejected {} {}", request.getMethod(), request.getRequestURI());
+        return new TooManyRequestsException("이미지 업로드 요청이 많습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+    }
+}
@@ -0,0 +1,74 @@
+package com.springboot.board.common.query;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 요청당 SQL 실행 횟수 확인
+ * - 한도(app.query-budget.warn-threshold)를 넘으면 가장 많이 반복된 문장과 호출 위치를 WARN 로그로 남긴다.
+ * - expose-header가 켜져 있으면(개발 환경) X-Query-Count 응답 헤더로 실행 횟수를 알려준다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Count";
+
+    private final QueryCountContext queryCountContext;
+    private final boolean exposeHeader;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        // 헤더는 본문보다 먼저 나가므로 응답을 버퍼링해야 한다 (파일 서빙/스트리밍 응답은 제외)
+        ContentCachingResponseWrapper cachingResponse = exposeHeader && isBufferable(request)
+                ? new ContentCachingResponseWrapper(response)
+                : null;
+
+        queryCountContext.begin();
+        try {
+            filterChain.doFilter(request, cachingResponse != null ? cachingResponse : response);
+        } finally {
+            QueryCountContext.RequestStats stats = queryCountContext.end();
+            if (stats != null) {
+                warnIfOverBudget(request, stats);
+            }
+            if (cachingResponse != null) {
+                if (stats != null) {
+                    cachingResponse.setHeader(HEADER, String.valueOf(stats.getCount()));
+                }
+                cachingResponse.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void warnIfOverBudget(HttpServletRequest request, QueryCountContext.RequestStats stats) {
+        int threshold = queryCountContext.getWarnThreshold();
+        if (threshold <= 0 || stats.getCount() <= threshold) {
+            return;
+        }
+        Map.Entry<String, Integer> mostRepeated = stats.getMostRepeated();
+        log.warn("Query budget exceeded - {} {}: {} statements (budget {}), call site: {}, most repeated x{}: {}",
+                request.getMethod(), request.getRequestURI(), stats.getCount(), threshold, stats.getCallSite(),
+                mostRepeated.getValue(), mostRepeated.getKey());
+    }
+
+    private static boolean isBufferable(HttpServletRequest request) {
+        if (request.getRequestURI().startsWith("/uploads/")) {
+            return false;
+        }
+        String accept = request.getHeader("Accept");
+        return accept == null || !accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+}
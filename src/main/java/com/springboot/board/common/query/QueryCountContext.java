@@ -0,0 +1,97 @@
+package com.springboot.board.common.query;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 단위 SQL 실행 횟수 (N+1 탐지)
+ * QueryCountInspector가 문장마다 기록하고 QueryBudgetFilter가 요청 종료 시 결과를 확인한다.
+ * 요청 밖(스케줄러, 테스트 데이터 준비 등)에서 실행된 쿼리는 세지 않는다.
+ */
+public class QueryCountContext {
+
+    private static final String BASE_PACKAGE = "com.springboot.board.";
+    private static final String OWN_PACKAGE = QueryCountContext.class.getPackageName() + ".";
+
+    private final ThreadLocal<RequestStats> requestStats = new ThreadLocal<>();
+    private final int warnThreshold;
+
+    public QueryCountContext(int warnThreshold) {
+        this.warnThreshold = warnThreshold;
+    }
+
+    public int getWarnThreshold() {
+        return warnThreshold;
+    }
+
+    /**
+     * 요청 시작 (QueryBudgetFilter)
+     */
+    public void begin() {
+        requestStats.set(new RequestStats());
+    }
+
+    /**
+     * 요청 종료 - 집계 결과를 돌려주고 상태를 비운다 (스레드 재사용 대비)
+     */
+    public RequestStats end() {
+        RequestStats stats = requestStats.get();
+        requestStats.remove();
+        return stats;
+    }
+
+    public void record(String sql) {
+        RequestStats stats = requestStats.get();
+        if (stats == null) {
+            return;
+        }
+        stats.count++;
+        stats.statements.merge(sql, 1, Integer::sum);
+
+        // 한도를 넘긴 문장의 호출 위치만 기록 (요청당 한 번만 스택 탐색)
+        if (warnThreshold > 0 && stats.count == warnThreshold + 1) {
+            stats.callSite = findCallSite();
+        }
+    }
+
+    /**
+     * 애플리케이션 코드 중 가장 안쪽 프레임 (지연 로딩이면 컬렉션에 접근한 매퍼/엔티티 메서드)
+     * Spring 프록시($$) 프레임은 건너뛴다.
+     */
+    private static String findCallSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(BASE_PACKAGE))
+                .filter(frame -> !frame.getClassName().startsWith(OWN_PACKAGE))
+                .filter(frame -> !frame.getClassName().contains("$$"))
+                .findFirst()
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName()
+                        + "(" + frame.getFileName() + ":" + frame.getLineNumber() + ")")
+                .orElse("unknown"));
+    }
+
+    public static class RequestStats {
+        private int count;
+        private final Map<String, Integer> statements = new HashMap<>();
+        private String callSite;
+
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * 한도를 넘긴 시점의 호출 위치 (한도를 넘지 않았으면 null)
+         */
+        public String getCallSite() {
+            return callSite;
+        }
+
+        /**
+         * 가장 많이 반복된 문장 - 같은 SELECT가 행 수만큼 반복되면 N+1
+         */
+        public Map.Entry<String, Integer> getMostRepeated() {
+            return statements.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .orElse(null);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.springboot.board.common.query;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 모든 SQL(쿼리, 지연 로딩, 쓰기)을 요청 단위로 센다.
+ * SQL은 변경하지 않는다. JdbcTemplate 직접 호출은 Hibernate를 거치지 않으므로 제외된다.
+ */
+@RequiredArgsConstructor
+public class QueryCountInspector implements StatementInspector {
+
+    private final QueryCountContext queryCountContext;
+
+    @Override
+    public String inspect(String sql) {
+        queryCountContext.record(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,85 @@
+package com.springboot.board.common.response;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * ?fields= 로 요청한 응답 속성 (sparse fieldset)
+ * 직렬화할 속성뿐 아니라 어떤 연관관계(images, travelingVisits 등)를 로딩할지도 이 값으로 정한다.
+ * 파라미터가 없으면 전체 속성. id는 항상 포함된다.
+ */
+public final class FieldSelection {
+
+    public static final String PARAM = "fields";
+
+    private static final FieldSelection ALL = new FieldSelection(null);
+
+    private final Set<String> names; // null이면 전체
+
+    private FieldSelection(Set<String> names) {
+        this.names = names;
+    }
+
+    public static FieldSelection all() {
+        return ALL;
+    }
+
+    /**
+     * "id,name,images" 형식 파싱 - 비어 있으면 전체
+     */
+    public static FieldSelection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> names = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (names.isEmpty()) {
+            return ALL;
+        }
+        names.add("id");
+        return new FieldSelection(Collections.unmodifiableSet(names));
+    }
+
+    public boolean isAll() {
+        return names == null;
+    }
+
+    public boolean includes(String name) {
+        return names == null || names.contains(name);
+    }
+
+    public boolean includesAny(String... candidates) {
+        if (names == null) {
+            return true;
+        }
+        for (String candidate : candidates) {
+            if (names.contains(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 요청한 속성 이름 (전체 선택이면 빈 집합)
+     */
+    public Set<String> getNames() {
+        return names == null ? Collections.emptySet() : names;
+    }
+
+    /**
+     * Map 응답용 - 요청한 키만 넣고, 값 계산(지연 로딩 포함)도 그때만 한다
+     */
+    public void put(Map<String, Object> target, String key, Supplier<?> value) {
+        if (includes(key)) {
+            target.put(key, value.get());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.springboot.board.common.response;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * ?fields= 를 적용할 컨트롤러 메서드 표시
+ * value는 걸러낼 DTO의 @JsonFilter id (SoulResponse.FILTER, TravelingVisitResponse.FILTER)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SparseFieldset {
+
+    String value();
+}
@@ -0,0 +1,53 @@
+package com.springboot.board.common.response;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * @SparseFieldset 메서드의 응답에서 ?fields= 에 없는 속성을 직렬화하지 않는다.
+ * 연관관계 로딩 여부는 서비스가 같은 FieldSelection으로 결정하고, 여기서는 JSON 출력만 거른다.
+ */
+@RestControllerAdvice
+public class SparseFieldsetAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    /**
+     * 다른 DTO의 @JsonFilter는 그대로 통과 (JacksonConfig 기본 필터와 동일)
+     */
+    public static SimpleFilterProvider defaultFilters() {
+        return new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                .setFailOnUnknownId(false);
+    }
+
+    @Override
+    public boolean supports(@NonNull MethodParameter returnType,
+                            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return super.supports(returnType, converterType) && returnType.hasMethodAnnotation(SparseFieldset.class);
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(@NonNull MappingJacksonValue bodyContainer,
+                                           @NonNull MediaType contentType, @NonNull MethodParameter returnType,
+                                           @NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        FieldSelection selection = FieldSelection.parse(servletRequest.getServletRequest().getParameter(FieldSelection.PARAM));
+        if (selection.isAll()) {
+            return;
+        }
+        SparseFieldset fieldset = returnType.getMethodAnnotation(SparseFieldset.class);
+        bodyContainer.setFilters(defaultFilters()
+                .addFilter(fieldset.value(), SimpleBeanPropertyFilter.filterOutAllExcept(selection.getNames())));
+    }
+}
@@ -0,0 +1,71 @@
+package com.springboot.board.common.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 연속 실패 횟수 기반 서킷 브레이커
+ * CLOSED -(연속 실패 threshold회)-> OPEN -(openDuration 경과)-> HALF_OPEN(시험 호출 1건) -> CLOSED/OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    /**
+     * 호출 허용 여부 - OPEN 상태에서 대기 시간이 지나면 한 건만 시험 호출을 허용
+     */
+    public boolean tryAcquirePermission() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        return current == State.OPEN
+                && System.nanoTime() - openedAt >= openNanos
+                && state.compareAndSet(State.OPEN, State.HALF_OPEN);
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        state.set(State.CLOSED);
+    }
+
+    public void onFailure() {
+        if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt = System.nanoTime();
+            state.set(State.OPEN);
+        }
+    }
+
+    /**
+     * 원격 호출 없이 끝난 경우 (예: 로컬 스레드풀 포화) - 실패로 세지 않고 받은 허가만 돌려준다
+     * 시험 호출 허가였다면 OPEN으로 되돌려 다음 호출이 바로 다시 시험할 수 있게 한다.
+     */
+    public void releasePermission() {
+        state.compareAndSet(State.HALF_OPEN, State.OPEN);
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * 다시 시도해볼 수 있을 때까지 남은 시간(초)
+     */
+    public long getRetryAfterSeconds() {
+        long remaining = openNanos - (System.nanoTime() - openedAt);
+        return Math.max(1, Duration.ofNanos(Math.max(0, remaining)).toSeconds());
+    }
+}
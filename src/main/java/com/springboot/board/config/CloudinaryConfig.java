@@ -1,12 +1,21 @@
 package com.springboot.board.config;
 
 import com.cloudinary.Cloudinary;
-import com.cloudinary.utils.ObjectUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 @Configuration
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "cloudinary", matchIfMissing = true)
 public class CloudinaryConfig {
 
     @Value("${cloudinary.cloud-name}")
@@ -18,13 +27,49 @@ public class CloudinaryConfig {
     @Value("${cloudinary.api-secret}")
     private String apiSecret;
 
+    @Value("${cloudinary.upload-prefix:}")
+    private String uploadPrefix; // 테스트용 가짜 서버 주소 (비어 있으면 api.cloudinary.com)
+
+    @Value("${cloudinary.timeout-seconds:20}")
+    private int timeoutSeconds;
+
+    @Value("${cloudinary.executor.threads:8}")
+    private int executorThreads;
+
+    @Value("${cloudinary.executor.queue-capacity:16}")
+    private int executorQueueCapacity;
+
+    @Value("${cloudinary.executor.virtual:false}")
+    private boolean executorVirtual;
+
     @Bean
     public Cloudinary cloudinary() {
-        return new Cloudinary(ObjectUtils.asMap(
-                "cloud_name", cloudName,
-                "api_key", apiKey,
-                "api_secret", apiSecret,
-                "secure", true // HTTPS 사용
-        ));
+        Map<String, Object> config = new HashMap<>();
+        config.put("cloud_name", cloudName);
+        config.put("api_key", apiKey);
+        config.put("api_secret", apiSecret);
+        config.put("secure", true); // HTTPS 사용
+        config.put("timeout", timeoutSeconds); // HTTP 연결/읽기 타임아웃(초)
+        if (!uploadPrefix.isBlank()) {
+            config.put("upload_prefix", uploadPrefix);
+        }
+        return new Cloudinary(config);
+    }
+
+    /**
+     * Cloudinary 호출 전용 스레드풀 (요청 스레드와 분리, 대기열이 차면 즉시 거절)
+     * 요청 스레드가 가상 스레드여도 Future 대기는 캐리어를 점유하지 않는다.
+     * HTTP 클라이언트 내부 synchronized 구간에서 캐리어가 고정(pinning)되지 않도록 기본은 플랫폼 스레드를 쓴다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService cloudinaryExecutor() {
+        ThreadFactory threadFactory = executorVirtual
+                ? Thread.ofVirtual().name("cloudinary-", 1).factory()
+                : Thread.ofPlatform().name("cloudinary-", 1).daemon(true).factory();
+        return new ThreadPoolExecutor(executorThreads, executorThreads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(executorQueueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
     }
 }
\ No newline at end of file
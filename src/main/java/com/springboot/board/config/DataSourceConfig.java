@@ -0,0 +1,104 @@
+package com.springboot.board.config;
+
+import com.springboot.board.common.datasource.DataSourceRole;
+import com.springboot.board.common.datasource.ReadWriteRoutingDataSource;
+import com.springboot.board.common.datasource.ReplicationContext;
+import com.springboot.board.common.datasource.ReplicationContextFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 분리 DataSource (app.datasource.replica.url 설정 시에만 활성화)
+ * readOnly 트랜잭션은 replica, 쓰기 트랜잭션은 primary로 보낸다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class DataSourceConfig {
+
+    @Value("${app.datasource.replica.url}")
+    private String replicaUrl;
+
+    @Value("${app.datasource.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${app.datasource.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int primaryPoolSize;
+
+    @Value("${app.datasource.replica.maximum-pool-size:20}")
+    private int replicaPoolSize;
+
+    @Value("${app.datasource.replica.read-your-writes-window-ms:1000}")
+    private long readYourWritesWindowMs;
+
+    @Bean
+    public ReplicationContext replicationContext() {
+        return new ReplicationContext(readYourWritesWindowMs);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReplicationContextFilter> replicationContextFilter(ReplicationContext replicationContext) {
+        FilterRegistrationBean<ReplicationContextFilter> registration =
+                new FilterRegistrationBean<>(new ReplicationContextFilter(replicationContext));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean(destroyMethod = "close")
+    @FlywayDataSource // 마이그레이션은 항상 primary에 (라우팅 DataSource를 거치지 않는다)
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+        primary.setMaximumPoolSize(primaryPoolSize);
+        return primary;
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties) {
+        HikariDataSource replica = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(replicaUrl)
+                .username(replicaUsername)
+                .password(replicaPassword)
+                .build();
+        replica.setPoolName("replica");
+        replica.setMaximumPoolSize(replicaPoolSize);
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    /**
+     * 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 커넥션을 얻어야 readOnly 여부로 라우팅할 수 있다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+                                 ReplicationContext replicationContext) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(replicationContext);
+        routing.setTargetDataSources(Map.of(
+                DataSourceRole.PRIMARY, primaryDataSource,
+                DataSourceRole.REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -3,6 +3,7 @@ package com.springboot.board.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.springboot.board.common.response.SparseFieldsetAdvice;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
@@ -28,6 +29,9 @@ public class JacksonConfig {
         objectMapper.configOverride(LocalDateTime.class)
                 .setFormat(JsonFormat.Value.forPattern("yyyy-MM-dd HH:mm:ss"));
 
+        // @JsonFilter DTO(SoulResponse 등)는 ?fields= 가 없으면 전체 직렬화 (SparseFieldsetAdvice)
+        objectMapper.setFilterProvider(SparseFieldsetAdvice.defaultFilters());
+
         return objectMapper;
     }
 
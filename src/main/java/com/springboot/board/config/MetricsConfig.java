@@ -0,0 +1,44 @@
+package com.springboot.board.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Micrometer 설정 (Prometheus: GET /actuator/prometheus)
+ * /api/v1/** 요청만 백분위 히스토그램을 발행한다. uri 태그는 경로 템플릿이라
+ * 엔드포인트별 p99 알림이 가능하다.
+ * 예: histogram_quantile(0.99, sum by (le) (rate(http_server_requests_seconds_bucket{uri="/api/v1/souls/traveling-visits"}[5m])))
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+    private static final String API_PREFIX = "/api/v1/";
+
+    @Bean
+    public MeterFilter apiLatencyHistogramFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!HTTP_SERVER_REQUESTS.equals(id.getName())) {
+                    return config;
+                }
+                String uri = id.getTag("uri");
+                if (uri == null || !uri.startsWith(API_PREFIX)) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(30).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
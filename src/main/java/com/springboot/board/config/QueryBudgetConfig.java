@@ -0,0 +1,47 @@
+package com.springboot.board.config;
+
+import com.springboot.board.common.query.QueryBudgetFilter;
+import com.springboot.board.common.query.QueryCountContext;
+import com.springboot.board.common.query.QueryCountInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 요청당 SQL 실행 횟수 집계 (N+1 탐지)
+ * StatementInspector로 Hibernate가 실행하는 문장을 세고, 한도를 넘은 요청은 WARN 로그를 남긴다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.query-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryBudgetConfig {
+
+    @Value("${app.query-budget.warn-threshold:10}")
+    private int warnThreshold;
+
+    @Value("${app.query-budget.expose-header:false}")
+    private boolean exposeHeader;
+
+    @Bean
+    public QueryCountContext queryCountContext() {
+        return new QueryCountContext(warnThreshold);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspectorCustomizer(QueryCountContext queryCountContext) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                new QueryCountInspector(queryCountContext));
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter(QueryCountContext queryCountContext) {
+        FilterRegistrationBean<QueryBudgetFilter> registration =
+                new FilterRegistrationBean<>(new QueryBudgetFilter(queryCountContext, exposeHeader));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
@@ -1,7 +1,10 @@
 package com.springboot.board.config;
 
+import com.springboot.board.common.interceptor.UploadBulkheadInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.lang.NonNull;
 
@@ -11,8 +14,20 @@ import org.springframework.lang.NonNull;
  * 웹 애플리케이션의 CORS 정책을 정의
  */
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final UploadBulkheadInterceptor uploadBulkheadInterceptor;
+
+    /**
+     * 이미지 쓰기 API에 bulkhead 적용 (GET은 인터셉터 내부에서 통과)
+     */
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(uploadBulkheadInterceptor)
+                .addPathPatterns("/api/v1/images", "/api/v1/images/**");
+    }
+
     /**
      * CORS 매핑을 추가하는 메서드
      * 
@@ -1,5 +1,6 @@
 package com.springboot.board.domain.entity;
 
+import com.springboot.board.domain.event.CatalogChangeListener;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.MappedSuperclass;
 import lombok.Getter;
@@ -11,7 +12,7 @@ import java.time.LocalDateTime;
 
 @Getter
 @MappedSuperclass
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, CatalogChangeListener.class})
 public abstract class BaseTimeEntity {
     
     @CreatedDate
@@ -19,4 +20,11 @@ public abstract class BaseTimeEntity {
     
     @LastModifiedDate
     private LocalDateTime modifiedDate;
+
+    /**
+     * 컬럼 변경 없이 컬렉션(키워드 등)만 바뀐 경우에도 동기화 대상이 되도록 수정 시각 갱신
+     */
+    public void markModified() {
+        this.modifiedDate = LocalDateTime.now();
+    }
 } 
\ No newline at end of file
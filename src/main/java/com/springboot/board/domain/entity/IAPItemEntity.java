@@ -7,10 +7,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "iap_item")
+@Table(name = "iap_item", indexes = @Index(name = "idx_iap_item_modified_date", columnList = "modified_date"))
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
-public class IAPItemEntity {
+public class IAPItemEntity extends BaseTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -39,12 +39,23 @@ public class IAPItemEntity {
     @Column(length = 50)
     private String priceInfo; // "$9.99" 또는 "75 양초"
 
-    @ElementCollection
-    @CollectionTable(name = "iap_item_keywords", joinColumns = @JoinColumn(name = "iap_item_id"))
-    @Column(name = "keyword", length = 50)
+    // 키워드 사전 참조 (입력 순서는 keyword_order로 유지)
+    @ManyToMany
+    @JoinTable(name = "iap_item_keyword",
+               joinColumns = @JoinColumn(name = "iap_item_id"),
+               inverseJoinColumns = @JoinColumn(name = "keyword_id"),
+               indexes = @Index(name = "idx_iap_item_keyword_keyword", columnList = "keyword_id, iap_item_id"))
+    @OrderColumn(name = "keyword_order")
     @Builder.Default
-    private List<String> keywords = new ArrayList<>();
+    private List<KeywordEntity> keywords = new ArrayList<>();
 
     @Column(length = 512)
     private String imageUrl; // 아이템 이미지 URL
-}
\ No newline at end of file
+
+    /**
+     * 키워드 이름 (응답용, 입력 순서)
+     */
+    public List<String> getKeywordNames() {
+        return keywords.stream().map(KeywordEntity::getName).toList();
+    }
+}
@@ -0,0 +1,59 @@
+package com.springboot.board.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장소에 실제로 올라간 이미지 (내용 해시 기준 1건)
+ * 같은 파일을 여러 영혼에 올리면 soul_image 행은 여러 개, 자산은 1개를 공유한다.
+ */
+@Entity
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+@Table(name = "image_asset",
+       uniqueConstraints = @UniqueConstraint(name = "uk_image_asset_content_hash", columnNames = "content_hash"))
+public class ImageAssetEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash; // SHA-256 (hex)
+
+    @Column(nullable = false)
+    private String fileName; // 저장소 키 (Cloudinary public_id)
+
+    @Column(nullable = false, length = 512)
+    private String url;
+
+    private Long fileSize;
+
+    // ========== 반응형 이미지 ==========
+    private Integer width;   // 원본 가로(px)
+    private Integer height;  // 원본 세로(px)
+
+    @Column(length = 2048)
+    private String placeholder; // LQIP data URI
+
+    @Column(length = 512)
+    private String thumbnailUrl;
+
+    @Column(length = 512)
+    private String mediumUrl;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int refCount = 1; // 이 자산을 참조하는 soul_image 수
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
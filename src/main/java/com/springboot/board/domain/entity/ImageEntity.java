@@ -1,6 +1,8 @@
 package com.springboot.board.domain.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -8,8 +10,17 @@ import java.time.LocalDateTime;
 @Entity
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
-@Table(name = "soul_image")
-public class ImageEntity {
+@Table(name = "soul_image",
+       indexes = {
+           @Index(name = "idx_soul_image_content_hash", columnList = "content_hash"),
+           @Index(name = "idx_soul_image_file_name", columnList = "file_name"), // 저장소 키 참조 확인 (공유 자산이라 유니크 아님)
+           @Index(name = "idx_soul_image_soul_uploaded", columnList = "soul_id, uploaded_at"), // 미연결 이미지 정리용
+           @Index(name = "idx_soul_image_soul_type", columnList = "soul_id, image_type"), // 영혼별 유형 조회
+           @Index(name = "idx_soul_image_modified_date", columnList = "modified_date") // 증분 동기화용
+       })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "image")
+public class ImageEntity extends BaseTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -29,8 +40,9 @@ public class ImageEntity {
     @Column(length = 30, nullable = false)
     private String imageType;
 
-    @Column(nullable = false, unique = true)
-    private String fileName; // UUID.ext
+    // ✅ unique 제거 (중복 업로드는 같은 저장소 자산을 공유)
+    @Column(nullable = false)
+    private String fileName; // 저장소 키 (Cloudinary public_id)
 
     @Column(nullable = false, length = 512)
     private String url;
@@ -38,6 +50,22 @@ public class ImageEntity {
     private Long fileSize;
     private LocalDateTime uploadedAt;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // SHA-256, image_asset 참조 (기존 데이터는 null)
+
+    // ========== 반응형 이미지 ==========
+    private Integer width;   // 원본 가로(px)
+    private Integer height;  // 원본 세로(px)
+
+    @Column(length = 2048)
+    private String placeholder; // LQIP data URI
+
+    @Column(length = 512)
+    private String thumbnailUrl;
+
+    @Column(length = 512)
+    private String mediumUrl;
+
     @PrePersist
     protected void onCreate() {
         if (uploadedAt == null) {
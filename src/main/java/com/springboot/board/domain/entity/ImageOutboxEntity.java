@@ -0,0 +1,58 @@
+package com.springboot.board.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원격 저장소(Cloudinary) 삭제 대기열
+ * DB 변경과 같은 트랜잭션에서 기록되고, 백그라운드 워커가 배치로 처리한다.
+ */
+@Entity
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+@Table(name = "image_outbox",
+       indexes = @Index(name = "idx_image_outbox_status_next", columnList = "status, next_attempt_at"))
+public class ImageOutboxEntity {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String publicId; // 삭제할 Cloudinary public_id
+
+    /**
+     * PENDING - 처리 대기
+     * FAILED - 최대 재시도 초과
+     */
+    @Column(length = 20, nullable = false)
+    @Builder.Default
+    private String status = STATUS_PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 512)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+}
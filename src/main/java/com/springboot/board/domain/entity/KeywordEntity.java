@@ -0,0 +1,32 @@
+package com.springboot.board.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+/**
+ * 키워드 사전 - 영혼과 IAP 아이템이 같은 id를 공유한다 (KeywordBitmapIndex의 키)
+ * 이름은 대소문자를 구분한다 (utf8mb4_bin).
+ */
+@Entity
+@Table(name = "keyword", uniqueConstraints = @UniqueConstraint(name = "uk_keyword_name", columnNames = "name"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "keyword")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class KeywordEntity {
+
+    public static final int MAX_LENGTH = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, length = MAX_LENGTH)
+    private String name;
+
+    public static KeywordEntity of(String name) {
+        return KeywordEntity.builder().name(name).build();
+    }
+}
@@ -1,6 +1,8 @@
 package com.springboot.board.domain.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
 import java.time.LocalDate;
@@ -9,10 +11,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "season")
+@Table(name = "season", indexes = @Index(name = "idx_season_modified_date", columnList = "modified_date"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "season")
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
-public class SeasonEntity {
+public class SeasonEntity extends BaseTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
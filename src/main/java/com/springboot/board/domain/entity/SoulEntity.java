@@ -1,6 +1,9 @@
 package com.springboot.board.domain.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 
@@ -9,10 +12,16 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "soul")
+@Table(name = "soul",
+       indexes = {
+           @Index(name = "idx_soul_season_order", columnList = "season_id, order_num"), // 시즌별 목록
+           @Index(name = "idx_soul_modified_date", columnList = "modified_date") // 증분 동기화용
+       })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "soul")
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
-public class SoulEntity {
+public class SoulEntity extends BaseTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -43,12 +52,17 @@ public class SoulEntity {
     private Integer rerunCount; // 호환성 유지 (자동 계산으로 변경 예정)
 
     // ========== 검색용 키워드 ==========
-    @ElementCollection
-    @CollectionTable(name = "soul_keywords", joinColumns = @JoinColumn(name = "soul_id"))
-    @Column(name = "keyword", length = 50)
+    // 키워드 사전 참조 (입력 순서는 keyword_order로 유지)
+    @ManyToMany
+    @JoinTable(name = "soul_keyword",
+               joinColumns = @JoinColumn(name = "soul_id"),
+               inverseJoinColumns = @JoinColumn(name = "keyword_id"),
+               indexes = @Index(name = "idx_soul_keyword_keyword", columnList = "keyword_id, soul_id"))
+    @OrderColumn(name = "keyword_order")
     @Size(max = 15)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "soul_keywords")
     @Builder.Default
-    private List<String> keywords = new ArrayList<>();
+    private List<KeywordEntity> keywords = new ArrayList<>();
 
     // ========== 메타 정보 ==========
     @Column(length = 255)
@@ -64,11 +78,13 @@ public class SoulEntity {
 
     // ========== 관계 ==========
     @OneToMany(mappedBy = "soul", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "soul_images")
     @Builder.Default
     private List<ImageEntity> images = new ArrayList<>();
 
     @OneToMany(mappedBy = "soul", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("visitNumber ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "soul_travelingVisits")
     @Builder.Default
     private List<TravelingVisitEntity> travelingVisits = new ArrayList<>();
 
@@ -90,10 +106,20 @@ public class SoulEntity {
     }
 
     // rerunCount 자동 동기화 (선택적)
+    // travelingVisits가 이미 로딩된 경우에만 - 로딩 시마다 컬렉션을 초기화하면 목록 조회가 N+1이 된다
     @PostLoad
     @PostPersist
     @PostUpdate
     private void syncRerunCount() {
-        this.rerunCount = getTotalVisitCount();
+        if (Hibernate.isInitialized(travelingVisits)) {
+            this.rerunCount = getTotalVisitCount();
+        }
     }
-}
\ No newline at end of file
+
+    /**
+     * 키워드 이름 (응답용, 입력 순서)
+     */
+    public List<String> getKeywordNames() {
+        return keywords.stream().map(KeywordEntity::getName).toList();
+    }
+}
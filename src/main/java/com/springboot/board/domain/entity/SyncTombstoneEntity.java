@@ -0,0 +1,46 @@
+package com.springboot.board.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제 기록 (증분 동기화용)
+ * 카탈로그 행을 삭제하는 트랜잭션에서 함께 기록되고, /api/v1/sync 가 since 이후의 삭제를 내려준다.
+ * 보존 기간이 지나면 정리되며, 그보다 오래된 토큰은 전체 동기화로 처리한다.
+ */
+@Entity
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+@Table(name = "sync_tombstone",
+       indexes = @Index(name = "idx_sync_tombstone_deleted_at", columnList = "deleted_at"))
+public class SyncTombstoneEntity {
+
+    public static final String TYPE_SEASON = "SEASON";
+    public static final String TYPE_SOUL = "SOUL";
+    public static final String TYPE_TRAVELING_VISIT = "TRAVELING_VISIT";
+    public static final String TYPE_IMAGE = "IMAGE";
+    public static final String TYPE_IAP_ITEM = "IAP_ITEM";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 30, nullable = false)
+    private String entityType; // TYPE_* 상수
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    public static SyncTombstoneEntity of(String entityType, Number entityId) {
+        return SyncTombstoneEntity.builder()
+                .entityType(entityType)
+                .entityId(entityId.longValue())
+                .deletedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -1,15 +1,25 @@
 package com.springboot.board.domain.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "traveling_visit")
+@Table(name = "traveling_visit",
+       uniqueConstraints = @UniqueConstraint(name = "uk_traveling_visit_soul_visit", columnNames = {"soul_id", "visit_number"}),
+       indexes = {
+           @Index(name = "idx_traveling_visit_end_date", columnList = "end_date"), // 진행 중인 유랑
+           @Index(name = "idx_traveling_visit_start_end", columnList = "start_date, end_date"),
+           @Index(name = "idx_traveling_visit_modified_date", columnList = "modified_date") // 증분 동기화용
+       })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "travelingVisit")
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
-public class TravelingVisitEntity {
+public class TravelingVisitEntity extends BaseTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,57 @@
+package com.springboot.board.domain.event;
+
+import com.springboot.board.domain.entity.IAPItemEntity;
+import com.springboot.board.domain.entity.ImageEntity;
+import com.springboot.board.domain.entity.SeasonEntity;
+import com.springboot.board.domain.entity.SoulEntity;
+import com.springboot.board.domain.entity.SyncTombstoneEntity;
+import com.springboot.board.domain.entity.TravelingVisitEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * BaseTimeEntity 하위 엔티티의 저장/삭제를 CatalogChangedEvent로 발행
+ * Hibernate가 SpringBeanContainer로 생성하므로 생성자 주입을 쓸 수 있다.
+ * 받는 쪽은 @TransactionalEventListener로 커밋된 변경만 처리한다.
+ */
+public class CatalogChangeListener {
+
+    private final ApplicationEventPublisher publisher;
+
+    public CatalogChangeListener(ApplicationEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object entity) {
+        publish(entity, CatalogChangedEvent.Action.UPSERT);
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        publish(entity, CatalogChangedEvent.Action.DELETE);
+    }
+
+    private void publish(Object entity, CatalogChangedEvent.Action action) {
+        CatalogChangedEvent event = switch (entity) {
+            case SeasonEntity season -> event(SyncTombstoneEntity.TYPE_SEASON, season.getId(), action);
+            case SoulEntity soul -> event(SyncTombstoneEntity.TYPE_SOUL, soul.getId(), action);
+            case TravelingVisitEntity visit -> event(SyncTombstoneEntity.TYPE_TRAVELING_VISIT, visit.getId(), action);
+            case IAPItemEntity item -> event(SyncTombstoneEntity.TYPE_IAP_ITEM, item.getId(), action);
+            // 영혼에 연결되지 않은 업로드 이미지는 카탈로그가 아니다
+            case ImageEntity image when image.getSoul() != null ->
+                    event(SyncTombstoneEntity.TYPE_IMAGE, image.getId(), action);
+            default -> null;
+        };
+        if (event != null) {
+            publisher.publishEvent(event);
+        }
+    }
+
+    private static CatalogChangedEvent event(String type, Number id, CatalogChangedEvent.Action action) {
+        return id == null ? null : new CatalogChangedEvent(type, id.longValue(), action);
+    }
+}
@@ -0,0 +1,12 @@
+package com.springboot.board.domain.event;
+
+/**
+ * 카탈로그 행 변경 알림 (커밋 후 푸시/캐시 갱신용)
+ * entityType은 SyncTombstoneEntity.TYPE_* 와 같은 값
+ */
+public record CatalogChangedEvent(String entityType, Long entityId, Action action) {
+
+    public enum Action {
+        UPSERT, DELETE
+    }
+}
@@ -0,0 +1,8 @@
+package com.springboot.board.domain.event;
+
+/**
+ * 유랑 기록 생성/수정/삭제 알림 (TravelingVisitService가 발행, 커밋 후 재방문 통계 갱신용)
+ * 삭제된 기록도 어느 영혼의 것이었는지 알 수 있도록 soulId를 싣는다.
+ */
+public record TravelingVisitChangedEvent(Integer soulId) {
+}
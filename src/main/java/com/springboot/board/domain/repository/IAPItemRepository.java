@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -18,6 +19,18 @@ public interface IAPItemRepository extends JpaRepository<IAPItemEntity, Long> {
     @Query("SELECT DISTINCT i FROM IAPItemEntity i " +
            "LEFT JOIN i.keywords k " +
            "WHERE i.name LIKE %:query% " +
-           "OR k LIKE %:query%")
+           "OR LOWER(k.name) LIKE LOWER(CONCAT('%', :query, '%'))")
     List<IAPItemEntity> searchItems(@Param("query") String query);
+
+    // 증분 동기화 (modified_date 인덱스, 시즌/키워드 함께 조회)
+    @Query("SELECT DISTINCT i FROM IAPItemEntity i " +
+           "JOIN FETCH i.season " +
+           "LEFT JOIN FETCH i.keywords " +
+           "WHERE i.modifiedDate > :since")
+    List<IAPItemEntity> findModifiedAfter(@Param("since") LocalDateTime since);
+
+    @Query("SELECT DISTINCT i FROM IAPItemEntity i " +
+           "JOIN FETCH i.season " +
+           "LEFT JOIN FETCH i.keywords")
+    List<IAPItemEntity> findAllWithSeasonAndKeywords();
 }
\ No newline at end of file
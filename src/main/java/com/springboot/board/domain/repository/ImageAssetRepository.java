@@ -0,0 +1,34 @@
+package com.springboot.board.domain.repository;
+
+import com.springboot.board.domain.entity.ImageAssetEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ImageAssetRepository extends JpaRepository<ImageAssetEntity, Long> {
+
+    Optional<ImageAssetEntity> findByContentHash(String contentHash);
+
+    /**
+     * 참조 수 증가 (원자적) - 갱신된 행 수 반환
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ImageAssetEntity a SET a.refCount = a.refCount + 1 WHERE a.contentHash = :hash")
+    int incrementRefCount(@Param("hash") String contentHash);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ImageAssetEntity a SET a.refCount = a.refCount - 1 WHERE a.contentHash = :hash AND a.refCount > 0")
+    int decrementRefCount(@Param("hash") String contentHash);
+
+    /**
+     * 참조가 없는 자산 삭제 - 삭제된 경우에만 1 반환
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ImageAssetEntity a WHERE a.contentHash = :hash AND a.refCount <= 0")
+    int deleteIfUnreferenced(@Param("hash") String contentHash);
+}
@@ -0,0 +1,29 @@
+package com.springboot.board.domain.repository;
+
+import com.springboot.board.domain.entity.ImageOutboxEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ImageOutboxRepository extends JpaRepository<ImageOutboxEntity, Long> {
+
+    /**
+     * 처리할 대기열 항목 조회 (다른 워커가 잡은 행은 SKIP LOCKED로 건너뜀)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<ImageOutboxEntity> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+            String status, LocalDateTime now, Pageable pageable);
+
+    boolean existsByStatusAndNextAttemptAtLessThanEqual(String status, LocalDateTime now);
+
+    long countByStatus(String status);
+}
@@ -8,8 +8,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface ImageRepository extends JpaRepository<ImageEntity, Long> {
@@ -31,9 +32,37 @@ public interface ImageRepository extends JpaRepository<ImageEntity, Long> {
     @Query("SELECT i FROM ImageEntity i WHERE i.fileName LIKE %:fileName%")
     Page<ImageEntity> findByFileNameContaining(@Param("fileName") String fileName, Pageable pageable);
 
-    @Query("SELECT i FROM ImageEntity i WHERE DATE(i.uploadedAt) = CURRENT_DATE")
+    @Query("SELECT i FROM ImageEntity i WHERE CAST(i.uploadedAt AS date) = CURRENT_DATE")
     Page<ImageEntity> findTodaysImages(Pageable pageable);
     
-    // ✅ 파일명으로 이미지 찾기 (URL 기반 삭제용)
-    Optional<ImageEntity> findByFileName(String fileName);
+    // ✅ 파일명으로 이미지 찾기 (URL 기반 삭제용) - 공유 자산이면 여러 행 (idx_soul_image_file_name)
+    List<ImageEntity> findAllByFileName(String fileName);
+
+    /**
+     * 영혼 생성/수정 시 URL로 연결할 미연결 이미지 후보 (IAP 아이템 이미지로 쓰이는 URL 제외, 최근 업로드 우선)
+     */
+    @Query("SELECT i FROM ImageEntity i " +
+           "WHERE i.soul IS NULL AND i.url IN :urls " +
+           "AND NOT EXISTS (SELECT 1 FROM IAPItemEntity it WHERE it.imageUrl = i.url) " +
+           "ORDER BY i.id DESC")
+    List<ImageEntity> findAttachableByUrls(@Param("urls") Collection<String> urls);
+
+    /**
+     * 유예 기간이 지난 미연결 이미지 (IAP 아이템 이미지로 쓰이는 것은 제외)
+     * idx_soul_image_soul_uploaded (soul_id, uploaded_at) 범위 스캔
+     */
+    @Query("SELECT i FROM ImageEntity i " +
+           "WHERE i.soul IS NULL AND i.uploadedAt < :cutoff " +
+           "AND NOT EXISTS (SELECT 1 FROM IAPItemEntity it WHERE it.imageUrl = i.url) " +
+           "ORDER BY i.uploadedAt ASC")
+    List<ImageEntity> findOrphans(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 아직 참조 중인 저장소 키 조회 (outbox 삭제 전 확인용)
+    @Query("SELECT DISTINCT i.fileName FROM ImageEntity i WHERE i.fileName IN :fileNames")
+    List<String> findReferencedFileNames(@Param("fileNames") Collection<String> fileNames);
+
+    // 증분 동기화 - 영혼에 연결된 이미지만 (modified_date 인덱스)
+    List<ImageEntity> findBySoulIsNotNullAndModifiedDateAfter(LocalDateTime since);
+
+    List<ImageEntity> findBySoulIsNotNull();
 }
\ No newline at end of file
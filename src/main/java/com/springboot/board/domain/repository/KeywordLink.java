@@ -0,0 +1,7 @@
+package com.springboot.board.domain.repository;
+
+/**
+ * (영혼 또는 IAP 아이템 id, 키워드 id) 한 쌍 - 비트맵 인덱스 적재용 projection
+ */
+public record KeywordLink(Number ownerId, Integer keywordId) {
+}
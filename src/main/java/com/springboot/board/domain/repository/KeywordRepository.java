@@ -0,0 +1,22 @@
+package com.springboot.board.domain.repository;
+
+import com.springboot.board.domain.entity.KeywordEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface KeywordRepository extends JpaRepository<KeywordEntity, Integer> {
+
+    List<KeywordEntity> findByNameIn(Collection<String> names);
+
+    // ========== 비트맵 인덱스 적재 (조인 테이블만 읽는다) ==========
+    @Query("SELECT new com.springboot.board.domain.repository.KeywordLink(s.id, k.id) " +
+           "FROM SoulEntity s JOIN s.keywords k")
+    List<KeywordLink> findSoulLinks();
+
+    @Query("SELECT new com.springboot.board.domain.repository.KeywordLink(i.id, k.id) " +
+           "FROM IAPItemEntity i JOIN i.keywords k")
+    List<KeywordLink> findItemLinks();
+}
@@ -0,0 +1,10 @@
+package com.springboot.board.domain.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 재방문 통계용 유랑 한 건 (영혼/시즌 이름 포함, 엔티티를 로딩하지 않는다)
+ */
+public record RerunVisitRow(Integer soulId, String soulName, Integer seasonId, String seasonName,
+                            Integer seasonOrder, LocalDate startDate, LocalDate endDate) {
+}
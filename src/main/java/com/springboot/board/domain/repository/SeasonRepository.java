@@ -1,10 +1,13 @@
 package com.springboot.board.domain.repository;
 
 import com.springboot.board.domain.entity.SeasonEntity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,9 +16,15 @@ public interface SeasonRepository extends JpaRepository<SeasonEntity, Integer> {
 
     Optional<SeasonEntity> findByName(String name);
 
+    // 시즌 목록은 거의 바뀌지 않으므로 쿼리 캐시 사용 (season 테이블 변경 시 자동 무효화)
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<SeasonEntity> findAllByOrderByOrderNumAsc();
 
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<SeasonEntity> findAllByIsCollaboration(boolean isCollaboration);
 
     boolean existsByOrderNum(Integer orderNum);
+
+    // 증분 동기화 (modified_date 인덱스)
+    List<SeasonEntity> findByModifiedDateAfter(LocalDateTime since);
 }
\ No newline at end of file
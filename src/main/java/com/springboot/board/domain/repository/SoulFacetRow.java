@@ -0,0 +1,8 @@
+package com.springboot.board.domain.repository;
+
+/**
+ * 패싯 스냅샷용 영혼 한 행 (엔티티/연관관계를 로딩하지 않는다)
+ */
+public record SoulFacetRow(Integer soulId, Integer seasonId, String seasonName, Integer seasonOrder,
+                           Integer orderNum, String creator, boolean seasonGuide) {
+}
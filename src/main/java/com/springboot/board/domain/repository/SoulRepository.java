@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -20,7 +22,7 @@ public interface SoulRepository extends JpaRepository<SoulEntity, Integer> {
     @Query("SELECT DISTINCT s FROM SoulEntity s LEFT JOIN s.keywords k " +
             "WHERE s.name LIKE %:query% " +
             "OR s.seasonName LIKE %:query% " +
-            "OR k LIKE %:query% " +
+            "OR LOWER(k.name) LIKE LOWER(CONCAT('%', :query, '%')) " +
             "ORDER BY s.season.startDate DESC, s.orderNum ASC")
     List<SoulEntity> searchSouls(@Param("query") String query);
 
@@ -33,6 +35,32 @@ public interface SoulRepository extends JpaRepository<SoulEntity, Integer> {
     @Query("SELECT s FROM SoulEntity s WHERE s.id = :id")
     Optional<SoulEntity> findByIdWithDetails(@Param("id") Integer id);
 
+    // ========== 다건 조회 (id IN, 연관관계별로 나눠서 fetch) ==========
+    @Query("SELECT s FROM SoulEntity s LEFT JOIN FETCH s.season WHERE s.id IN :ids")
+    List<SoulEntity> findAllWithSeasonByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Query("SELECT DISTINCT s FROM SoulEntity s LEFT JOIN FETCH s.images WHERE s.id IN :ids")
+    List<SoulEntity> fetchImagesByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Query("SELECT DISTINCT s FROM SoulEntity s LEFT JOIN FETCH s.travelingVisits WHERE s.id IN :ids")
+    List<SoulEntity> fetchTravelingVisitsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Query("SELECT DISTINCT s FROM SoulEntity s LEFT JOIN FETCH s.keywords WHERE s.id IN :ids")
+    List<SoulEntity> fetchKeywordsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // ========== 증분 동기화 (modified_date 인덱스) ==========
+    @Query("SELECT s.id FROM SoulEntity s WHERE s.modifiedDate > :since")
+    List<Integer> findIdsModifiedAfter(@Param("since") LocalDateTime since);
+
+    @Query("SELECT s.id FROM SoulEntity s")
+    List<Integer> findAllIds();
+
+    // ========== 패싯 스냅샷 (SoulFacetIndex) ==========
+    @Query("SELECT new com.springboot.board.domain.repository.SoulFacetRow(" +
+           "s.id, se.id, se.name, se.orderNum, s.orderNum, s.creator, s.isSeasonGuide) " +
+           "FROM SoulEntity s JOIN s.season se")
+    List<SoulFacetRow> findFacetRows();
+
     // ========== 시즌별 조회 ==========
     List<SoulEntity> findBySeasonId(Integer seasonId);
     
@@ -49,7 +77,7 @@ public interface SoulRepository extends JpaRepository<SoulEntity, Integer> {
            "LEFT JOIN s.keywords k " +
            "WHERE s.name LIKE %:query% " +
            "OR s.seasonName LIKE %:query% " +
-           "OR k LIKE %:query% " +
+           "OR LOWER(k.name) LIKE LOWER(CONCAT('%', :query, '%')) " +
            "ORDER BY s.season.startDate DESC, s.orderNum ASC")
     Page<SoulEntity> findByNameOrKeywordsContaining(@Param("query") String query, Pageable pageable);
 
@@ -58,7 +86,7 @@ public interface SoulRepository extends JpaRepository<SoulEntity, Integer> {
            "LEFT JOIN FETCH s.season season " +
            "LEFT JOIN s.keywords k " +
            "WHERE season.name = :seasonName " +
-           "AND (s.name LIKE %:query% OR s.seasonName LIKE %:query% OR k LIKE %:query%) " +
+           "AND (s.name LIKE %:query% OR s.seasonName LIKE %:query% OR LOWER(k.name) LIKE LOWER(CONCAT('%', :query, '%'))) " +
            "ORDER BY s.orderNum ASC")
     Page<SoulEntity> findBySeasonNameAndQuery(
         @Param("seasonName") String seasonName, 
@@ -0,0 +1,7 @@
+package com.springboot.board.domain.repository;
+
+/**
+ * 패싯 스냅샷용 영혼별 유랑 집계 (방문 수, 유랑단 방문 수)
+ */
+public record SoulVisitFacet(Integer soulId, Long visitCount, Long warbandCount) {
+}
@@ -0,0 +1,9 @@
+package com.springboot.board.domain.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 영혼별 유랑 집계 (travelingVisits 컬렉션을 로딩하지 않고 rerunCount/lastVisitDate 계산)
+ */
+public record SoulVisitStats(Integer soulId, Long visitCount, LocalDate lastVisitDate) {
+}
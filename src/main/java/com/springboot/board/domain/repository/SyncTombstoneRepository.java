@@ -0,0 +1,24 @@
+package com.springboot.board.domain.repository;
+
+import com.springboot.board.domain.entity.SyncTombstoneEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstoneEntity, Long> {
+
+    List<SyncTombstoneEntity> findByDeletedAtAfterOrderByIdAsc(LocalDateTime since);
+
+    /**
+     * 보존 기간이 지난 삭제 기록 정리
+     */
+    @Modifying
+    @Query("DELETE FROM SyncTombstoneEntity t WHERE t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -9,6 +9,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +31,44 @@ public interface TravelingVisitRepository extends JpaRepository<TravelingVisitEn
        "WHERE v.visitNumber IS NOT NULL " +
        "ORDER BY v.endDate DESC")
 List<TravelingVisitEntity> findAllValidVisitsWithSoul();
+
+    /**
+     * findAllValidVisitsWithSoul과 같지만 이미지는 로딩하지 않음 (?fields= 에 images가 없을 때)
+     */
+    @Query("SELECT v FROM TravelingVisitEntity v " +
+           "LEFT JOIN FETCH v.soul s " +
+           "LEFT JOIN FETCH s.season " +
+           "WHERE v.visitNumber IS NOT NULL " +
+           "ORDER BY v.endDate DESC")
+    List<TravelingVisitEntity> findAllValidVisitsWithSoulAndSeason();
+
+    /**
+     * 영혼별 방문 수 / 마지막 방문 종료일 (목록 응답의 rerunCount, lastVisitDate용)
+     */
+    @Query("SELECT new com.springboot.board.domain.repository.SoulVisitStats(v.soul.id, COUNT(v), MAX(v.endDate)) " +
+           "FROM TravelingVisitEntity v WHERE v.soul.id IN :soulIds GROUP BY v.soul.id")
+    List<SoulVisitStats> findVisitStatsBySoulIds(@Param("soulIds") Collection<Integer> soulIds);
+
+    /**
+     * 영혼별 방문 수 / 유랑단 방문 수 (패싯 스냅샷용, 전체)
+     */
+    @Query("SELECT new com.springboot.board.domain.repository.SoulVisitFacet(v.soul.id, COUNT(v), " +
+           "SUM(CASE WHEN v.isWarbandVisit = true THEN 1L ELSE 0L END)) " +
+           "FROM TravelingVisitEntity v GROUP BY v.soul.id")
+    List<SoulVisitFacet> findVisitFacets();
+
+    /**
+     * 재방문 통계 (RerunStatsStore) - 기동 시 전체, 이후에는 바뀐 영혼만
+     */
+    @Query("SELECT new com.springboot.board.domain.repository.RerunVisitRow(" +
+           "s.id, s.name, se.id, se.name, se.orderNum, v.startDate, v.endDate) " +
+           "FROM TravelingVisitEntity v JOIN v.soul s JOIN s.season se")
+    List<RerunVisitRow> findRerunRows();
+
+    @Query("SELECT new com.springboot.board.domain.repository.RerunVisitRow(" +
+           "s.id, s.name, se.id, se.name, se.orderNum, v.startDate, v.endDate) " +
+           "FROM TravelingVisitEntity v JOIN v.soul s JOIN s.season se WHERE s.id IN :soulIds")
+    List<RerunVisitRow> findRerunRowsBySoulIdIn(@Param("soulIds") Collection<Integer> soulIds);
     /**
      * 특정 영혼의 특정 visitNumber 존재 여부 확인
      */
@@ -46,6 +86,9 @@ List<TravelingVisitEntity> findAllValidVisitsWithSoul();
     // 특정 영혼의 특정 방문 번호 조회 (중복 체크용)
     Optional<TravelingVisitEntity> findBySoulIdAndVisitNumber(Integer soulId, Integer visitNumber);
 
+    // 증분 동기화 (modified_date 인덱스)
+    List<TravelingVisitEntity> findByModifiedDateAfter(LocalDateTime since);
+
     // 현재 진행 중인 방문 기록 조회 (오늘 날짜가 startDate와 endDate 사이)
     @Query("SELECT v FROM TravelingVisitEntity v WHERE :today BETWEEN v.startDate AND v.endDate")
     List<TravelingVisitEntity> findCurrentVisits(@Param("today") LocalDate today);
@@ -60,7 +103,20 @@ List<TravelingVisitEntity> findAllValidVisitsWithSoul();
            "WHERE v.visitNumber IS NOT NULL AND (" +
            "LOWER(s.name) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
            "LOWER(s.seasonName) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(k) LIKE LOWER(CONCAT('%', :query, '%')))"+
+           "LOWER(k.name) LIKE LOWER(CONCAT('%', :query, '%')))"+
            "ORDER BY v.startDate DESC, v.visitNumber DESC")
     Page<TravelingVisitEntity> searchWithSoulAndImages(@Param("query") String query, Pageable pageable);
+
+    /**
+     * searchWithSoulAndImages와 같지만 이미지는 로딩하지 않음
+     */
+    @Query("SELECT DISTINCT v FROM TravelingVisitEntity v " +
+           "LEFT JOIN FETCH v.soul s " +
+           "LEFT JOIN s.keywords k " +
+           "WHERE v.visitNumber IS NOT NULL AND (" +
+           "LOWER(s.name) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
+           "LOWER(s.seasonName) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
+           "LOWER(k.name) LIKE LOWER(CONCAT('%', :query, '%')))" +
+           "ORDER BY v.startDate DESC, v.visitNumber DESC")
+    List<TravelingVisitEntity> searchWithSoul(@Param("query") String query);
 }
\ No newline at end of file
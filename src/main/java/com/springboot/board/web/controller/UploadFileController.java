@@ -0,0 +1,215 @@
+package com.springboot.board.web.controller;
+
+import com.springboot.board.application.storage.LocalImageStorage;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬 저장소 이미지 서빙 (app.storage.type=local)
+ * 경로가 내용 해시 기반이라 immutable 캐시가 가능하고,
+ * Tomcat sendfile을 지원하면 커널 zero-copy로 전송한다.
+ * 모든 응답(304/404/416 포함)에 nosniff와 CSP sandbox를 붙여 업로드 파일이 문서로 실행되지 않게 한다.
+ */
+@Hidden
+@Controller
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+public class UploadFileController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String CONTENT_TYPE_OPTIONS = "X-Content-Type-Options";
+    private static final String CONTENT_SECURITY_POLICY = "Content-Security-Policy";
+
+    private final LocalImageStorage storage;
+
+    @RequestMapping(value = "/uploads/{*path}", method = { RequestMethod.GET, RequestMethod.HEAD })
+    public void serve(@PathVariable String path, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setHeader(CONTENT_TYPE_OPTIONS, "nosniff");
+        response.setHeader(CONTENT_SECURITY_POLICY, "sandbox");
+
+        Path file;
+        try {
+            file = storage.resolve(path.startsWith("/") ? path.substring(1) : path);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (!Files.isRegularFile(file)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long length = Files.size(file);
+        String etag = "\"" + file.getFileName() + "\"";
+        MediaType mediaType = MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentType(mediaType.toString());
+
+        if (noneMatch(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        // Range 요청 처리 - If-Range는 강한 비교라 약한 ETag나 날짜면 전체 응답
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (rangeHeader != null && (ifRange == null || ifRange.trim().equals(etag))) {
+            List<ResourceRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader).stream()
+                        .map(range -> new ResourceRange(range.getRangeStart(length), range.getRangeEnd(length)))
+                        .toList();
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (ranges.size() == 1) {
+                start = ranges.get(0).start();
+                end = ranges.get(0).end();
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            } else if (ranges.stream().mapToLong(ResourceRange::count).sum() <= length) {
+                // 다중 범위는 multipart/byteranges (sendfile 없이 직접 쓴다)
+                // 범위 합이 파일보다 크면(겹치는 범위 남용) Range를 무시하고 전체 응답
+                serveMultipart(file, length, mediaType, ranges, request, response);
+                return;
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        // Tomcat NIO: 응답 반환 후 커넥터가 sendfile로 직접 전송
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            transfer(channel, start, end, out);
+        }
+    }
+
+    /**
+     * If-None-Match - "*", 쉼표로 구분한 목록, 약한 ETag(W/) 모두 약한 비교로 확인
+     */
+    private static boolean noneMatch(String header, String etag) {
+        if (header == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void serveMultipart(Path file, long length, MediaType mediaType, List<ResourceRange> ranges,
+                                HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+        long contentLength = 0;
+        for (ResourceRange range : ranges) {
+            byte[] header = ("\r\n--" + boundary + "\r\n"
+                    + HttpHeaders.CONTENT_TYPE + ": " + mediaType + "\r\n"
+                    + HttpHeaders.CONTENT_RANGE + ": bytes " + range.start() + "-" + range.end() + "/" + length
+                    + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(header);
+            contentLength += header.length + range.count();
+        }
+        byte[] closing = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        contentLength += closing.length;
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        OutputStream stream = response.getOutputStream();
+        WritableByteChannel out = Channels.newChannel(stream);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            for (int i = 0; i < ranges.size(); i++) {
+                stream.write(partHeaders.get(i));
+                transfer(channel, ranges.get(i).start(), ranges.get(i).end(), out);
+            }
+        }
+        stream.write(closing);
+    }
+
+    /**
+     * 파일이 전송 중에 잘리면 transferTo가 0을 반환하므로 진행이 없으면 실패시킨다 (응답은 Content-Length보다 짧게 끊긴다)
+     */
+    private static void transfer(FileChannel channel, long start, long end, WritableByteChannel out)
+            throws IOException {
+        long position = start;
+        while (position <= end) {
+            long transferred = channel.transferTo(position, end + 1 - position, out);
+            if (transferred <= 0) {
+                throw new IOException("File ended before the requested range was sent: " + position + "/" + (end + 1));
+            }
+            position += transferred;
+        }
+    }
+
+    private record ResourceRange(long start, long end) {
+        ResourceRange {
+            if (start > end) {
+                throw new IllegalArgumentException("Range starts beyond the end of the file");
+            }
+        }
+
+        long count() {
+            return end - start + 1;
+        }
+    }
+}
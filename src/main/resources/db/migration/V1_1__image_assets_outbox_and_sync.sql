@@ -0,0 +1,80 @@
+-- 기준 스키마(V1) 이후 추가된 테이블/컬럼
+-- 기존 DB는 V1로 기록만 되고 여기부터 실제로 적용된다.
+
+-- 이미지 삭제 outbox: Cloudinary 삭제를 트랜잭션 커밋과 묶어 재시도 (ImageOutboxEntity)
+CREATE TABLE image_outbox (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    public_id       VARCHAR(255) NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INT          NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(512),
+    created_at      DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_image_outbox_status_next (status, next_attempt_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 내용 해시로 중복 제거한 저장소 자산 (ImageAssetEntity)
+CREATE TABLE image_asset (
+    id            BIGINT        NOT NULL AUTO_INCREMENT,
+    content_hash  VARCHAR(64)   NOT NULL,
+    file_name     VARCHAR(255)  NOT NULL,
+    url           VARCHAR(512)  NOT NULL,
+    file_size     BIGINT,
+    width         INT,
+    height        INT,
+    placeholder   VARCHAR(2048),
+    thumbnail_url VARCHAR(512),
+    medium_url    VARCHAR(512),
+    ref_count     INT           NOT NULL,
+    created_at    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_image_asset_content_hash UNIQUE (content_hash)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 이미지: 자산 참조, 크기/LQIP/반응형 변형, 미연결 이미지 정리용 인덱스
+ALTER TABLE soul_image
+    ADD COLUMN content_hash  VARCHAR(64),
+    ADD COLUMN width         INT,
+    ADD COLUMN height        INT,
+    ADD COLUMN placeholder   VARCHAR(2048),
+    ADD COLUMN thumbnail_url VARCHAR(512),
+    ADD COLUMN medium_url    VARCHAR(512),
+    ADD INDEX idx_soul_image_content_hash (content_hash),
+    ADD INDEX idx_soul_image_soul_uploaded (soul_id, uploaded_at);
+
+-- 증분 동기화: 생성/수정 시각과 삭제 기록 (BaseTimeEntity, SyncTombstoneEntity)
+-- 기존 행은 수정 시각이 없으므로 첫 동기화(토큰 없음)에서 전체로 내려간다.
+ALTER TABLE season
+    ADD COLUMN created_date  DATETIME(6),
+    ADD COLUMN modified_date DATETIME(6),
+    ADD INDEX idx_season_modified_date (modified_date);
+
+ALTER TABLE soul
+    ADD COLUMN created_date  DATETIME(6),
+    ADD COLUMN modified_date DATETIME(6),
+    ADD INDEX idx_soul_modified_date (modified_date);
+
+ALTER TABLE soul_image
+    ADD COLUMN created_date  DATETIME(6),
+    ADD COLUMN modified_date DATETIME(6),
+    ADD INDEX idx_soul_image_modified_date (modified_date);
+
+ALTER TABLE traveling_visit
+    ADD COLUMN created_date  DATETIME(6),
+    ADD COLUMN modified_date DATETIME(6),
+    ADD INDEX idx_traveling_visit_modified_date (modified_date);
+
+ALTER TABLE iap_item
+    ADD COLUMN created_date  DATETIME(6),
+    ADD COLUMN modified_date DATETIME(6),
+    ADD INDEX idx_iap_item_modified_date (modified_date);
+
+CREATE TABLE sync_tombstone (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    entity_type VARCHAR(30) NOT NULL,
+    entity_id   BIGINT      NOT NULL,
+    deleted_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_sync_tombstone_deleted_at (deleted_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
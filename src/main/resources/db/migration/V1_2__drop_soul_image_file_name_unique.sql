@@ -0,0 +1,24 @@
+-- 중복 제거된 업로드는 여러 soul_image 행이 같은 저장소 키(file_name)를 가리킨다 (image_asset 공유).
+-- ddl-auto가 unique = true로 만든 유니크 키는 update로는 지워지지 않으므로 여기서 지운다.
+-- 기존 DB의 키 이름은 Hibernate가 만든 UK_<해시>라서 이름 대신 information_schema에서 찾는다.
+SET @file_name_unique = (
+    SELECT index_name
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'soul_image'
+      AND non_unique = 0
+      AND index_name <> 'PRIMARY'
+    GROUP BY index_name
+    HAVING COUNT(*) = 1 AND MAX(column_name) = 'file_name'
+    LIMIT 1);
+
+SET @drop_file_name_unique = IF(@file_name_unique IS NULL,
+    'DO 0',
+    CONCAT('ALTER TABLE soul_image DROP INDEX `', @file_name_unique, '`'));
+
+PREPARE drop_file_name_unique FROM @drop_file_name_unique;
+EXECUTE drop_file_name_unique;
+DEALLOCATE PREPARE drop_file_name_unique;
+
+-- ImageRepository.findReferencedFileNames (file_name IN ...) - 유니크 키가 하던 인덱스 역할
+CREATE INDEX idx_soul_image_file_name ON soul_image (file_name);
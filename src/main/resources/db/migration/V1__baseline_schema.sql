@@ -0,0 +1,81 @@
+-- 기준 스키마: Flyway 도입 전 ddl-auto: update 가 엔티티로 만들던 테이블과 같다.
+-- ddl-auto로 이미 만들어진 DB는 baseline-on-migrate(baseline-version=1)로 이 파일을 건너뛰고 V1.1부터 적용한다.
+-- 그래서 이 파일은 고치지 않는다. 이후 추가된 테이블/컬럼은 다음 버전 파일에 둔다.
+
+CREATE TABLE season (
+    id               INT          NOT NULL AUTO_INCREMENT,
+    name             VARCHAR(100) NOT NULL,
+    order_num        INT          NOT NULL,
+    start_date       DATE         NOT NULL,
+    end_date         DATE         NOT NULL,
+    color            VARCHAR(50),
+    is_collaboration BIT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_season_name UNIQUE (name),
+    CONSTRAINT uk_season_order_num UNIQUE (order_num)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE soul (
+    id              INT          NOT NULL AUTO_INCREMENT,
+    season_id       INT          NOT NULL,
+    season_name     VARCHAR(255) NOT NULL,
+    name            VARCHAR(255) NOT NULL,
+    order_num       INT          NOT NULL,
+    start_date      DATE         NOT NULL,
+    end_date        DATE         NOT NULL,
+    rerun_count     INT DEFAULT 0,
+    creator         VARCHAR(255),
+    description     TEXT,
+    is_season_guide BIT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_soul_season FOREIGN KEY (season_id) REFERENCES season (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE soul_keywords (
+    soul_id INT NOT NULL,
+    keyword VARCHAR(50),
+    CONSTRAINT fk_soul_keywords_soul FOREIGN KEY (soul_id) REFERENCES soul (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE soul_image (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    soul_id     INT,
+    image_type  VARCHAR(30)  NOT NULL,
+    file_name   VARCHAR(255) NOT NULL,
+    url         VARCHAR(512) NOT NULL,
+    file_size   BIGINT,
+    uploaded_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_soul_image_file_name UNIQUE (file_name),
+    CONSTRAINT fk_soul_image_soul FOREIGN KEY (soul_id) REFERENCES soul (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE traveling_visit (
+    id               BIGINT NOT NULL AUTO_INCREMENT,
+    soul_id          INT    NOT NULL,
+    visit_number     INT    NOT NULL,
+    global_order     INT,
+    start_date       DATE   NOT NULL,
+    end_date         DATE   NOT NULL,
+    is_warband_visit BIT    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_traveling_visit_soul FOREIGN KEY (soul_id) REFERENCES soul (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE iap_item (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    season_id     INT          NOT NULL,
+    name          VARCHAR(100) NOT NULL,
+    category      VARCHAR(50),
+    purchase_type VARCHAR(20)  NOT NULL,
+    price_info    VARCHAR(50),
+    image_url     VARCHAR(512),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_iap_item_season FOREIGN KEY (season_id) REFERENCES season (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE iap_item_keywords (
+    iap_item_id BIGINT NOT NULL,
+    keyword     VARCHAR(50),
+    CONSTRAINT fk_iap_item_keywords_item FOREIGN KEY (iap_item_id) REFERENCES iap_item (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,24 @@
+-- 조회 경로별 인덱스 (각 인덱스가 받치는 리포지토리 메서드를 적어 둔다)
+-- 검증: QueryPlanTest (MySQL 컨테이너에서 EXPLAIN)
+-- 기존 DB에 (soul_id, visit_number) 중복이 있으면 유니크 인덱스 생성이 실패한다. 먼저 정리할 것:
+--   SELECT soul_id, visit_number, COUNT(*) FROM traveling_visit GROUP BY soul_id, visit_number HAVING COUNT(*) > 1;
+
+-- TravelingVisitRepository.findBySoulIdOrderByVisitNumberAsc / findBySoulIdAndVisitNumber / existsBySoulIdAndVisitNumber
+-- (생성/수정 시 서비스가 검사하던 영혼별 차수 중복을 DB에서도 막는다. soul_id FK 인덱스 역할도 한다)
+CREATE UNIQUE INDEX uk_traveling_visit_soul_visit ON traveling_visit (soul_id, visit_number);
+
+-- TravelingVisitRepository.findCurrentVisits (:today BETWEEN start_date AND end_date)
+-- 지난 유랑이 대부분이라 end_date >= :today 범위가 가장 좁다
+CREATE INDEX idx_traveling_visit_end_date ON traveling_visit (end_date);
+-- 시작일 기준 범위/정렬 (start_date <= :today 조건에 end_date를 인덱스 안에서 함께 거른다)
+CREATE INDEX idx_traveling_visit_start_end ON traveling_visit (start_date, end_date);
+
+-- SoulRepository.findBySeasonId / findBySeasonName (ORDER BY order_num) / countBySeasonGrouped
+CREATE INDEX idx_soul_season_order ON soul (season_id, order_num);
+
+-- ImageRepository.findAllBySoulIdAndImageType / countBySoulIdAndImageType / existsBySoulIdAndImageType
+CREATE INDEX idx_soul_image_soul_type ON soul_image (soul_id, image_type);
+
+-- 키워드 일치 조회 (keyword → soul_id, 테이블 접근 없이 인덱스만으로 응답)
+-- LIKE '%검색어%' 부분 검색은 인덱스를 쓰지 못한다
+CREATE INDEX idx_soul_keywords_keyword ON soul_keywords (keyword, soul_id);
@@ -0,0 +1,62 @@
+-- 키워드 사전: 행마다 문자열을 저장하던 soul_keywords / iap_item_keywords 를
+-- 공유 사전(keyword)과 정수 id 조인 테이블로 바꾼다 (KeywordBitmapIndex가 keyword_id로 비트맵을 만든다).
+-- 이름은 대소문자를 구분한다 (utf8mb4_bin). 부분 검색은 LOWER(name) LIKE 로 기존처럼 대소문자를 무시한다.
+
+CREATE TABLE keyword (
+    id   INT         NOT NULL AUTO_INCREMENT,
+    name VARCHAR(50) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_keyword_name UNIQUE (name)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 기존 키워드 (앞뒤 공백 제거, 빈 값 제외)
+INSERT INTO keyword (name)
+SELECT name
+FROM (SELECT TRIM(keyword) COLLATE utf8mb4_bin AS name
+      FROM soul_keywords
+      WHERE keyword IS NOT NULL AND TRIM(keyword) <> ''
+      UNION
+      SELECT TRIM(keyword) COLLATE utf8mb4_bin AS name
+      FROM iap_item_keywords
+      WHERE keyword IS NOT NULL AND TRIM(keyword) <> '') names
+ORDER BY name;
+
+-- keyword_order: 엔티티 List 순서 (@OrderColumn)
+-- KeywordRepository.findSoulLinks / SoulRepository 키워드 일치 조회 (keyword_id → soul_id, 인덱스만으로 응답)
+CREATE TABLE soul_keyword (
+    soul_id       INT NOT NULL,
+    keyword_order INT NOT NULL,
+    keyword_id    INT NOT NULL,
+    PRIMARY KEY (soul_id, keyword_order),
+    CONSTRAINT fk_soul_keyword_soul FOREIGN KEY (soul_id) REFERENCES soul (id),
+    CONSTRAINT fk_soul_keyword_keyword FOREIGN KEY (keyword_id) REFERENCES keyword (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+CREATE INDEX idx_soul_keyword_keyword ON soul_keyword (keyword_id, soul_id);
+
+CREATE TABLE iap_item_keyword (
+    iap_item_id   BIGINT NOT NULL,
+    keyword_order INT    NOT NULL,
+    keyword_id    INT    NOT NULL,
+    PRIMARY KEY (iap_item_id, keyword_order),
+    CONSTRAINT fk_iap_item_keyword_item FOREIGN KEY (iap_item_id) REFERENCES iap_item (id),
+    CONSTRAINT fk_iap_item_keyword_keyword FOREIGN KEY (keyword_id) REFERENCES keyword (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+CREATE INDEX idx_iap_item_keyword_keyword ON iap_item_keyword (keyword_id, iap_item_id);
+
+-- 기존 테이블에는 순서 컬럼이 없었으므로 키워드 id 순으로 매긴다 (같은 키워드 중복은 하나로)
+INSERT INTO soul_keyword (soul_id, keyword_order, keyword_id)
+SELECT x.soul_id, ROW_NUMBER() OVER (PARTITION BY x.soul_id ORDER BY k.id) - 1, k.id
+FROM (SELECT DISTINCT soul_id, TRIM(keyword) COLLATE utf8mb4_bin AS name
+      FROM soul_keywords
+      WHERE keyword IS NOT NULL AND TRIM(keyword) <> '') x
+JOIN keyword k ON k.name = x.name;
+
+INSERT INTO iap_item_keyword (iap_item_id, keyword_order, keyword_id)
+SELECT x.iap_item_id, ROW_NUMBER() OVER (PARTITION BY x.iap_item_id ORDER BY k.id) - 1, k.id
+FROM (SELECT DISTINCT iap_item_id, TRIM(keyword) COLLATE utf8mb4_bin AS name
+      FROM iap_item_keywords
+      WHERE keyword IS NOT NULL AND TRIM(keyword) <> '') x
+JOIN keyword k ON k.name = x.name;
+
+DROP TABLE soul_keywords;
+DROP TABLE iap_item_keywords;
@@ -0,0 +1,96 @@
+package com.springboot.board;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.springboot.board.domain.entity.SeasonEntity;
+import com.springboot.board.domain.entity.SoulEntity;
+import com.springboot.board.domain.repository.SeasonRepository;
+import com.springboot.board.domain.repository.SoulRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 운영과 같은 2차 캐시 설정(application-l2cache.yml + application.conf)으로 컨텍스트가 뜨고 캐시가 실제로 쓰이는지 확인
+ * h2 프로필은 2차 캐시를 끄므로 뒤에 l2cache 프로필을 켜서 덮어쓴다.
+ * 리전 이름이 설정 파일 경로로 풀리지 않으면 SessionFactory 생성에서 실패한다.
+ */
+@ActiveProfiles({"h2", "l2cache"})
+@SpringBootTest
+class ApplicationBootTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SeasonRepository seasonRepository;
+
+    @Autowired
+    private SoulRepository soulRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void entityAndCollectionRegionsUseConfiguredCaches() {
+        CacheManager cacheManager = Caching.getCachingProvider(
+                "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider").getCacheManager();
+        assertThat(maximumSize(cacheManager, "season")).isEqualTo(500);
+        assertThat(maximumSize(cacheManager, "soul")).isEqualTo(5000);
+        assertThat(maximumSize(cacheManager, "soul_images")).isEqualTo(5000);
+        assertThat(maximumSize(cacheManager, "soul_travelingVisits")).isEqualTo(5000);
+        assertThat(maximumSize(cacheManager, "soul_keywords")).isEqualTo(5000);
+        assertThat(maximumSize(cacheManager, "image")).isEqualTo(20000);
+    }
+
+    @Test
+    void entityLoadsHitSoulAndSeasonRegions() {
+        SeasonEntity season = seasonRepository.save(SeasonEntity.builder()
+                .name("Season of Caching")
+                .orderNum(1)
+                .startDate(LocalDate.of(2023, 1, 1))
+                .endDate(LocalDate.of(2023, 2, 1))
+                .build());
+        Integer soulId = soulRepository.save(SoulEntity.builder()
+                .season(season)
+                .seasonName(season.getName())
+                .name("Cached Spirit")
+                .orderNum(1)
+                .startDate(season.getStartDate())
+                .endDate(season.getEndDate())
+                .build()).getId();
+        loadSoulWithSeason(soulId); // 캐시 채우기
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        loadSoulWithSeason(soulId);
+
+        assertThat(statistics.getDomainDataRegionStatistics("soul").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics("season").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private void loadSoulWithSeason(Integer soulId) {
+        transactionTemplate.executeWithoutResult(status -> assertThat(
+                soulRepository.findById(soulId).orElseThrow().getSeason().getName()).isEqualTo("Season of Caching"));
+    }
+
+    private static long maximumSize(CacheManager cacheManager, String region) {
+        Cache<Object, Object> cache = cacheManager.getCache(region);
+        assertThat(cache).as("cache region %s", region).isNotNull();
+        @SuppressWarnings("unchecked")
+        CaffeineConfiguration<Object, Object> configuration = cache.getConfiguration(CaffeineConfiguration.class);
+        return configuration.getMaximumSize().orElseThrow();
+    }
+}
@@ -0,0 +1,198 @@
+package com.springboot.board.api.v1.controller;
+
+import com.springboot.board.api.v1.dto.request.TravelingVisitCreateRequest;
+import com.springboot.board.application.analytics.RerunStatsStore;
+import com.springboot.board.application.service.TravelingVisitService;
+import com.springboot.board.common.query.QueryBudgetFilter;
+import com.springboot.board.domain.entity.SeasonEntity;
+import com.springboot.board.domain.entity.SoulEntity;
+import com.springboot.board.domain.entity.TravelingVisitEntity;
+import com.springboot.board.domain.repository.SeasonRepository;
+import com.springboot.board.domain.repository.SoulRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 재방문 통계: 미리 계산된 간격 통계와 유랑 변경 후 증분 반영
+ * 시즌1 - alpha(간격 100, 200일), beta(방문 1회) / 시즌2 - gamma(간격 400일)
+ */
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:analytics;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.query-budget.expose-header=true"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AnalyticsControllerTest {
+
+    private static final LocalDate BASE = LocalDate.of(2023, 1, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SeasonRepository seasonRepository;
+
+    @Autowired
+    private SoulRepository soulRepository;
+
+    @Autowired
+    private TravelingVisitService visitService;
+
+    @Autowired
+    private RerunStatsStore store;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Integer first;
+    private Integer alpha;
+    private Integer beta;
+    private Integer gamma;
+
+    @BeforeAll
+    void setUpFixture() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            SeasonEntity one = seasonRepository.save(season("Season One", 1));
+            SeasonEntity two = seasonRepository.save(season("Season Two", 2));
+            first = one.getId();
+
+            alpha = soulRepository.save(soul(one, "Alpha", 1, 0, 100, 300)).getId();
+            beta = soulRepository.save(soul(one, "Beta", 2, 31)).getId();
+            gamma = soulRepository.save(soul(two, "Gamma", 1, 0, 400)).getId();
+        });
+        store.reload();
+    }
+
+    @Test
+    void overviewMergesEverySoulWithoutQueries() throws Exception {
+        // 간격 100, 200, 400 → 평균 233.3, 모분산 15555.6
+        mockMvc.perform(get("/api/v1/analytics/reruns"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryBudgetFilter.HEADER, "0"))
+                .andExpect(jsonPath("$.data.visitedSouls").value(3))
+                .andExpect(jsonPath("$.data.visitCount").value(6))
+                .andExpect(jsonPath("$.data.gaps.count").value(3))
+                .andExpect(jsonPath("$.data.gaps.meanDays").value(233.3))
+                .andExpect(jsonPath("$.data.gaps.varianceDays").value(15555.6))
+                .andExpect(jsonPath("$.data.gaps.minDays").value(100))
+                .andExpect(jsonPath("$.data.gaps.maxDays").value(400))
+                .andExpect(jsonPath("$.data.gaps.histogram[0].count").value(0))     // 0-89
+                .andExpect(jsonPath("$.data.gaps.histogram[1].count").value(1))     // 90-179
+                .andExpect(jsonPath("$.data.gaps.histogram[2].count").value(1))     // 180-269
+                .andExpect(jsonPath("$.data.gaps.histogram[4].label").value("365-544"))
+                .andExpect(jsonPath("$.data.gaps.histogram[4].count").value(1));
+    }
+
+    @Test
+    void soulAndSeasonStatistics() throws Exception {
+        mockMvc.perform(get("/api/v1/analytics/reruns/souls/" + alpha))
+                .andExpect(header().string(QueryBudgetFilter.HEADER, "0"))
+                .andExpect(jsonPath("$.data.visitCount").value(3))
+                .andExpect(jsonPath("$.data.lastGapDays").value(200))
+                .andExpect(jsonPath("$.data.lastVisitDate").value(BASE.plusDays(304).toString()))
+                .andExpect(jsonPath("$.data.gaps.meanDays").value(150.0))
+                .andExpect(jsonPath("$.data.gaps.stddevDays").value(50.0));
+
+        // 간격이 없는 영혼은 평균 기준 정렬에서 맨 뒤
+        mockMvc.perform(get("/api/v1/analytics/reruns/souls").param("sort", "meanGap"))
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0].soulId").value(gamma))
+                .andExpect(jsonPath("$.data[1].soulId").value(alpha))
+                .andExpect(jsonPath("$.data[2].soulId").value(beta))
+                .andExpect(jsonPath("$.data[2].gaps.meanDays").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/analytics/reruns/seasons"))
+                .andExpect(header().string(QueryBudgetFilter.HEADER, "0"))
+                .andExpect(jsonPath("$.data[0].seasonId").value(first))
+                .andExpect(jsonPath("$.data[0].visitedSouls").value(2))
+                .andExpect(jsonPath("$.data[0].visitCount").value(4))
+                .andExpect(jsonPath("$.data[0].visitsPerSoul").value(2.0))
+                .andExpect(jsonPath("$.data[0].gaps.count").value(2))
+                .andExpect(jsonPath("$.data[1].gaps.meanDays").value(400.0));
+    }
+
+    @Test
+    void visitWritesAreAppliedIncrementally() throws Exception {
+        TravelingVisitCreateRequest request = new TravelingVisitCreateRequest();
+        request.setSoulId(beta);
+        request.setVisitNumber(2);
+        request.setStartDate(BASE.plusDays(61));
+        request.setEndDate(BASE.plusDays(65));
+        Long visitId = visitService.createVisit(request).getId();
+        store.refreshPending();
+
+        mockMvc.perform(get("/api/v1/analytics/reruns/souls/" + beta))
+                .andExpect(jsonPath("$.data.visitCount").value(2))
+                .andExpect(jsonPath("$.data.lastGapDays").value(30));
+        mockMvc.perform(get("/api/v1/analytics/reruns"))
+                .andExpect(jsonPath("$.data.gaps.count").value(4))
+                .andExpect(jsonPath("$.data.gaps.histogram[0].count").value(1));
+
+        visitService.deleteVisit(visitId);
+        store.refreshPending();
+
+        mockMvc.perform(get("/api/v1/analytics/reruns"))
+                .andExpect(jsonPath("$.data.visitCount").value(6))
+                .andExpect(jsonPath("$.data.gaps.count").value(3));
+        mockMvc.perform(get("/api/v1/analytics/reruns/souls/" + beta))
+                .andExpect(jsonPath("$.data.lastGapDays").doesNotExist());
+    }
+
+    @Test
+    void rejectsUnknownSoulAndSort() throws Exception {
+        mockMvc.perform(get("/api/v1/analytics/reruns/souls/999999"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/analytics/reruns/souls").param("sort", "name"))
+                .andExpect(status().is5xxServerError());
+    }
+
+    private static SeasonEntity season(String name, int orderNum) {
+        return SeasonEntity.builder()
+                .name(name)
+                .orderNum(orderNum)
+                .startDate(LocalDate.of(2022, orderNum, 1))
+                .endDate(LocalDate.of(2022, orderNum, 20))
+                .build();
+    }
+
+    /**
+     * offsets: 각 유랑 시작일 (BASE 기준 일수), 유랑은 4일간
+     */
+    private static SoulEntity soul(SeasonEntity season, String name, int orderNum, int... offsets) {
+        SoulEntity soul = SoulEntity.builder()
+                .season(season)
+                .seasonName(season.getName())
+                .name(name)
+                .orderNum(orderNum)
+                .startDate(season.getStartDate())
+                .endDate(season.getEndDate())
+                .build();
+        for (int i = 0; i < offsets.length; i++) {
+            LocalDate start = BASE.plusDays(offsets[i]);
+            soul.getTravelingVisits().add(TravelingVisitEntity.builder()
+                    .soul(soul)
+                    .visitNumber(i + 1)
+                    .startDate(start)
+                    .endDate(start.plusDays(4))
+                    .isWarbandVisit(false)
+                    .build());
+        }
+        return soul;
+    }
+}
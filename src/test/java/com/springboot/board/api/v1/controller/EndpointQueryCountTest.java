@@ -0,0 +1,229 @@
+package com.springboot.board.api.v1.controller;
+
+import com.springboot.board.common.query.QueryBudgetFilter;
+import com.springboot.board.domain.entity.IAPItemEntity;
+import com.springboot.board.domain.entity.ImageEntity;
+import com.springboot.board.domain.entity.KeywordEntity;
+import com.springboot.board.domain.entity.SeasonEntity;
+import com.springboot.board.domain.entity.SoulEntity;
+import com.springboot.board.domain.entity.TravelingVisitEntity;
+import com.springboot.board.domain.repository.IAPItemRepository;
+import com.springboot.board.domain.repository.KeywordRepository;
+import com.springboot.board.domain.repository.SeasonRepository;
+import com.springboot.board.domain.repository.SoulRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+
+/**
+ * 조회 엔드포인트별 SQL 실행 횟수 고정 (X-Query-Count 헤더)
+ * 고정 데이터: 시즌 1개, 영혼 2개(각각 키워드/이미지/유랑 1개), IAP 아이템 1개
+ * 영혼 수에 비례해 늘어나는 항목(travelingVisits, keywords, images 지연 로딩)은
+ * 기대값 옆에 표시했다. 쿼리 수가 바뀌는 변경이면 이 표도 함께 고친다.
+ * h2 프로필은 2차 캐시를 끄므로 캐시 적중 없이 DB로 가는 횟수다.
+ */
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querycount;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.query-budget.expose-header=true"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SeasonRepository seasonRepository;
+
+    @Autowired
+    private SoulRepository soulRepository;
+
+    @Autowired
+    private IAPItemRepository iapItemRepository;
+
+    @Autowired
+    private KeywordRepository keywordRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<String, Object> ids = new HashMap<>();
+
+    static Stream<Arguments> endpoints() {
+        return Stream.of(
+                // 시즌
+                Arguments.of("/api/v1/seasons", 2),                        // 시즌 + 시즌별 영혼 수
+                Arguments.of("/api/v1/seasons/{season}", 3),               // 시즌 + 영혼 + IAP
+                Arguments.of("/api/v1/seasons/collaborations", 1),
+                // 영혼
+                Arguments.of("/api/v1/souls", 7),                          // 영혼+시즌 + (visits, keywords, images) x2
+                Arguments.of("/api/v1/souls/all", 8),                      // 영혼 + 시즌 + (visits, keywords, images) x2
+                Arguments.of("/api/v1/souls/{alpha}", 4),                  // 영혼+이미지 + visits + 시즌 + keywords
+                Arguments.of("/api/v1/souls/{alpha}/neighbors", 6),        // 영혼 + 전체 + 시즌 + visits + keywords + images
+                Arguments.of("/api/v1/souls/season/{season}", 8),          // 영혼 + 시즌 + (visits, keywords, images) x2
+                Arguments.of("/api/v1/souls/search?query=alpha", 4),       // 유랑+영혼+이미지 + 시즌 + keywords + 유랑 통계
+                Arguments.of("/api/v1/souls/traveling-visits", 4),         // 유랑+영혼+이미지+시즌 + keywords x2 + 유랑 통계
+                Arguments.of("/api/v1/souls/oldest-spirits", 5),           // 유랑+영혼+이미지+시즌 + (visits, keywords) x2
+                // ?fields= (요청하지 않은 연관관계는 로딩하지 않음)
+                Arguments.of("/api/v1/souls?fields=id,name", 1),
+                Arguments.of("/api/v1/souls/all?fields=name,rerunCount", 2),          // 영혼 + 유랑 통계
+                Arguments.of("/api/v1/souls/{alpha}?fields=name,images", 1),          // 영혼+이미지
+                Arguments.of("/api/v1/souls/traveling-visits?fields=name,startDate", 1),
+                // 다건 조회 (id 수와 무관하게 연관관계 종류별 IN 쿼리 1번)
+                Arguments.of("/api/v1/souls?ids={beta},{alpha}", 4),                  // 영혼+시즌 + images + visits + keywords
+                Arguments.of("/api/v1/souls?ids={beta},{alpha}&fields=name,images", 2),
+                // 유랑
+                Arguments.of("/api/v1/visits/soul/{alpha}", 1),
+                Arguments.of("/api/v1/visits/current", 1),
+                Arguments.of("/api/v1/visits/{visit}", 1),
+                // IAP
+                Arguments.of("/api/v1/iap-items", 3),                      // 아이템 + 시즌 + keywords
+                Arguments.of("/api/v1/iap-items/season/{season}", 3),
+                Arguments.of("/api/v1/iap-items/purchase-type/PAID", 3),
+                Arguments.of("/api/v1/iap-items/search?query=Horn", 3),
+                // 이미지 (soul은 id만 사용하므로 프록시 초기화 없음)
+                Arguments.of("/api/v1/images", 1),
+                Arguments.of("/api/v1/images/{image}", 1),
+                Arguments.of("/api/v1/images/soul/{alpha}", 1),
+                Arguments.of("/api/v1/images/type/REPRESENTATIVE", 1)
+        );
+    }
+
+    @BeforeAll
+    void setUpFixture() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            SeasonEntity season = seasonRepository.save(SeasonEntity.builder()
+                    .name("Season of Testing")
+                    .orderNum(1)
+                    .startDate(LocalDate.of(2024, 1, 1))
+                    .endDate(LocalDate.of(2024, 3, 1))
+                    .color("#FFD700")
+                    .build());
+
+            SoulEntity alpha = soulRepository.save(soul(season, "Alpha Spirit", keyword("alpha"), 1));
+            SoulEntity beta = soulRepository.save(soul(season, "Beta Spirit", keyword("beta"), 2));
+
+            IAPItemEntity item = iapItemRepository.save(IAPItemEntity.builder()
+                    .season(season)
+                    .name("Red Horn")
+                    .category("뿔")
+                    .keywords(new ArrayList<>(List.of(keyword("horn"))))
+                    .build());
+
+            ids.put("season", season.getId());
+            ids.put("alpha", alpha.getId());
+            ids.put("beta", beta.getId());
+            ids.put("visit", alpha.getTravelingVisits().get(0).getId());
+            ids.put("image", alpha.getImages().get(0).getId());
+            ids.put("item", item.getId());
+        });
+    }
+
+    @ParameterizedTest(name = "{0} -> {1} queries")
+    @MethodSource("endpoints")
+    void queryCountPerEndpoint(String path, int expected) throws Exception {
+        MvcResult result = mockMvc.perform(get(resolve(path))).andReturn();
+
+        assertThat(result.getResponse().getStatus()).as("status of %s", path).isEqualTo(200);
+        assertThat(result.getResponse().getHeader(QueryBudgetFilter.HEADER))
+                .as("query count of %s", path)
+                .isEqualTo(String.valueOf(expected));
+    }
+
+    @Test
+    void sparseFieldsetOmitsUnrequestedProperties() throws Exception {
+        mockMvc.perform(get(resolve("/api/v1/souls/{alpha}?fields=name,rerunCount")))
+                .andExpect(jsonPath("$.data.id").value(ids.get("alpha")))
+                .andExpect(jsonPath("$.data.name").value("Alpha Spirit"))
+                .andExpect(jsonPath("$.data.rerunCount").value(1))
+                .andExpect(jsonPath("$.data.description").doesNotExist())
+                .andExpect(jsonPath("$.data.images").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/souls/traveling-visits?fields=name"))
+                .andExpect(jsonPath("$.data.content[0].name").exists())
+                .andExpect(jsonPath("$.data.content[0].__travelingVisitId").exists())
+                .andExpect(jsonPath("$.data.content[0].images").doesNotExist());
+    }
+
+    @Test
+    void multiGetKeepsRequestOrderAndReportsMissingIds() throws Exception {
+        mockMvc.perform(get(resolve("/api/v1/souls?ids={beta},999999,{alpha}")))
+                .andExpect(jsonPath("$.data.souls[0].id").value(ids.get("beta")))
+                .andExpect(jsonPath("$.data.souls[1].id").value(ids.get("alpha")))
+                .andExpect(jsonPath("$.data.souls[1].images[0].imageType").value("REPRESENTATIVE"))
+                .andExpect(jsonPath("$.data.souls[1].travelingVisits.length()").value(1))
+                .andExpect(jsonPath("$.data.missingIds[0]").value(999999));
+
+        mockMvc.perform(post("/api/v1/souls/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [" + ids.get("alpha") + ", 999999]}"))
+                .andExpect(jsonPath("$.data.souls.length()").value(1))
+                .andExpect(jsonPath("$.data.missingIds[0]").value(999999));
+    }
+
+    private String resolve(String path) {
+        String resolved = path;
+        for (Map.Entry<String, Object> id : ids.entrySet()) {
+            resolved = resolved.replace("{" + id.getKey() + "}", String.valueOf(id.getValue()));
+        }
+        return resolved;
+    }
+
+    private KeywordEntity keyword(String name) {
+        return keywordRepository.save(KeywordEntity.of(name));
+    }
+
+    private static SoulEntity soul(SeasonEntity season, String name, KeywordEntity keyword, int orderNum) {
+        SoulEntity soul = SoulEntity.builder()
+                .season(season)
+                .seasonName(season.getName())
+                .name(name)
+                .orderNum(orderNum)
+                .startDate(season.getStartDate())
+                .endDate(season.getEndDate())
+                .rerunCount(1)
+                .keywords(new ArrayList<>(List.of(keyword)))
+                .build();
+
+        soul.getImages().add(ImageEntity.builder()
+                .soul(soul)
+                .imageType("REPRESENTATIVE")
+                .fileName(keyword.getName() + ".png")
+                .url("/uploads/" + keyword.getName() + ".png")
+                .build());
+        soul.getTravelingVisits().add(TravelingVisitEntity.builder()
+                .soul(soul)
+                .visitNumber(1)
+                .globalOrder(orderNum)
+                .startDate(LocalDate.of(2024, 6, orderNum))
+                .endDate(LocalDate.of(2024, 6, orderNum + 4))
+                .build());
+        return soul;
+    }
+}
@@ -0,0 +1,288 @@
+package com.springboot.board.api.v1.controller;
+
+import com.springboot.board.application.image.ImageVariant;
+import com.springboot.board.application.service.ImageService;
+import com.springboot.board.application.storage.LocalImageStorage;
+import com.springboot.board.common.util.HashUtil;
+import com.springboot.board.domain.entity.ImageAssetEntity;
+import com.springboot.board.domain.entity.ImageEntity;
+import com.springboot.board.domain.entity.SeasonEntity;
+import com.springboot.board.domain.entity.SoulEntity;
+import com.springboot.board.domain.repository.ImageAssetRepository;
+import com.springboot.board.domain.repository.ImageRepository;
+import com.springboot.board.domain.repository.SeasonRepository;
+import com.springboot.board.domain.repository.SoulRepository;
+import com.springboot.board.support.UploadRequests;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.reset;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 내용 해시로 중복 제거된 이미지 - 동시 업로드, 공유 자산의 URL 기반 삭제, 재사용 직전에 삭제된 자산
+ * 정규화 - 해상도 상한(max-pixels 1MP로 낮춤), EXIF 방향, 움직이는 GIF, 가로 기준 변형
+ * 디코딩할 수 없는 형식(SVG 등) 거부
+ */
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "app.image-normalize.max-pixels=1000000")
+class ImageControllerTest {
+
+    private static final String TYPE = "REPRESENTATIVE";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ImageService imageService;
+
+    @Autowired
+    private ImageRepository imageRepository;
+
+    @SpyBean
+    private ImageAssetRepository assetRepository;
+
+    @Autowired
+    private SeasonRepository seasonRepository;
+
+    @Autowired
+    private SoulRepository soulRepository;
+
+    @Autowired
+    private LocalImageStorage storage;
+
+    @Test
+    void concurrentUploadsOfSameContentShareOneAsset() throws Exception {
+        byte[] content = UploadRequests.samplePng(320, 240);
+        int uploads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ImageEntity>> results = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(uploads)) {
+            for (int i = 0; i < uploads; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return imageService.uploadWithoutSoul(TYPE, png(content));
+                }));
+            }
+            start.countDown();
+
+            List<String> keys = new ArrayList<>();
+            for (Future<ImageEntity> result : results) {
+                keys.add(result.get().getFileName()); // 유니크 키 충돌로 실패한 요청이 없어야 한다
+            }
+            assertThat(keys).containsOnly(keys.get(0));
+        }
+        assertThat(assetRepository.findByContentHash(HashUtil.sha256Hex(content)))
+                .hasValueSatisfying(asset -> assertThat(asset.getRefCount()).isEqualTo(uploads));
+    }
+
+    @Test
+    void deleteByUrlRemovesOnlyTheMatchingRow() throws Exception {
+        byte[] content = UploadRequests.samplePng(200, 100);
+        SoulEntity soul = createSoul();
+        ImageEntity attached = imageService.upload(soul.getId(), TYPE, png(content));
+        ImageEntity unattached = imageService.uploadWithoutSoul(TYPE, png(content));
+        assertThat(unattached.getUrl()).isEqualTo(attached.getUrl());
+
+        // 영혼을 지정하면 그 영혼의 행만, 미연결 이미지는 남는다
+        mockMvc.perform(delete("/api/v1/images")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"soulId\":" + soul.getId() + ",\"url\":\"" + attached.getUrl() + "\"}"))
+                .andExpect(status().isOk());
+        assertThat(imageRepository.findById(attached.getId())).isEmpty();
+        assertThat(imageRepository.findById(unattached.getId())).isPresent();
+
+        // 영혼 없이 보내면 미연결 이미지
+        mockMvc.perform(delete("/api/v1/images")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"url\":\"" + attached.getUrl() + "\"}"))
+                .andExpect(status().isOk());
+        assertThat(imageRepository.findById(unattached.getId())).isEmpty();
+        assertThat(assetRepository.findByContentHash(HashUtil.sha256Hex(content))).isEmpty();
+    }
+
+    @Test
+    void reuploadsWhenReusedAssetWasReleasedBeforeClaim() throws Exception {
+        byte[] content = UploadRequests.samplePng(160, 120);
+        String hash = HashUtil.sha256Hex(content);
+        ImageEntity first = imageService.uploadWithoutSoul(TYPE, png(content));
+        ImageAssetEntity stale = assetRepository.findByContentHash(hash).orElseThrow();
+
+        // 마지막 참조가 지워지고 워커가 파일까지 지운 뒤, 지워지기 전에 읽은 자산을 재사용하려는 상황
+        imageService.delete(first.getId());
+        Files.deleteIfExists(storage.resolve(first.getFileName()));
+        doReturn(Optional.of(stale)).doReturn(Optional.empty()).when(assetRepository).findByContentHash(hash);
+
+        ImageEntity second = imageService.uploadWithoutSoul(TYPE, png(content));
+        reset(assetRepository);
+
+        assertThat(Files.exists(storage.resolve(second.getFileName()))).isTrue();
+        assertThat(assetRepository.findByContentHash(hash))
+                .hasValueSatisfying(asset -> assertThat(asset.getRefCount()).isEqualTo(1));
+    }
+
+    @Test
+    void rejectsImagesOverPixelLimitBeforeDecoding() {
+        byte[] content = UploadRequests.samplePng(1001, 1000);
+
+        assertThatThrownBy(() -> imageService.uploadWithoutSoul(TYPE, png(content)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("1000000");
+        assertThat(assetRepository.findByContentHash(HashUtil.sha256Hex(content))).isEmpty();
+    }
+
+    @Test
+    void rejectsSvgAndUndecodableContent() {
+        byte[] svg = "<svg xmlns=\"http://www.w3.org/2000/svg\"><script>alert(1)</script></svg>"
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> imageService.uploadWithoutSoul(TYPE,
+                new MockMultipartFile("file", "image.svg", "image/svg+xml", svg)))
+                .isInstanceOf(IllegalArgumentException.class);
+        // Content-Type만 PNG로 속인 경우 - 디코딩되지 않으면 저장하지 않는다
+        assertThatThrownBy(() -> imageService.uploadWithoutSoul(TYPE, png(svg)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(assetRepository.findByContentHash(HashUtil.sha256Hex(svg))).isEmpty();
+    }
+
+    @Test
+    void appliesExifOrientation() throws Exception {
+        // 가로 40 x 세로 20으로 저장됐지만 Orientation=6 (시계 방향 90도 회전해서 보여야 함)
+        byte[] content = withOrientation(jpeg(40, 20), 6);
+
+        ImageEntity image = imageService.uploadWithoutSoul(TYPE, jpegFile(content));
+
+        assertThat(image.getWidth()).isEqualTo(20);
+        assertThat(image.getHeight()).isEqualTo(40);
+        // 재인코딩본을 저장하므로 EXIF가 남지 않는다
+        assertThat(image.getFileName()).endsWith(".jpg");
+        assertThat(Files.readAllBytes(storage.resolve(image.getFileName()))).isNotEqualTo(content);
+    }
+
+    @Test
+    void keepsAnimatedGifAsUploaded() throws Exception {
+        byte[] content = animatedGif(64, 32, 3);
+
+        ImageEntity image = imageService.uploadWithoutSoul(TYPE,
+                new MockMultipartFile("file", "anim.gif", MediaType.IMAGE_GIF_VALUE, content));
+
+        assertThat(image.getFileName()).endsWith(".gif");
+        assertThat(Files.readAllBytes(storage.resolve(image.getFileName()))).isEqualTo(content);
+        assertThat(image.getWidth()).isEqualTo(64);
+    }
+
+    @Test
+    void variantsLimitWidthOnly() throws Exception {
+        // 세로로 긴 이미지 - 긴 변 기준이면 가로가 640보다 작아진다
+        ImageEntity image = imageService.uploadWithoutSoul(TYPE, png(UploadRequests.samplePng(800, 1200)));
+
+        String mediumKey = image.getMediumUrl().substring(image.getMediumUrl().indexOf(LocalImageStorage.URL_PREFIX)
+                + LocalImageStorage.URL_PREFIX.length());
+        BufferedImage medium = ImageIO.read(storage.resolve(mediumKey).toFile());
+        assertThat(medium.getWidth()).isEqualTo(ImageVariant.MEDIUM.getWidth());
+        assertThat(medium.getHeight()).isEqualTo(960);
+    }
+
+    private static MockMultipartFile png(byte[] content) {
+        return new MockMultipartFile("file", "image.png", MediaType.IMAGE_PNG_VALUE, content);
+    }
+
+    private static MockMultipartFile jpegFile(byte[] content) {
+        return new MockMultipartFile("file", "photo.jpg", MediaType.IMAGE_JPEG_VALUE, content);
+    }
+
+    private static byte[] jpeg(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * SOI 바로 뒤에 Orientation 태그 하나만 있는 APP1(Exif, 빅엔디안) 삽입
+     */
+    private static byte[] withOrientation(byte[] jpeg, int orientation) {
+        byte[] tiff = {
+                'M', 'M', 0, 42, 0, 0, 0, 8,            // 헤더, IFD0 오프셋 8
+                0, 1,                                   // 항목 1개
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+                0, 0, 0, 0                              // 다음 IFD 없음
+        };
+        byte[] exif = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+        int length = 2 + exif.length + tiff.length;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write(length >> 8);
+        out.write(length & 0xFF);
+        out.writeBytes(exif);
+        out.writeBytes(tiff);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+
+    private static byte[] animatedGif(int width, int height, int frames) throws Exception {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("gif").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            writer.prepareWriteSequence(null);
+            for (int i = 0; i < frames; i++) {
+                BufferedImage frame = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+                frame.setRGB(i, 0, 0xFFFFFF);
+                writer.writeToSequence(new IIOImage(frame, null, null), null);
+            }
+            writer.endWriteSequence();
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private SoulEntity createSoul() {
+        SeasonEntity season = seasonRepository.save(SeasonEntity.builder()
+                .name("Season of Images")
+                .orderNum(1)
+                .startDate(LocalDate.of(2022, 1, 1))
+                .endDate(LocalDate.of(2022, 2, 1))
+                .build());
+        return soulRepository.save(SoulEntity.builder()
+                .season(season)
+                .seasonName(season.getName())
+                .name("Image Spirit")
+                .orderNum(1)
+                .startDate(season.getStartDate())
+                .endDate(season.getEndDate())
+                .build());
+    }
+}
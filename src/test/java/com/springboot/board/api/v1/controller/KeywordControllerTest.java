@@ -0,0 +1,155 @@
+package com.springboot.board.api.v1.controller;
+
+import com.springboot.board.application.search.KeywordBitmapIndex;
+import com.springboot.board.application.service.KeywordService;
+import com.springboot.board.common.query.QueryBudgetFilter;
+import com.springboot.board.domain.entity.IAPItemEntity;
+import com.springboot.board.domain.entity.SeasonEntity;
+import com.springboot.board.domain.entity.SoulEntity;
+import com.springboot.board.domain.repository.IAPItemRepository;
+import com.springboot.board.domain.repository.SeasonRepository;
+import com.springboot.board.domain.repository.SoulRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 키워드 필터: AND/OR 조합과 패싯 건수를 비트맵 인덱스로만 계산하는지 확인
+ * 영혼 hair+cape / hair / cape+mask, 아이템 cape
+ */
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:keyword;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.query-budget.expose-header=true"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class KeywordControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SeasonRepository seasonRepository;
+
+    @Autowired
+    private SoulRepository soulRepository;
+
+    @Autowired
+    private IAPItemRepository iapItemRepository;
+
+    @Autowired
+    private KeywordService keywordService;
+
+    @Autowired
+    private KeywordBitmapIndex index;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Integer hairCape;
+    private Integer hairOnly;
+    private Integer capeMask;
+    private Long capeItem;
+
+    @BeforeAll
+    void setUpFixture() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            SeasonEntity season = seasonRepository.save(SeasonEntity.builder()
+                    .name("Season of Filtering")
+                    .orderNum(1)
+                    .startDate(LocalDate.of(2024, 1, 1))
+                    .endDate(LocalDate.of(2024, 3, 1))
+                    .build());
+
+            hairCape = soulRepository.save(soul(season, "Hair Cape Spirit", 1, "hair", "cape")).getId();
+            hairOnly = soulRepository.save(soul(season, "Hair Spirit", 2, "hair", " hair ")).getId();
+            capeMask = soulRepository.save(soul(season, "Cape Mask Spirit", 3, "cape", "mask")).getId();
+            capeItem = iapItemRepository.save(IAPItemEntity.builder()
+                    .season(season)
+                    .name("Blue Cape")
+                    .category("케이프")
+                    .keywords(keywordService.resolve(List.of("cape")))
+                    .build()).getId();
+        });
+        index.rebuild();
+    }
+
+    @Test
+    void andIntersectsAndReportsFacetsWithoutQueries() throws Exception {
+        mockMvc.perform(get("/api/v1/keywords/filter").param("q", "hair AND cape"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryBudgetFilter.HEADER, "0"))
+                .andExpect(jsonPath("$.data.total").value(1))
+                .andExpect(jsonPath("$.data.ids[0]").value(hairCape))
+                .andExpect(jsonPath("$.data.facets.length()").value(2));
+    }
+
+    @Test
+    void andBindsTighterThanOr() throws Exception {
+        // (hair ∩ mask) ∪ cape = {hairCape, capeMask}
+        mockMvc.perform(get("/api/v1/keywords/filter").param("q", "hair and mask or cape"))
+                .andExpect(jsonPath("$.data.total").value(2))
+                .andExpect(jsonPath("$.data.ids[0]").value(hairCape))
+                .andExpect(jsonPath("$.data.ids[1]").value(capeMask))
+                .andExpect(jsonPath("$.data.facets[0].keyword").value("cape"))
+                .andExpect(jsonPath("$.data.facets[0].count").value(2));
+
+        mockMvc.perform(get("/api/v1/keywords/filter").param("q", "hair OR cape").param("size", "2").param("page", "1"))
+                .andExpect(jsonPath("$.data.total").value(3))
+                .andExpect(jsonPath("$.data.ids.length()").value(1))
+                .andExpect(jsonPath("$.data.ids[0]").value(capeMask));
+    }
+
+    @Test
+    void targetsItemsAndIgnoresUnknownKeywords() throws Exception {
+        mockMvc.perform(get("/api/v1/keywords/filter").param("q", "cape").param("target", "items"))
+                .andExpect(jsonPath("$.data.target").value("items"))
+                .andExpect(jsonPath("$.data.ids[0]").value(capeItem));
+
+        mockMvc.perform(get("/api/v1/keywords/filter").param("q", "wings OR Hair"))
+                .andExpect(jsonPath("$.data.total").value(0));
+    }
+
+    @Test
+    void listsDictionaryWithCounts() throws Exception {
+        // " hair " 는 hair로 합쳐지고 같은 영혼에 중복 저장되지 않는다
+        mockMvc.perform(get("/api/v1/keywords"))
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0].name").value("cape"))
+                .andExpect(jsonPath("$.data[0].soulCount").value(2))
+                .andExpect(jsonPath("$.data[0].itemCount").value(1))
+                .andExpect(jsonPath("$.data[1].name").value("hair"))
+                .andExpect(jsonPath("$.data[1].soulCount").value(2));
+
+        mockMvc.perform(get("/api/v1/souls/" + hairOnly))
+                .andExpect(jsonPath("$.data.keywords.length()").value(1));
+    }
+
+    private SoulEntity soul(SeasonEntity season, String name, int orderNum, String... keywords) {
+        return SoulEntity.builder()
+                .season(season)
+                .seasonName(season.getName())
+                .name(name)
+                .orderNum(orderNum)
+                .startDate(season.getStartDate())
+                .endDate(season.getEndDate())
+                .keywords(keywordService.resolve(List.of(keywords)))
+                .build();
+    }
+}
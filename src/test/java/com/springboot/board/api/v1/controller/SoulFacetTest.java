@@ -0,0 +1,172 @@
+package com.springboot.board.api.v1.controller;
+
+import com.springboot.board.application.search.SoulFacetIndex;
+import com.springboot.board.application.service.KeywordService;
+import com.springboot.board.common.query.QueryBudgetFilter;
+import com.springboot.board.domain.entity.SeasonEntity;
+import com.springboot.board.domain.entity.SoulEntity;
+import com.springboot.board.domain.entity.TravelingVisitEntity;
+import com.springboot.board.domain.repository.SeasonRepository;
+import com.springboot.board.domain.repository.SoulRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 영혼 패싯 필터: 조건 조합 결과와 항목별 건수 (자기 항목 조건은 빼고 센다)
+ * 시즌1 - alpha(가이드, kim, 유랑단 방문 1회), beta(lee, 방문 없음) / 시즌2 - gamma(kim, 방문 3회, hair)
+ */
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:facets;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.query-budget.expose-header=true"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SoulFacetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SeasonRepository seasonRepository;
+
+    @Autowired
+    private SoulRepository soulRepository;
+
+    @Autowired
+    private KeywordService keywordService;
+
+    @Autowired
+    private SoulFacetIndex index;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Integer first;
+    private Integer alpha;
+    private Integer beta;
+    private Integer gamma;
+
+    @BeforeAll
+    void setUpFixture() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            SeasonEntity one = seasonRepository.save(season("Season One", 1));
+            SeasonEntity two = seasonRepository.save(season("Season Two", 2));
+            first = one.getId();
+
+            SoulEntity a = soul(one, "Alpha", 1, "kim", true);
+            a.getTravelingVisits().add(visit(a, 1, true));
+            alpha = soulRepository.save(a).getId();
+
+            beta = soulRepository.save(soul(one, "Beta", 2, "lee", false)).getId();
+
+            SoulEntity g = soul(two, "Gamma", 1, "kim", false);
+            g.setKeywords(keywordService.resolve(List.of("hair")));
+            for (int i = 1; i <= 3; i++) {
+                g.getTravelingVisits().add(visit(g, i, false));
+            }
+            gamma = soulRepository.save(g).getId();
+        });
+        index.rebuild();
+    }
+
+    @Test
+    void noFilterCountsEveryDimensionWithoutQueries() throws Exception {
+        mockMvc.perform(get("/api/v1/souls/facets"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryBudgetFilter.HEADER, "0"))
+                .andExpect(jsonPath("$.data.total").value(3))
+                .andExpect(jsonPath("$.data.ids[0]").value(alpha))
+                .andExpect(jsonPath("$.data.ids[1]").value(beta))
+                .andExpect(jsonPath("$.data.ids[2]").value(gamma))
+                .andExpect(jsonPath("$.data.facets.season[0].label").value("Season One"))
+                .andExpect(jsonPath("$.data.facets.season[0].count").value(2))
+                .andExpect(jsonPath("$.data.facets.season[1].count").value(1))
+                .andExpect(jsonPath("$.data.facets.visited[0].count").value(2))
+                .andExpect(jsonPath("$.data.facets.visited[1].count").value(1))
+                .andExpect(jsonPath("$.data.facets.rerun[0].count").value(1))   // 0회
+                .andExpect(jsonPath("$.data.facets.rerun[1].count").value(1))   // 1회
+                .andExpect(jsonPath("$.data.facets.rerun[3].count").value(1))   // 3-4회
+                .andExpect(jsonPath("$.data.facets.keyword[0].value").value("hair"));
+    }
+
+    @Test
+    void eachDimensionIsCountedWithoutItsOwnFilter() throws Exception {
+        mockMvc.perform(get("/api/v1/souls/facets").param("season", String.valueOf(first)).param("creator", "kim"))
+                .andExpect(jsonPath("$.data.total").value(1))
+                .andExpect(jsonPath("$.data.ids[0]").value(alpha))
+                // 시즌 건수는 creator=kim 만 적용: 시즌1 alpha, 시즌2 gamma
+                .andExpect(jsonPath("$.data.facets.season.length()").value(2))
+                .andExpect(jsonPath("$.data.facets.season[1].count").value(1))
+                // 제작자 건수는 시즌1 만 적용: kim(alpha), lee(beta)
+                .andExpect(jsonPath("$.data.facets.creator.length()").value(2))
+                .andExpect(jsonPath("$.data.facets.seasonGuide[0].count").value(1))
+                .andExpect(jsonPath("$.data.facets.seasonGuide[1].count").value(0));
+    }
+
+    @Test
+    void filtersByVisitsWarbandAndKeyword() throws Exception {
+        mockMvc.perform(get("/api/v1/souls/facets").param("warband", "true"))
+                .andExpect(jsonPath("$.data.total").value(1))
+                .andExpect(jsonPath("$.data.ids[0]").value(alpha));
+
+        mockMvc.perform(get("/api/v1/souls/facets").param("rerunMin", "2").param("visited", "true"))
+                .andExpect(jsonPath("$.data.total").value(1))
+                .andExpect(jsonPath("$.data.ids[0]").value(gamma));
+
+        mockMvc.perform(get("/api/v1/souls/facets").param("keyword", "hair").param("season", String.valueOf(first)))
+                .andExpect(jsonPath("$.data.total").value(0));
+
+        mockMvc.perform(get("/api/v1/souls/facets").param("size", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static SeasonEntity season(String name, int orderNum) {
+        return SeasonEntity.builder()
+                .name(name)
+                .orderNum(orderNum)
+                .startDate(LocalDate.of(2023, orderNum, 1))
+                .endDate(LocalDate.of(2023, orderNum, 20))
+                .build();
+    }
+
+    private static SoulEntity soul(SeasonEntity season, String name, int orderNum, String creator, boolean guide) {
+        return SoulEntity.builder()
+                .season(season)
+                .seasonName(season.getName())
+                .name(name)
+                .orderNum(orderNum)
+                .startDate(season.getStartDate())
+                .endDate(season.getEndDate())
+                .creator(creator)
+                .isSeasonGuide(guide)
+                .build();
+    }
+
+    private static TravelingVisitEntity visit(SoulEntity soul, int visitNumber, boolean warband) {
+        LocalDate start = LocalDate.of(2024, 1, 1).plusWeeks(visitNumber * 2L + soul.getOrderNum());
+        return TravelingVisitEntity.builder()
+                .soul(soul)
+                .visitNumber(visitNumber)
+                .startDate(start)
+                .endDate(start.plusDays(4))
+                .isWarbandVisit(warband)
+                .build();
+    }
+}
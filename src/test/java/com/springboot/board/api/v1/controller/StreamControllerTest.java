@@ -0,0 +1,143 @@
+package com.springboot.board.api.v1.controller;
+
+import com.springboot.board.application.push.CatalogChangeNotifier;
+import com.springboot.board.application.push.SseBroadcaster;
+import com.springboot.board.application.service.KeywordService;
+import com.springboot.board.domain.entity.SeasonEntity;
+import com.springboot.board.domain.entity.SoulEntity;
+import com.springboot.board.domain.entity.TravelingVisitEntity;
+import com.springboot.board.domain.repository.SeasonRepository;
+import com.springboot.board.domain.repository.SoulRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 HTTP로 SSE를 구독해 카탈로그 변경/유랑 시작 이벤트가 오는지 확인
+ * 묶음 전송은 스케줄러 대신 flush()를 직접 호출해 시점을 고정한다.
+ */
+@ActiveProfiles("h2")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:stream;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.push.coalesce-ms=3600000"
+})
+class StreamControllerTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SeasonRepository seasonRepository;
+
+    @Autowired
+    private SoulRepository soulRepository;
+
+    @Autowired
+    private KeywordService keywordService;
+
+    @Autowired
+    private CatalogChangeNotifier notifier;
+
+    @Autowired
+    private SseBroadcaster broadcaster;
+
+    @Test
+    void pushesCatalogChangesAndVisitStart() throws Exception {
+        BlockingQueue<String> lines = subscribe();
+
+        SoulEntity soul = createSoulTravelingToday();
+        notifier.flush();
+
+        awaitLine(lines, "event:" + CatalogChangeNotifier.EVENT_NAME);
+        String changes = awaitLine(lines, "data:");
+        assertThat(changes).contains("\"SOUL\":[" + soul.getId() + "]");
+
+        awaitLine(lines, "event:visit-started");
+        assertThat(awaitLine(lines, "data:")).contains("\"soulName\":\"Streaming Spirit\"");
+    }
+
+    @Test
+    void framesArriveInBroadcastOrder() throws Exception {
+        BlockingQueue<String> lines = subscribe();
+
+        for (int i = 0; i < 200; i++) {
+            broadcaster.broadcast("order-check", Map.of("n", i));
+        }
+        List<String> received = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            received.add(awaitLine(lines, "data:{\"n\""));
+        }
+        for (int i = 0; i < 200; i++) {
+            assertThat(received.get(i)).isEqualTo("data:{\"n\":" + i + "}");
+        }
+    }
+
+    private BlockingQueue<String> subscribe() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/stream"))
+                .header("Accept", "text/event-stream")
+                .build();
+        HttpResponse<Stream<String>> response = client.send(request, HttpResponse.BodyHandlers.ofLines());
+        assertThat(response.statusCode()).isEqualTo(200);
+
+        BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+        Thread.ofVirtual().start(() -> response.body().forEach(lines::add));
+        awaitLine(lines, "event:connected");
+        return lines;
+    }
+
+    private static String awaitLine(BlockingQueue<String> lines, String prefix) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            String line = lines.poll(100, TimeUnit.MILLISECONDS);
+            if (line != null && line.startsWith(prefix)) {
+                return line;
+            }
+        }
+        throw new AssertionError("No SSE line starting with " + prefix);
+    }
+
+    private SoulEntity createSoulTravelingToday() {
+        LocalDate today = LocalDate.now();
+        SeasonEntity season = seasonRepository.save(SeasonEntity.builder()
+                .name("Season of Streaming")
+                .orderNum(1)
+                .startDate(today.minusYears(1))
+                .endDate(today.minusMonths(10))
+                .build());
+
+        SoulEntity soul = SoulEntity.builder()
+                .season(season)
+                .seasonName(season.getName())
+                .name("Streaming Spirit")
+                .orderNum(1)
+                .startDate(season.getStartDate())
+                .endDate(season.getEndDate())
+                .keywords(keywordService.resolve(List.of("stream")))
+                .build();
+        soul.getTravelingVisits().add(TravelingVisitEntity.builder()
+                .soul(soul)
+                .visitNumber(1)
+                .startDate(today.minusDays(1))
+                .endDate(today.plusDays(2))
+                .build());
+        return soulRepository.save(soul);
+    }
+}
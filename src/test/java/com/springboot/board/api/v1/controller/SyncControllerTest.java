@@ -0,0 +1,126 @@
+package com.springboot.board.api.v1.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.board.application.service.KeywordService;
+import com.springboot.board.domain.entity.ImageEntity;
+import com.springboot.board.domain.entity.SeasonEntity;
+import com.springboot.board.domain.entity.SoulEntity;
+import com.springboot.board.domain.entity.TravelingVisitEntity;
+import com.springboot.board.domain.repository.SeasonRepository;
+import com.springboot.board.domain.repository.SoulRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 증분 동기화: 전체 → 변경/삭제 후 since 토큰으로 차이만 받는 흐름
+ */
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sync;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.sync.overlap-seconds=0"
+})
+class SyncControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SeasonRepository seasonRepository;
+
+    @Autowired
+    private SoulRepository soulRepository;
+
+    @Autowired
+    private KeywordService keywordService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void returnsOnlyChangesSinceToken() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        SoulEntity soul = tx.execute(status -> createSoul());
+        Integer soulId = soul.getId();
+        Long visitId = soul.getTravelingVisits().get(0).getId();
+
+        JsonNode full = sync(null);
+        assertThat(full.path("full").asBoolean()).isTrue();
+        assertThat(full.path("souls")).hasSize(1);
+        assertThat(full.path("travelingVisits")).hasSize(1);
+        assertThat(full.path("images")).hasSize(1);
+        String token = full.path("nextToken").asText();
+
+        Thread.sleep(5);
+        tx.executeWithoutResult(status -> soulRepository.findById(soulId).orElseThrow().setName("Renamed Spirit"));
+        mockMvc.perform(delete("/api/v1/visits/" + visitId)).andExpect(status().isNoContent());
+
+        JsonNode delta = sync(token);
+        assertThat(delta.path("full").asBoolean()).isFalse();
+        assertThat(delta.path("seasons")).isEmpty();
+        assertThat(delta.path("images")).isEmpty();
+        assertThat(delta.path("souls")).hasSize(1);
+        assertThat(delta.path("souls").get(0).path("name").asText()).isEqualTo("Renamed Spirit");
+        assertThat(delta.path("travelingVisits")).isEmpty();
+        assertThat(delta.path("deleted").path("TRAVELING_VISIT").get(0).asLong()).isEqualTo(visitId);
+
+        assertThat(sync("not-a-token").path("full").asBoolean()).isTrue();
+    }
+
+    private JsonNode sync(String since) throws Exception {
+        String body = mockMvc.perform(since == null ? get("/api/v1/sync") : get("/api/v1/sync").param("since", since))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).path("data");
+    }
+
+    private SoulEntity createSoul() {
+        SeasonEntity season = seasonRepository.save(SeasonEntity.builder()
+                .name("Season of Syncing")
+                .orderNum(1)
+                .startDate(LocalDate.of(2024, 1, 1))
+                .endDate(LocalDate.of(2024, 3, 1))
+                .build());
+
+        SoulEntity soul = SoulEntity.builder()
+                .season(season)
+                .seasonName(season.getName())
+                .name("Sync Spirit")
+                .orderNum(1)
+                .startDate(season.getStartDate())
+                .endDate(season.getEndDate())
+                .keywords(keywordService.resolve(List.of("sync")))
+                .build();
+        soul.getImages().add(ImageEntity.builder()
+                .soul(soul)
+                .imageType("REPRESENTATIVE")
+                .fileName("sync.png")
+                .url("/uploads/sync.png")
+                .build());
+        soul.getTravelingVisits().add(TravelingVisitEntity.builder()
+                .soul(soul)
+                .visitNumber(1)
+                .startDate(LocalDate.of(2024, 6, 1))
+                .endDate(LocalDate.of(2024, 6, 5))
+                .build());
+        return soulRepository.save(soul);
+    }
+}
@@ -0,0 +1,123 @@
+package com.springboot.board.application.image;
+
+import com.springboot.board.support.UploadRequests;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 업로드 정규화 - 긴 변 상한, 타입별 상한/무손실 타입, JPEG 품질과 메타데이터 제거, 비활성화
+ */
+class ImageNormalizerTest {
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G'};
+    private static final String SECRET = "gps=37.5665,126.9780";
+
+    private final ImageProcessor imageProcessor = new ImageProcessor(40_000_000);
+    private final ImageNormalizer normalizer = normalizer(true, 0.85f);
+
+    @Test
+    void capsLongEdgeAtMaxDimension() throws IOException {
+        NormalizedImage result = normalizer.normalize(UploadRequests.samplePng(4000, 2000), "image/png", "representative");
+
+        assertThat(result.isTransformed()).isTrue();
+        assertThat(result.getContentType()).isEqualTo("image/jpeg");
+        assertThat(decode(result.getContent())).satisfies(image -> {
+            assertThat(image.getWidth()).isEqualTo(1600);
+            assertThat(image.getHeight()).isEqualTo(800);
+        });
+    }
+
+    @Test
+    void nodeChartUsesItsOwnMaxDimensionAndStaysPng() throws IOException {
+        NormalizedImage result = normalizer.normalize(UploadRequests.samplePng(4000, 2000), "image/png", "node_chart");
+
+        assertThat(result.getContentType()).isEqualTo("image/png");
+        assertThat(result.getContent()).startsWith(PNG_SIGNATURE);
+        assertThat(decode(result.getContent())).satisfies(image -> {
+            assertThat(image.getWidth()).isEqualTo(3200);
+            assertThat(image.getHeight()).isEqualTo(1600);
+        });
+    }
+
+    @Test
+    void appliesJpegQualityAndStripsMetadata() throws IOException {
+        byte[] upload = withMetadata(jpeg(photo(2400, 1600)));
+        assertThat(new String(upload, StandardCharsets.ISO_8859_1)).contains("Exif").contains(SECRET);
+
+        NormalizedImage low = normalizer(true, 0.3f).normalize(upload, "image/jpeg", "REPRESENTATIVE");
+        NormalizedImage high = normalizer(true, 0.95f).normalize(upload, "image/jpeg", "REPRESENTATIVE");
+
+        assertThat(low.getContent().length).isLessThan(high.getContent().length);
+        for (NormalizedImage result : new NormalizedImage[]{low, high}) {
+            String content = new String(result.getContent(), StandardCharsets.ISO_8859_1);
+            assertThat(content).doesNotContain("Exif").doesNotContain(SECRET);
+        }
+    }
+
+    @Test
+    void disabledPassesUploadThrough() {
+        byte[] upload = UploadRequests.samplePng(4000, 2000);
+
+        NormalizedImage result = normalizer(false, 0.85f).normalize(upload, "image/png", "REPRESENTATIVE");
+
+        assertThat(result.isTransformed()).isFalse();
+        assertThat(result.getContent()).isSameAs(upload);
+        assertThat(result.getContentType()).isEqualTo("image/png");
+    }
+
+    private ImageNormalizer normalizer(boolean enabled, float jpegQuality) {
+        return new ImageNormalizer(imageProcessor, enabled, 1600, "NODE_CHART=3200", "NODE_CHART", jpegQuality);
+    }
+
+    private static BufferedImage decode(byte[] content) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(content));
+    }
+
+    /**
+     * 사진처럼 고주파 성분이 있는 이미지 (품질에 따라 크기 차이가 나도록)
+     */
+    private static BufferedImage photo(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int noise = (x * 31 + y * 17 + (x * y) % 97) % 64;
+                image.setRGB(x, y, ((x / 8 + noise) % 256) << 16 | ((y / 8 + noise) % 256) << 8 | (noise * 3));
+            }
+        }
+        return image;
+    }
+
+    private static byte[] jpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * SOI 바로 뒤에 EXIF(APP1, 빈 IFD)와 위치 정보가 담긴 주석(COM) 세그먼트 삽입
+     */
+    private static byte[] withMetadata(byte[] jpeg) {
+        byte[] exif = ByteBuffer.allocate(20)
+                .put("Exif\0\0".getBytes(StandardCharsets.ISO_8859_1))
+                .put("MM\0*".getBytes(StandardCharsets.ISO_8859_1)).putInt(8) // TIFF 헤더
+                .putShort((short) 0).putInt(0)                                 // 항목 없는 IFD0
+                .array();
+        byte[] comment = SECRET.getBytes(StandardCharsets.ISO_8859_1);
+
+        ByteBuffer buffer = ByteBuffer.allocate(jpeg.length + 4 + exif.length + 4 + comment.length);
+        buffer.put(jpeg, 0, 2);
+        buffer.putShort((short) 0xFFE1).putShort((short) (exif.length + 2)).put(exif);
+        buffer.putShort((short) 0xFFFE).putShort((short) (comment.length + 2)).put(comment);
+        buffer.put(jpeg, 2, jpeg.length - 2);
+        return buffer.array();
+    }
+}
@@ -0,0 +1,158 @@
+package com.springboot.board.application.scheduler;
+
+import com.springboot.board.application.service.ImageOutboxService;
+import com.springboot.board.application.service.ImageService;
+import com.springboot.board.application.storage.ImageStorage;
+import com.springboot.board.application.storage.LocalImageStorage;
+import com.springboot.board.domain.entity.ImageEntity;
+import com.springboot.board.domain.entity.ImageOutboxEntity;
+import com.springboot.board.domain.repository.ImageOutboxRepository;
+import com.springboot.board.domain.repository.ImageRepository;
+import com.springboot.board.support.UploadRequests;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 이미지 삭제 outbox - 삭제와 같은 트랜잭션에서 기록/롤백, 저장소 실패 시 지수 백오프 후 FAILED,
+ * 다시 참조된 저장소 키는 지우지 않고 완료 처리
+ */
+@ActiveProfiles("h2")
+@SpringBootTest(properties = {
+        "app.image-outbox.poll-interval-ms=3600000",
+        "app.image-outbox.max-attempts=3",
+        "app.image-outbox.backoff-base-seconds=5",
+        "app.image-outbox.backoff-max-seconds=3600"
+})
+class ImageOutboxWorkerTest {
+
+    private static final String TYPE = "REPRESENTATIVE";
+    private static final AtomicInteger SEQUENCE = new AtomicInteger(100);
+
+    @Autowired
+    private ImageOutboxWorker worker;
+
+    @Autowired
+    private ImageOutboxService outboxService;
+
+    @Autowired
+    private ImageOutboxRepository outboxRepository;
+
+    @Autowired
+    private ImageService imageService;
+
+    @Autowired
+    private ImageRepository imageRepository;
+
+    @Autowired
+    private LocalImageStorage localStorage;
+
+    @SpyBean
+    private ImageStorage imageStorage;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void clean() {
+        outboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void deletionIsEnqueuedInTheDeletingTransaction() throws IOException {
+        ImageEntity rolledBack = upload();
+        transactionTemplate.executeWithoutResult(status -> {
+            imageService.delete(rolledBack.getId());
+            status.setRollbackOnly();
+        });
+
+        assertThat(imageRepository.findById(rolledBack.getId())).isPresent();
+        assertThat(outboxRepository.findAll()).isEmpty();
+
+        ImageEntity committed = upload();
+        transactionTemplate.executeWithoutResult(status -> imageService.delete(committed.getId()));
+
+        assertThat(outboxRepository.findAll())
+                .extracting(ImageOutboxEntity::getPublicId)
+                .containsExactly(committed.getFileName());
+    }
+
+    @Test
+    void failedStorageDeletesBackOffExponentiallyUntilFailed() throws IOException {
+        doThrow(new IOException("storage down")).when(imageStorage).deleteAll(any());
+        outboxService.enqueueDeletion("images/unreachable.png");
+
+        for (int attempt = 1; attempt <= 2; attempt++) {
+            LocalDateTime before = LocalDateTime.now();
+            worker.drain();
+
+            ImageOutboxEntity item = outboxRepository.findAll().get(0);
+            long delay = 5L << (attempt - 1); // 5s, 10s
+            assertThat(item.getAttempts()).isEqualTo(attempt);
+            assertThat(item.getStatus()).isEqualTo(ImageOutboxEntity.STATUS_PENDING);
+            assertThat(item.getLastError()).isEqualTo("storage down");
+            assertThat(item.getNextAttemptAt())
+                    .isAfterOrEqualTo(before.plusSeconds(delay))
+                    .isBeforeOrEqualTo(LocalDateTime.now().plusSeconds(delay));
+
+            // 백오프가 끝난 것처럼 당겨서 다음 시도
+            item.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+            outboxRepository.save(item);
+        }
+
+        worker.drain();
+
+        ImageOutboxEntity item = outboxRepository.findAll().get(0);
+        assertThat(item.getAttempts()).isEqualTo(3);
+        assertThat(item.getStatus()).isEqualTo(ImageOutboxEntity.STATUS_FAILED);
+        assertThat(outboxService.hasDue()).isFalse();
+    }
+
+    @Test
+    void keysReferencedAgainAreCompletedWithoutDeleting() throws IOException {
+        ImageEntity image = upload();
+        outboxService.enqueueDeletion(image.getFileName()); // 예약 이후 같은 내용이 다시 올라온 상황
+
+        worker.drain();
+
+        assertThat(outboxRepository.findAll()).isEmpty();
+        verify(imageStorage, never()).deleteAll(any());
+        assertThat(Files.exists(localStorage.resolve(image.getFileName()))).isTrue();
+    }
+
+    @Test
+    void unreferencedKeysAreDeletedFromStorage() throws IOException {
+        ImageEntity image = upload();
+        imageService.delete(image.getId());
+
+        worker.drain();
+
+        assertThat(outboxRepository.findAll()).isEmpty();
+        verify(imageStorage).deleteAll(List.of(image.getFileName()));
+        assertThat(Files.exists(localStorage.resolve(image.getFileName()))).isFalse();
+    }
+
+    private ImageEntity upload() throws IOException {
+        int size = SEQUENCE.incrementAndGet();
+        return imageService.uploadWithoutSoul(TYPE, new MockMultipartFile("file", "image.png",
+                MediaType.IMAGE_PNG_VALUE, UploadRequests.samplePng(size, size)));
+    }
+}
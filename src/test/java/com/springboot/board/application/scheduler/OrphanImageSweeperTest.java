@@ -0,0 +1,245 @@
+package com.springboot.board.application.scheduler;
+
+import com.springboot.board.api.v1.dto.request.SoulCreateRequest;
+import com.springboot.board.api.v1.dto.request.SoulUpdateRequest;
+import com.springboot.board.api.v1.dto.response.SoulResponse;
+import com.springboot.board.application.service.ImageService;
+import com.springboot.board.application.service.SoulService;
+import com.springboot.board.application.storage.LocalImageStorage;
+import com.springboot.board.domain.entity.IAPItemEntity;
+import com.springboot.board.domain.entity.ImageEntity;
+import com.springboot.board.domain.entity.SeasonEntity;
+import com.springboot.board.domain.repository.IAPItemRepository;
+import com.springboot.board.domain.repository.ImageAssetRepository;
+import com.springboot.board.domain.repository.ImageRepository;
+import com.springboot.board.domain.repository.SeasonRepository;
+import com.springboot.board.domain.repository.SoulRepository;
+import com.springboot.board.support.UploadRequests;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 미연결 이미지 정리 - 유예 기간, IAP 이미지 제외, 공유 자산 참조 수, 배치/실행당 배치 수 제한
+ * 영혼 생성/수정 시 업로드 id로 연결된 이미지는 정리 대상에서 빠진다.
+ */
+@ActiveProfiles("h2")
+@SpringBootTest(properties = {
+        "app.image-sweeper.enabled=true",
+        "app.image-sweeper.initial-delay-ms=3600000",
+        "app.image-sweeper.grace-hours=24",
+        "app.image-sweeper.batch-size=2",
+        "app.image-sweeper.max-batches-per-run=2",
+        "app.image-sweeper.pause-ms=0"
+})
+class OrphanImageSweeperTest {
+
+    private static final String TYPE = "REPRESENTATIVE";
+    private static final AtomicInteger SEQUENCE = new AtomicInteger(100);
+
+    @Autowired
+    private OrphanImageSweeper sweeper;
+
+    @Autowired
+    private ImageService imageService;
+
+    @Autowired
+    private SoulService soulService;
+
+    @Autowired
+    private ImageRepository imageRepository;
+
+    @Autowired
+    private ImageAssetRepository assetRepository;
+
+    @Autowired
+    private IAPItemRepository iapItemRepository;
+
+    @Autowired
+    private SeasonRepository seasonRepository;
+
+    @Autowired
+    private SoulRepository soulRepository;
+
+    @Autowired
+    private LocalImageStorage storage;
+
+    @BeforeEach
+    void clean() {
+        imageRepository.deleteAllInBatch();
+        assetRepository.deleteAllInBatch();
+        iapItemRepository.deleteAllInBatch();
+        soulRepository.deleteAll();
+        seasonRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void keepsUploadsWithinGracePeriod() throws IOException {
+        ImageEntity expired = backdate(upload(nextPng()), 25);
+        ImageEntity recent = backdate(upload(nextPng()), 23);
+
+        sweeper.sweep();
+
+        assertThat(imageRepository.findById(expired.getId())).isEmpty();
+        assertThat(assetRepository.findByContentHash(expired.getContentHash())).isEmpty();
+        assertThat(imageRepository.findById(recent.getId())).isPresent();
+    }
+
+    @Test
+    void keepsImagesUsedByIapItems() throws IOException {
+        ImageEntity iapImage = backdate(upload(nextPng()), 48);
+        iapItemRepository.save(IAPItemEntity.builder()
+                .season(createSeason())
+                .name("빨간 뿔")
+                .imageUrl(iapImage.getUrl())
+                .build());
+
+        sweeper.sweep();
+
+        assertThat(imageRepository.findById(iapImage.getId())).isPresent();
+    }
+
+    @Test
+    void keepsSharedAssetReferencedByAttachedImage() throws IOException {
+        byte[] content = nextPng();
+        Integer soulId = createSoul(List.of()).getId();
+        ImageEntity attached = imageService.upload(soulId, TYPE, png(content));
+        ImageEntity orphan = backdate(upload(content), 48);
+
+        ImageService.OrphanSweepResult result = imageService.deleteOrphans(LocalDateTime.now().minusHours(24), 10);
+
+        assertThat(result.getCount()).isEqualTo(1);
+        assertThat(result.getReclaimedBytes()).isZero(); // 파일은 영혼 이미지가 계속 쓴다
+        assertThat(imageRepository.findById(orphan.getId())).isEmpty();
+        assertThat(assetRepository.findByContentHash(attached.getContentHash()))
+                .hasValueSatisfying(asset -> assertThat(asset.getRefCount()).isEqualTo(1));
+        assertThat(Files.exists(storage.resolve(attached.getFileName()))).isTrue();
+    }
+
+    @Test
+    void createAttachesUploadByIdAndLeavesOtherPendingRowsAlone() throws IOException {
+        byte[] content = nextPng();
+        ImageEntity mine = backdate(upload(content), 48);
+        ImageEntity othersPending = backdate(upload(content), 48); // 같은 내용이라 URL도 같다
+        assertThat(othersPending.getUrl()).isEqualTo(mine.getUrl());
+
+        Integer soulId = createSoul(List.of(createImage(mine.getId(), "sketch", mine.getUrl()))).getId();
+        sweeper.sweep();
+
+        assertThat(imageRepository.findById(mine.getId())).hasValueSatisfying(img -> {
+            assertThat(img.getSoul().getId()).isEqualTo(soulId);
+            assertThat(img.getImageType()).isEqualTo("SKETCH");
+        });
+        assertThat(imageRepository.findById(othersPending.getId())).isEmpty();
+    }
+
+    @Test
+    void updateAttachesOneRowPerUrlAndSkipsIapImages() throws IOException {
+        byte[] content = nextPng();
+        ImageEntity first = upload(content);
+        ImageEntity second = upload(content);
+        ImageEntity iapImage = upload(nextPng());
+        iapItemRepository.save(IAPItemEntity.builder()
+                .season(createSeason())
+                .name("꼬리")
+                .imageUrl(iapImage.getUrl())
+                .build());
+        Integer soulId = createSoul(List.of()).getId();
+
+        SoulUpdateRequest req = new SoulUpdateRequest();
+        req.setImages(List.of(updateImage(null, TYPE, first.getUrl()), updateImage(null, TYPE, first.getUrl()),
+                updateImage(null, TYPE, iapImage.getUrl())));
+        soulService.updateSoul(soulId, req);
+
+        assertThat(imageRepository.findAllBySoulIdOrderByIdDesc(soulId))
+                .extracting(ImageEntity::getId)
+                .containsExactly(second.getId()); // 최근 업로드 하나만
+        assertThat(imageRepository.findById(first.getId()))
+                .hasValueSatisfying(img -> assertThat(img.getSoul()).isNull());
+        assertThat(imageRepository.findById(iapImage.getId()))
+                .hasValueSatisfying(img -> assertThat(img.getSoul()).isNull());
+    }
+
+    @Test
+    void stopsAfterMaxBatchesPerRun() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            backdate(upload(nextPng()), 48);
+        }
+
+        sweeper.sweep(); // 2개씩 2배치
+        assertThat(imageRepository.count()).isEqualTo(1);
+
+        sweeper.sweep();
+        assertThat(imageRepository.count()).isZero();
+    }
+
+    private ImageEntity upload(byte[] content) throws IOException {
+        return imageService.uploadWithoutSoul(TYPE, png(content));
+    }
+
+    private ImageEntity backdate(ImageEntity image, long hours) {
+        image.setUploadedAt(LocalDateTime.now().minusHours(hours));
+        return imageRepository.save(image);
+    }
+
+    private SeasonEntity createSeason() {
+        int order = SEQUENCE.incrementAndGet();
+        return seasonRepository.save(SeasonEntity.builder()
+                .name("Season " + order)
+                .orderNum(order)
+                .startDate(LocalDate.of(2022, 1, 1))
+                .endDate(LocalDate.of(2022, 2, 1))
+                .build());
+    }
+
+    private SoulResponse createSoul(List<SoulCreateRequest.ImageInfo> images) {
+        SeasonEntity season = createSeason();
+        SoulCreateRequest req = new SoulCreateRequest();
+        req.setSeasonId(season.getId());
+        req.setSeasonName(season.getName());
+        req.setName("Orphan Spirit");
+        req.setOrderNum(1);
+        req.setStartDate(season.getStartDate());
+        req.setEndDate(season.getEndDate());
+        req.setImages(images);
+        return soulService.createSoul(req);
+    }
+
+    private static SoulCreateRequest.ImageInfo createImage(Long id, String imageType, String url) {
+        SoulCreateRequest.ImageInfo info = new SoulCreateRequest.ImageInfo();
+        info.setId(id);
+        info.setImageType(imageType);
+        info.setUrl(url);
+        return info;
+    }
+
+    private static SoulUpdateRequest.ImageInfo updateImage(Long id, String imageType, String url) {
+        SoulUpdateRequest.ImageInfo info = new SoulUpdateRequest.ImageInfo();
+        info.setId(id);
+        info.setImageType(imageType);
+        info.setUrl(url);
+        return info;
+    }
+
+    private static byte[] nextPng() {
+        int size = SEQUENCE.incrementAndGet();
+        return UploadRequests.samplePng(size, size);
+    }
+
+    private static MockMultipartFile png(byte[] content) {
+        return new MockMultipartFile("file", "image.png", MediaType.IMAGE_PNG_VALUE, content);
+    }
+}
@@ -0,0 +1,93 @@
+package com.springboot.board.application.storage;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.Uploader;
+import com.springboot.board.common.exception.StorageUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Cloudinary 호출 서킷 브레이커 - 연속 실패 후 OPEN(503용 StorageUnavailableException), open-seconds 후 HALF_OPEN 시험 호출
+ */
+class CloudinaryImageStorageTest {
+
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final byte[] CONTENT = {1, 2, 3};
+
+    private final Cloudinary cloudinary = mock(Cloudinary.class);
+    private final Uploader uploader = mock(Uploader.class);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CloudinaryImageStorage storage =
+            new CloudinaryImageStorage(cloudinary, executor, meterRegistry, 5_000, FAILURE_THRESHOLD, 1);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void opensAfterThresholdFailuresAndFailsFastWithoutCallingCloudinary() throws IOException {
+        failUploads();
+
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(() -> storage.store(CONTENT, "image/png"))
+                    .isInstanceOf(IOException.class)
+                    .hasMessage("cloudinary down");
+        }
+        assertThat(circuitState()).isEqualTo(1.0); // OPEN
+
+        assertThatThrownBy(() -> storage.store(CONTENT, "image/png"))
+                .isInstanceOfSatisfying(StorageUnavailableException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(1));
+        verify(uploader, times(FAILURE_THRESHOLD)).upload(any(), anyMap());
+    }
+
+    @Test
+    void allowsOneTrialCallAfterOpenSecondsAndClosesOnSuccess() throws Exception {
+        failUploads();
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(() -> storage.store(CONTENT, "image/png")).isInstanceOf(IOException.class);
+        }
+
+        // 시험 호출이 실패하면 바로 다시 OPEN
+        Thread.sleep(1_100);
+        assertThatThrownBy(() -> storage.store(CONTENT, "image/png")).isInstanceOf(IOException.class);
+        assertThat(circuitState()).isEqualTo(1.0);
+        assertThatThrownBy(() -> storage.store(CONTENT, "image/png")).isInstanceOf(StorageUnavailableException.class);
+
+        doReturn(Map.of(
+                "public_id", "sky-planner/abc",
+                "secure_url", "https://res.cloudinary.com/test/image/upload/v1/sky-planner/abc.png"))
+                .when(uploader).upload(any(), anyMap());
+        Thread.sleep(1_100);
+        assertThat(storage.store(CONTENT, "image/png").getKey()).isEqualTo("sky-planner/abc");
+        assertThat(circuitState()).isEqualTo(0.0); // CLOSED
+        verify(uploader, times(FAILURE_THRESHOLD + 2)).upload(any(), anyMap());
+    }
+
+    private void failUploads() throws IOException {
+        when(cloudinary.uploader()).thenReturn(uploader);
+        when(uploader.upload(any(), anyMap())).thenThrow(new IOException("cloudinary down"));
+    }
+
+    private double circuitState() {
+        return meterRegistry.get("storage.cloudinary.circuit.state").gauge().value();
+    }
+}
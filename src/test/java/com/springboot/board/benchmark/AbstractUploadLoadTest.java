@@ -0,0 +1,115 @@
+package com.springboot.board.benchmark;
+
+import com.springboot.board.support.FakeCloudinaryServer;
+import com.springboot.board.support.LatencyRecorder;
+import com.springboot.board.support.UploadRequests;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 클라이언트 1,000개로 업로드 API 처리량 측정 (플랫폼 스레드 vs 가상 스레드 비교)
+ * Cloudinary 응답 지연(200ms) 동안 요청 스레드가 막히는 상황을 재현한다.
+ * 벌크헤드/Cloudinary 스레드풀 한도는 충분히 올려 스레드 모델 차이만 드러나게 한다.
+ */
+@Tag("benchmark")
+@ActiveProfiles("h2")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.storage.type=cloudinary",
+        "app.upload-bulkhead.max-concurrent=2000",
+        "app.upload-bulkhead.max-waiting=2000",
+        "cloudinary.executor.threads=1024",
+        "cloudinary.executor.queue-capacity=1024",
+        "cloudinary.call-timeout-ms=60000",
+        "server.tomcat.accept-count=1000",
+        "spring.datasource.hikari.maximum-pool-size=50"
+})
+abstract class AbstractUploadLoadTest {
+
+    private static final int CLIENTS = 1000;
+    private static final int REQUESTS_PER_CLIENT = 5;
+
+    private static final FakeCloudinaryServer CLOUDINARY = startFakeCloudinary();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void cloudinaryProperties(DynamicPropertyRegistry registry) {
+        registry.add("cloudinary.upload-prefix", CLOUDINARY::getUploadPrefix);
+    }
+
+    protected abstract String mode();
+
+    @Test
+    void uploadThroughputAtThousandClients() throws Exception {
+        byte[] image = UploadRequests.samplePng(64, 64);
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        // 예열
+        run(client, image, 50, 2);
+
+        long start = System.nanoTime();
+        LatencyRecorder result = run(client, image, CLIENTS, REQUESTS_PER_CLIENT);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.printf("%n[%s] clients: %d, ok: %d, 429: %d, 503: %d, other: %d%n",
+                mode(), CLIENTS, result.getOk(), result.getTooManyRequests(), result.getUnavailable(),
+                result.getOther());
+        System.out.printf("[%s] throughput: %.0f req/s, p50: %.1f ms, p99: %.1f ms%n",
+                mode(), result.getOk() / seconds, result.percentileMillis(50), result.percentileMillis(99));
+
+        assertThat(result.getOther()).isZero();
+    }
+
+    private LatencyRecorder run(HttpClient client, byte[] image, int clients, int requestsPerClient) throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(clients);
+            for (int i = 0; i < clients; i++) {
+                futures.add(workers.submit(() -> {
+                    for (int r = 0; r < requestsPerClient; r++) {
+                        long begin = System.nanoTime();
+                        int status = client.send(UploadRequests.upload(port, image, "REPRESENTATIVE"),
+                                HttpResponse.BodyHandlers.discarding()).statusCode();
+                        recorder.record(status, System.nanoTime() - begin);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return recorder;
+    }
+
+    private static FakeCloudinaryServer startFakeCloudinary() {
+        try {
+            return FakeCloudinaryServer.start(FakeCloudinaryServer.Settings.builder()
+                    .latency(Duration.ofMillis(200))
+                    .build());
+        } catch (IOException e) {
+            throw new IllegalStateException("가짜 Cloudinary 서버를 시작할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.springboot.board.benchmark;
+
+import com.springboot.board.support.FakeCloudinaryServer;
+import com.springboot.board.support.LatencyRecorder;
+import com.springboot.board.support.UploadRequests;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가짜 Cloudinary 서버를 상대로 업로드 API 처리량 측정
+ * 기본 빌드에서는 제외되며 `mvn -Pbenchmark test`로 실행한다.
+ * 동시성을 단계적으로 올리며 p50/p99 지연과 힙 사용량을 출력한다.
+ */
+@Tag("benchmark")
+@ActiveProfiles("h2")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ImageUploadBenchmarkTest {
+
+    private static final int[] CONCURRENCY_LEVELS = {1, 4, 16, 64};
+    private static final int REQUESTS_PER_WORKER = 20;
+
+    private static final FakeCloudinaryServer CLOUDINARY = startFakeCloudinary();
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @DynamicPropertySource
+    static void cloudinaryProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.storage.type", () -> "cloudinary");
+        registry.add("cloudinary.upload-prefix", CLOUDINARY::getUploadPrefix);
+        registry.add("cloudinary.executor.threads", () -> 16);
+        registry.add("cloudinary.executor.queue-capacity", () -> 64);
+    }
+
+    @AfterAll
+    static void stopFakeCloudinary() {
+        CLOUDINARY.close();
+    }
+
+    @Test
+    void uploadThroughputByConcurrency() throws Exception {
+        byte[] image = UploadRequests.samplePng(800, 600);
+
+        // JIT 예열
+        runLevel(4, 5, image);
+
+        System.out.printf("%n%-12s %8s %8s %8s %8s %10s %10s %12s%n",
+                "concurrency", "ok", "429", "503", "other", "p50(ms)", "p99(ms)", "peakHeap(MB)");
+        for (int concurrency : CONCURRENCY_LEVELS) {
+            LevelResult result = runLevel(concurrency, REQUESTS_PER_WORKER, image);
+            System.out.printf("%-12d %8d %8d %8d %8d %10.1f %10.1f %12.1f%n",
+                    concurrency, result.getOk(), result.getTooManyRequests(), result.getUnavailable(),
+                    result.getOther(), result.percentileMillis(50), result.percentileMillis(99),
+                    result.peakHeapBytes / (1024.0 * 1024.0));
+            assertThat(result.getOther()).as("unexpected responses at concurrency %d", concurrency).isZero();
+        }
+        System.out.printf("fake cloudinary - uploads: %d, received: %.1f MB%n",
+                CLOUDINARY.getUploadCount(), CLOUDINARY.getReceivedBytes() / (1024.0 * 1024.0));
+    }
+
+    private LevelResult runLevel(int concurrency, int requestsPerWorker, byte[] image) throws Exception {
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        LevelResult result = new LevelResult();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                tasks.add(() -> {
+                    for (int r = 0; r < requestsPerWorker; r++) {
+                        long start = System.nanoTime();
+                        int status = upload(image);
+                        result.record(status, System.nanoTime() - start);
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> future : workers.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            workers.shutdown();
+        }
+
+        result.peakHeapBytes = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        return result;
+    }
+
+    private int upload(byte[] image) throws IOException, InterruptedException {
+        return client.send(UploadRequests.upload(port, image, "REPRESENTATIVE"),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static FakeCloudinaryServer startFakeCloudinary() {
+        try {
+            return FakeCloudinaryServer.start(FakeCloudinaryServer.Settings.builder()
+                    .latency(Duration.ofMillis(80))
+                    .latencyJitter(Duration.ofMillis(40))
+                    .bytesPerSecond(20L * 1024 * 1024)
+                    .build());
+        } catch (IOException e) {
+            throw new IllegalStateException("가짜 Cloudinary 서버를 시작할 수 없습니다.", e);
+        }
+    }
+
+    private static class LevelResult extends LatencyRecorder {
+        private long peakHeapBytes;
+    }
+}
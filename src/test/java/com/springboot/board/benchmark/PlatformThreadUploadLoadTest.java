@@ -0,0 +1,15 @@
+package com.springboot.board.benchmark;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 기준선 - Tomcat 플랫폼 스레드 풀(기본 200개)
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadUploadLoadTest extends AbstractUploadLoadTest {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
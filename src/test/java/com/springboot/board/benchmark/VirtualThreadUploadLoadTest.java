@@ -0,0 +1,15 @@
+package com.springboot.board.benchmark;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 가상 스레드 모드 - 요청당 가상 스레드
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadUploadLoadTest extends AbstractUploadLoadTest {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
@@ -0,0 +1,65 @@
+package com.springboot.board.benchmark.jmh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.springboot.board.api.v1.dto.response.SoulResponse;
+import com.springboot.board.application.mapper.SoulMapper;
+import com.springboot.board.application.mapper.SoulMapperImpl;
+import com.springboot.board.common.response.ApiResponse;
+import com.springboot.board.config.JacksonConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApiResponse<Page<SoulResponse>> JSON 직렬화 비용 (JacksonConfig의 ObjectMapper)
+ * 응답 본문은 버리는 스트림에 써서 바이트 배열 확장 비용은 제외한다.
+ * rows = 한 페이지에 담긴 영혼 수
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+
+    private ObjectWriter writer;
+    private ApiResponse<Page<SoulResponse>> response;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        writer = objectMapper.writer();
+
+        SoulMapper mapper = new SoulMapperImpl();
+        List<SoulResponse> content = SyntheticCatalog.generate(rows, 2).souls().stream()
+                .map(mapper::toResponse)
+                .toList();
+        response = ApiResponse.success(new PageImpl<>(content, PageRequest.of(0, rows), rows));
+    }
+
+    @Benchmark
+    public void serializePage() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), response);
+    }
+}
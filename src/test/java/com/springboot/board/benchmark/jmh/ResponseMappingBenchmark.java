@@ -0,0 +1,58 @@
+package com.springboot.board.benchmark.jmh;
+
+import com.springboot.board.api.v1.dto.response.ImageResponse;
+import com.springboot.board.application.mapper.SoulMapper;
+import com.springboot.board.application.mapper.SoulMapperImpl;
+import com.springboot.board.domain.entity.SoulEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 → 응답 DTO 변환 비용 (SoulMapper.toResponse, ImageResponse.fromEntities)
+ * rows = 변환하는 영혼 수 (영혼당 이미지 2개, 유랑 2개)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ResponseMappingBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+
+    private final SoulMapper mapper = new SoulMapperImpl();
+    private SyntheticCatalog catalog;
+
+    @Setup
+    public void setUp() {
+        catalog = SyntheticCatalog.generate(rows, 2);
+    }
+
+    @Benchmark
+    public void soulToResponse(Blackhole blackhole) {
+        for (SoulEntity soul : catalog.souls()) {
+            blackhole.consume(mapper.toResponse(soul));
+        }
+    }
+
+    @Benchmark
+    public void imagesFromEntities(Blackhole blackhole) {
+        for (SoulEntity soul : catalog.souls()) {
+            blackhole.consume(ImageResponse.fromEntities(soul.getImages()));
+        }
+    }
+}
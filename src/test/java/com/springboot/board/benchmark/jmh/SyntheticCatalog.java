@@ -0,0 +1,129 @@
+package com.springboot.board.benchmark.jmh;
+
+import com.springboot.board.domain.entity.ImageEntity;
+import com.springboot.board.domain.entity.KeywordEntity;
+import com.springboot.board.domain.entity.SeasonEntity;
+import com.springboot.board.domain.entity.SoulEntity;
+import com.springboot.board.domain.entity.TravelingVisitEntity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * JMH용 메모리 내 가짜 데이터 (DB 없이 엔티티 그래프만 구성)
+ * 시즌 20개에 영혼을 나눠 담고, 영혼마다 키워드 3개 / 이미지 2개 / 유랑 visitsPerSoul개를 붙인다.
+ * 같은 seed면 같은 데이터가 만들어지므로 실행 간 비교가 가능하다.
+ */
+final class SyntheticCatalog {
+
+    private static final int SEASONS = 20;
+    private static final LocalDate EPOCH = LocalDate.of(2019, 7, 1);
+
+    private final List<SoulEntity> souls;
+    private final List<TravelingVisitEntity> visits;
+
+    private SyntheticCatalog(List<SoulEntity> souls, List<TravelingVisitEntity> visits) {
+        this.souls = souls;
+        this.visits = visits;
+    }
+
+    static SyntheticCatalog generate(int soulCount, int visitsPerSoul) {
+        Random random = new Random(42);
+
+        List<SeasonEntity> seasons = new ArrayList<>();
+        for (int i = 0; i < SEASONS; i++) {
+            LocalDate start = EPOCH.plusDays(i * 90L);
+            seasons.add(SeasonEntity.builder()
+                    .id(i + 1)
+                    .name("Season " + (i + 1))
+                    .orderNum(i + 1)
+                    .startDate(start)
+                    .endDate(start.plusDays(70))
+                    .color(String.format("#%06X", random.nextInt(0xFFFFFF)))
+                    .build());
+        }
+
+        // 키워드 사전 - 같은 이름은 같은 엔티티를 공유한다
+        Map<String, KeywordEntity> dictionary = new HashMap<>();
+        List<SoulEntity> souls = new ArrayList<>(soulCount);
+        List<TravelingVisitEntity> visits = new ArrayList<>(soulCount * visitsPerSoul);
+        long imageId = 1;
+        long visitId = 1;
+        for (int i = 0; i < soulCount; i++) {
+            SeasonEntity season = seasons.get(i % SEASONS);
+            SoulEntity soul = SoulEntity.builder()
+                    .id(i + 1)
+                    .season(season)
+                    .seasonName(season.getName())
+                    .name("Spirit " + Integer.toString(random.nextInt(Integer.MAX_VALUE), 36))
+                    .orderNum(i / SEASONS + 1)
+                    .startDate(season.getStartDate())
+                    .endDate(season.getEndDate())
+                    .rerunCount(visitsPerSoul)
+                    .keywords(new ArrayList<>(List.of(
+                            keyword(dictionary, "keyword" + (i % 97)),
+                            keyword(dictionary, "tag" + (i % 31)),
+                            keyword(dictionary, season.getName()))))
+                    .creator("creator" + (i % 13))
+                    .description("Synthetic spirit #" + i + " for benchmarks")
+                    .build();
+
+            for (String type : List.of("REPRESENTATIVE", "LOCATION")) {
+                soul.getImages().add(ImageEntity.builder()
+                        .id(imageId)
+                        .soul(soul)
+                        .imageType(type)
+                        .fileName("souls/" + imageId)
+                        .url("https://res.cloudinary.com/demo/image/upload/v1/souls/" + imageId + ".jpg")
+                        .thumbnailUrl("https://res.cloudinary.com/demo/image/upload/w_320/v1/souls/" + imageId + ".jpg")
+                        .fileSize(180_000L + random.nextInt(200_000))
+                        .width(1600)
+                        .height(900)
+                        .uploadedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(imageId))
+                        .build());
+                imageId++;
+            }
+
+            for (int v = 1; v <= visitsPerSoul; v++) {
+                LocalDate start = EPOCH.plusDays(random.nextInt(6 * 365));
+                TravelingVisitEntity visit = TravelingVisitEntity.builder()
+                        .id(visitId)
+                        .soul(soul)
+                        .visitNumber(v)
+                        .globalOrder((int) visitId)
+                        .startDate(start)
+                        .endDate(start.plusDays(4))
+                        .build();
+                visitId++;
+                soul.getTravelingVisits().add(visit);
+                visits.add(visit);
+            }
+            souls.add(soul);
+        }
+
+        // 저장소 조회 결과처럼 유랑 종료일 내림차순
+        visits.sort((a, b) -> b.getEndDate().compareTo(a.getEndDate()));
+        return new SyntheticCatalog(Collections.unmodifiableList(souls), Collections.unmodifiableList(visits));
+    }
+
+    private static KeywordEntity keyword(Map<String, KeywordEntity> dictionary, String name) {
+        return dictionary.computeIfAbsent(name, key -> KeywordEntity.builder()
+                .id(dictionary.size() + 1)
+                .name(key)
+                .build());
+    }
+
+    List<SoulEntity> souls() {
+        return souls;
+    }
+
+    List<TravelingVisitEntity> visits() {
+        return visits;
+    }
+}
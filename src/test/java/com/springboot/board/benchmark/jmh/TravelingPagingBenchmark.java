@@ -0,0 +1,72 @@
+package com.springboot.board.benchmark.jmh;
+
+import com.springboot.board.application.mapper.SoulMapperImpl;
+import com.springboot.board.application.service.SoulService;
+import com.springboot.board.common.response.FieldSelection;
+import com.springboot.board.domain.repository.TravelingVisitRepository;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * 유랑 목록의 자바 내 정렬 + subList 페이징 비용
+ * 저장소는 메모리 데이터를 돌려주는 mock이라 DB 시간은 빠지고 변환/정렬/페이징만 측정된다.
+ * rows = 유랑 행 수 (영혼 rows/2개, 영혼당 유랑 2개), 첫 페이지만 요청한다.
+ * allTravelingVisitsSparse는 ?fields=name,startDate,endDate 와 같은 경로.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class TravelingPagingBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+
+    private static final FieldSelection SPARSE = FieldSelection.parse("name,startDate,endDate");
+
+    private SoulService soulService;
+
+    @Setup
+    public void setUp() {
+        SyntheticCatalog catalog = SyntheticCatalog.generate(rows / 2, 2);
+
+        TravelingVisitRepository visitRepository = Mockito.mock(TravelingVisitRepository.class);
+        when(visitRepository.findAllValidVisitsWithSoul()).thenReturn(catalog.visits());
+        when(visitRepository.findAllValidVisitsWithSoulAndSeason()).thenReturn(catalog.visits());
+
+        soulService = new SoulService(visitRepository, null, null, null, new SoulMapperImpl(), null, null, null);
+    }
+
+    @Benchmark
+    public Page<Map<String, Object>> allTravelingVisits() {
+        return soulService.getAllTravelingVisits(0, 15, FieldSelection.all());
+    }
+
+    @Benchmark
+    public Page<Map<String, Object>> allTravelingVisitsSparse() {
+        return soulService.getAllTravelingVisits(0, 15, SPARSE);
+    }
+
+    @Benchmark
+    public Page<Map<String, Object>> oldestSpirits() {
+        return soulService.getOldestSpirits(0, 20, FieldSelection.all());
+    }
+}
@@ -0,0 +1,200 @@
+package com.springboot.board.common.datasource;
+
+import com.springboot.board.domain.entity.SeasonEntity;
+import com.springboot.board.domain.repository.SeasonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * primary/replica를 서로 다른 H2 DB로 띄워 라우팅 확인
+ * 복제가 없으므로 "어느 DB에서 읽었는지"가 조회 결과로 드러난다.
+ */
+@ActiveProfiles("h2")
+@SpringBootTest(properties = {
+        "app.datasource.replica.url=jdbc:h2:mem:replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.read-your-writes-window-ms=" + ReadWriteRoutingDataSourceTest.WINDOW_MS
+})
+class ReadWriteRoutingDataSourceTest {
+
+    static final long WINDOW_MS = 300;
+
+    @Autowired
+    private SeasonRepository seasonRepository;
+
+    @Autowired
+    private ReplicationContext replicationContext;
+
+    @Autowired
+    private PrimaryReads primaryReads;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        primaryJdbc = new JdbcTemplate(primaryDataSource);
+        replicaJdbc = new JdbcTemplate(replicaDataSource);
+
+        primaryJdbc.update("DELETE FROM season");
+        replicaJdbc.update("DELETE FROM season");
+
+        // 이전 테스트의 쓰기로 열린 전역 window가 닫히길 기다린다
+        Thread.sleep(WINDOW_MS);
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        // 트랜잭션 쓰기는 window를 열므로 primary에 직접 넣는다 (아직 복제되지 않은 행)
+        primaryJdbc.update("INSERT INTO season (name, order_num, start_date, end_date, is_collaboration) "
+                + "VALUES ('primary-only', 1, DATE '2024-01-01', DATE '2024-01-31', FALSE)");
+        replicaJdbc.update("INSERT INTO season (name, order_num, start_date, end_date, is_collaboration) "
+                + "VALUES ('replica-only', 2, DATE '2024-01-01', DATE '2024-01-31', FALSE)");
+
+        assertThat(readByName("primary-only")).isEmpty();
+        assertThat(readByName("replica-only")).isPresent();
+        assertThat(primaryJdbc.queryForObject("SELECT COUNT(*) FROM season WHERE name = 'replica-only'", Long.class))
+                .isZero();
+    }
+
+    @Test
+    void readsAfterWriteInSameRequestStickToPrimary() {
+        replicationContext.begin();
+        try {
+            write(season("written-in-request", 1));
+            assertThat(readByName("written-in-request")).isPresent();
+        } finally {
+            replicationContext.clear();
+        }
+    }
+
+    @Test
+    void readsWithinWindowAfterWriteRequestStickToPrimary() throws InterruptedException {
+        inRequest(() -> write(season("recent", 1)));
+
+        // 다음 요청 - 아직 window 안
+        inRequest(() -> assertThat(readByName("recent")).isPresent());
+
+        Thread.sleep(WINDOW_MS + 100);
+        inRequest(() -> assertThat(readByName("recent")).isEmpty());
+    }
+
+    @Test
+    void writesOutsideRequestOpenWindowOnCommit() throws InterruptedException {
+        // 스케줄러 등 요청 밖의 쓰기도 다음 읽기를 primary로 보낸다
+        write(season("scheduled", 1));
+        assertThat(readByName("scheduled")).isPresent();
+
+        Thread.sleep(WINDOW_MS + 100);
+        assertThat(readByName("scheduled")).isEmpty();
+    }
+
+    @Test
+    void rolledBackWritesDoNotOpenWindow() {
+        replicaJdbc.update("INSERT INTO season (name, order_num, start_date, end_date, is_collaboration) "
+                + "VALUES ('replica-only', 2, DATE '2024-01-01', DATE '2024-01-31', FALSE)");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            seasonRepository.saveAndFlush(season("rolled-back", 1));
+            status.setRollbackOnly();
+        });
+
+        assertThat(readByName("replica-only")).isPresent();
+    }
+
+    @Test
+    void primaryScopeRoutesReadOnlyQueriesToPrimary() {
+        primaryJdbc.update("INSERT INTO season (name, order_num, start_date, end_date, is_collaboration) "
+                + "VALUES ('just-committed', 1, DATE '2024-01-01', DATE '2024-01-31', FALSE)");
+        assertThat(readByName("just-committed")).isEmpty();
+
+        try (ReplicationContext.Scope ignored = primaryReads.open()) {
+            assertThat(readByName("just-committed")).isPresent();
+        }
+        assertThat(readByName("just-committed")).isEmpty();
+    }
+
+    /**
+     * 실제 환경에서는 복제로 전달되는 스키마를 replica에 복사
+     * 기동 중 readOnly 조회(ApplicationReadyEvent의 인덱스 적재 등)도 replica로 가므로
+     * primary 스키마가 만들어진 refresh 직후, ApplicationReadyEvent 전에 복사한다.
+     */
+    @TestConfiguration
+    static class ReplicaSchemaConfig {
+
+        @Autowired
+        @Qualifier("primaryDataSource")
+        private DataSource primaryDataSource;
+
+        @Autowired
+        @Qualifier("replicaDataSource")
+        private DataSource replicaDataSource;
+
+        @Order(Ordered.HIGHEST_PRECEDENCE)
+        @EventListener(ContextRefreshedEvent.class)
+        public void copySchema() {
+            JdbcTemplate replicaJdbc = new JdbcTemplate(replicaDataSource);
+            List<String> script = new JdbcTemplate(primaryDataSource).queryForList("SCRIPT NODATA", String.class);
+            script.stream()
+                    .filter(statement -> !statement.startsWith("CREATE USER"))
+                    .forEach(replicaJdbc::execute);
+        }
+    }
+
+    private void inRequest(Runnable action) {
+        replicationContext.begin();
+        try {
+            action.run();
+        } finally {
+            replicationContext.clear();
+        }
+    }
+
+    private void write(SeasonEntity season) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> seasonRepository.save(season));
+    }
+
+    private Optional<SeasonEntity> readByName(String name) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> seasonRepository.findByName(name));
+    }
+
+    private static SeasonEntity season(String name, int orderNum) {
+        return SeasonEntity.builder()
+                .name(name)
+                .orderNum(orderNum)
+                .startDate(LocalDate.of(2024, 1, 1))
+                .endDate(LocalDate.of(2024, 1, 31))
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.springboot.board.common.interceptor;
+
+import com.springboot.board.common.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 이미지 쓰기 bulkhead - 동시 처리/대기 한도를 넘으면 429 + Retry-After, 핸들러가 실패해도 허가 반납
+ */
+class UploadBulkheadInterceptorTest {
+
+    private final StubImageController controller = new StubImageController();
+
+    @Test
+    void rejectsWith429WhenConcurrencyAndWaitQueueAreFull() throws Exception {
+        MockMvc mockMvc = mockMvc(new UploadBulkheadInterceptor(1, 1, 10_000, 2));
+        AtomicInteger completed = new AtomicInteger();
+
+        Thread running = new Thread(() -> upload(mockMvc, completed));
+        running.start();
+        assertThat(controller.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Thread waiting = new Thread(() -> upload(mockMvc, completed));
+        waiting.start();
+        awaitBlocked(waiting);
+
+        // 처리 중 1 + 대기 1이 찼으므로 즉시 거절
+        mockMvc.perform(post("/api/v1/images/upload"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.status").value(429));
+        // 조회는 bulkhead를 거치지 않는다
+        mockMvc.perform(get("/api/v1/images/1")).andExpect(status().isOk());
+
+        controller.release.countDown();
+        running.join(5_000);
+        waiting.join(5_000);
+        assertThat(completed).hasValue(2);
+    }
+
+    @Test
+    void releasesPermitWhenHandlerFails() throws Exception {
+        MockMvc mockMvc = mockMvc(new UploadBulkheadInterceptor(1, 0, 0, 2));
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(delete("/api/v1/images/1"))
+                    .andExpect(status().isInternalServerError());
+        }
+        controller.release.countDown();
+        mockMvc.perform(post("/api/v1/images/upload")).andExpect(status().isOk());
+    }
+
+    private MockMvc mockMvc(UploadBulkheadInterceptor interceptor) {
+        return MockMvcBuilders.standaloneSetup(controller)
+                .addMappedInterceptors(new String[]{"/api/v1/images", "/api/v1/images/**"}, interceptor)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    private static void upload(MockMvc mockMvc, AtomicInteger completed) {
+        try {
+            mockMvc.perform(post("/api/v1/images/upload")).andExpect(status().isOk());
+            completed.incrementAndGet();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void awaitBlocked(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.TIMED_WAITING) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    @RestController
+    static class StubImageController {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @PostMapping("/api/v1/images/upload")
+        String upload() throws InterruptedException {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "ok";
+        }
+
+        @GetMapping("/api/v1/images/{id}")
+        String get(@PathVariable Long id) {
+            return "ok";
+        }
+
+        @DeleteMapping("/api/v1/images/{id}")
+        String delete(@PathVariable Long id) {
+            throw new IllegalStateException("storage failed");
+        }
+    }
+}
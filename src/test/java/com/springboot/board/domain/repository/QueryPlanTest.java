@@ -0,0 +1,133 @@
+package com.springboot.board.domain.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션을 실제 MySQL에 적용하고 주요 조회의 실행 계획(EXPLAIN)을 확인
+ * - 컨텍스트가 뜨면 ddl-auto: validate 로 엔티티와 마이그레이션 스키마가 일치한다는 뜻이다.
+ * - synthetic-data 프로필로 데이터를 넣어 생성기 SQL도 마이그레이션 스키마에서 동작하는지 본다.
+ * Docker가 없으면 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@ActiveProfiles({"h2", "synthetic-data"})
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect",
+        "app.synthetic-data.scale=3",
+        "app.synthetic-data.exit-when-done=false"
+})
+class QueryPlanTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void analyze() {
+        jdbcTemplate.execute("ANALYZE TABLE season, soul, keyword, soul_keyword, soul_image, traveling_visit");
+    }
+
+    @Test
+    void migrationsAreApplied() {
+        List<String> versions = jdbcTemplate.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE success = 1 AND version IS NOT NULL ORDER BY installed_rank",
+                String.class);
+        assertThat(versions).startsWith("1", "1.1", "1.2", "2", "3");
+    }
+
+    @Test
+    void sharedStorageKeysAreAllowed() {
+        // 중복 제거된 업로드는 같은 file_name을 여러 행이 가리킨다 (V1의 유니크 키는 V1.2에서 제거)
+        List<String> uniqueIndexes = jdbcTemplate.queryForList(
+                "SELECT index_name FROM information_schema.statistics WHERE table_schema = DATABASE() "
+                        + "AND table_name = 'soul_image' AND column_name = 'file_name' AND non_unique = 0",
+                String.class);
+        assertThat(uniqueIndexes).isEmpty();
+    }
+
+    @Test
+    void visitsBySoulUseUniqueIndexWithoutSort() {
+        // findBySoulIdOrderByVisitNumberAsc
+        Map<String, Object> plan = explain("SELECT * FROM traveling_visit WHERE soul_id = ? ORDER BY visit_number", 1);
+        assertThat(plan.get("key")).isEqualTo("uk_traveling_visit_soul_visit");
+        assertThat(extra(plan)).doesNotContain("filesort");
+
+        // findBySoulIdAndVisitNumber
+        plan = explain("SELECT * FROM traveling_visit WHERE soul_id = ? AND visit_number = ?", 1, 1);
+        assertThat(plan.get("key")).isEqualTo("uk_traveling_visit_soul_visit");
+        assertThat(plan.get("type")).isIn("const", "eq_ref");
+    }
+
+    @Test
+    void currentVisitsUseDateRange() {
+        // findCurrentVisits - 지난 유랑은 end_date 범위에서 걸러진다
+        Date today = Date.valueOf(LocalDate.now());
+        Map<String, Object> plan = explain(
+                "SELECT * FROM traveling_visit WHERE ? BETWEEN start_date AND end_date", today);
+        assertThat(plan.get("key")).isIn("idx_traveling_visit_end_date", "idx_traveling_visit_start_end");
+        assertThat(plan.get("type")).isEqualTo("range");
+    }
+
+    @Test
+    void soulsBySeasonAreReadInOrder() {
+        // findBySeasonId / findBySeasonName (ORDER BY order_num)
+        Map<String, Object> plan = explain("SELECT * FROM soul WHERE season_id = ? ORDER BY order_num", 1);
+        assertThat(plan.get("key")).isEqualTo("idx_soul_season_order");
+        assertThat(extra(plan)).doesNotContain("filesort");
+    }
+
+    @Test
+    void imagesBySoulAndTypeUseCompositeIndex() {
+        // findAllBySoulIdAndImageType / existsBySoulIdAndImageType
+        Map<String, Object> plan = explain(
+                "SELECT * FROM soul_image WHERE soul_id = ? AND image_type = ?", 1, "REPRESENTATIVE");
+        assertThat(plan.get("key")).isEqualTo("idx_soul_image_soul_type");
+    }
+
+    @Test
+    void keywordLookupIsCoveredByIndex() {
+        // KeywordRepository.findSoulLinks 와 키워드 일치 조회 (keyword_id → soul_id)
+        Integer keywordId = jdbcTemplate.queryForObject("SELECT keyword_id FROM soul_keyword LIMIT 1", Integer.class);
+        Map<String, Object> plan = explain("SELECT soul_id FROM soul_keyword WHERE keyword_id = ?", keywordId);
+        assertThat(plan.get("key")).isEqualTo("idx_soul_keyword_keyword");
+        assertThat(extra(plan)).contains("Using index");
+    }
+
+    @Test
+    void syncQueriesUseModifiedDateIndex() {
+        // SoulRepository.findIdsModifiedAfter - 최근 변경분만
+        Timestamp since = Timestamp.valueOf(LocalDateTime.now().plusMinutes(1));
+        Map<String, Object> plan = explain("SELECT id FROM soul WHERE modified_date > ?", since);
+        assertThat(plan.get("key")).isEqualTo("idx_soul_modified_date");
+    }
+
+    private Map<String, Object> explain(String sql, Object... args) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, args).get(0);
+    }
+
+    private static String extra(Map<String, Object> plan) {
+        return String.valueOf(plan.get("Extra"));
+    }
+}
@@ -0,0 +1,83 @@
+package com.springboot.board.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전체 스택(Tomcat → MVC → Hibernate → Jackson → DB) 부하 테스트
+ * 기본 빌드에서는 제외되며 `mvn -Ploadtest test`로 실행한다. 외부 네트워크 없이 동작한다.
+ * - DB: 내장 H2(MySQL 모드)에 synthetic-data 프로필로 데이터를 만든다.
+ *   로컬 MySQL을 쓰려면 -Dspring.datasource.url=... 등으로 덮어쓴다 (빈 DB 또는 truncate=true).
+ * - 도착률 단계(loadtest.rates)마다 loadtest.stage-seconds 동안 열린 모델로 요청을 보낸다.
+ * - 결과: 콘솔 표, target/loadtest/throughput.csv(처리량 곡선), target/loadtest/rate-*.hgrm(지연 분포)
+ */
+@Tag("loadtest")
+@ActiveProfiles({"h2", "synthetic-data"})
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.synthetic-data.scale=${loadtest.scale:3}",
+        "app.synthetic-data.exit-when-done=false",
+        "app.query-budget.warn-threshold=0",
+        "logging.level.org.hibernate.orm.query=error"
+})
+class CatalogLoadTest {
+
+    private static final Path REPORT_DIR = Path.of("target", "loadtest");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void throughputCurve() throws Exception {
+        List<Double> rates = Arrays.stream(System.getProperty("loadtest.rates", "25,50,100,200").split(","))
+                .map(String::trim)
+                .map(Double::parseDouble)
+                .toList();
+        Duration stage = Duration.ofSeconds(Long.getLong("loadtest.stage-seconds", 20));
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10));
+
+        OpenModelLoadRunner runner = new OpenModelLoadRunner(port, TrafficMix.fromDatabase(jdbcTemplate));
+
+        // JIT/커넥션 풀/2차 캐시 예열 (결과 버림)
+        runner.run(rates.get(0), warmup, 0);
+
+        List<StageResult> results = new ArrayList<>();
+        for (int i = 0; i < rates.size(); i++) {
+            StageResult result = runner.run(rates.get(i), stage, i + 1);
+            results.add(result);
+
+            StageResult.printHeader(System.out);
+            result.print(System.out);
+            result.writePercentileDistribution(REPORT_DIR);
+        }
+
+        List<String> csv = new ArrayList<>();
+        csv.add(StageResult.csvHeader());
+        results.forEach(result -> csv.add(result.toCsvRow()));
+        Files.createDirectories(REPORT_DIR);
+        Files.write(REPORT_DIR.resolve("throughput.csv"), csv);
+
+        System.out.printf("%nThroughput curve (%s)%n", REPORT_DIR.resolve("throughput.csv").toAbsolutePath());
+        csv.forEach(System.out::println);
+
+        // 가장 낮은 도착률에서는 오류가 없어야 한다 (높은 단계의 포화는 측정 대상)
+        assertThat(results.get(0).errorRatio()).as("error ratio at %.0f req/s", rates.get(0)).isLessThan(0.01);
+    }
+}
@@ -0,0 +1,106 @@
+package com.springboot.board.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 열린 모델(open model) 부하 생성기
+ * 응답을 기다리지 않고 목표 도착률(Poisson)대로 요청을 보낸다. 서버가 느려져도 도착률은 줄지 않으므로
+ * 큐잉 지연이 그대로 드러난다. 지연은 실제 전송 시각이 아니라 "보냈어야 할 시각"부터 잰다
+ * (coordinated omission 보정).
+ */
+final class OpenModelLoadRunner {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final String baseUrl;
+    private final TrafficMix mix;
+    private final HttpClient client;
+
+    OpenModelLoadRunner(int port, TrafficMix mix) {
+        this.baseUrl = "http://localhost:" + port;
+        this.mix = mix;
+        this.client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    StageResult run(double ratePerSecond, Duration duration, long seed) throws InterruptedException {
+        Random random = new Random(seed);
+        Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+        mix.names().forEach(name -> recorders.put(name, new Recorder(HIGHEST_TRACKABLE_MICROS, 3)));
+        AtomicLong errors = new AtomicLong();
+        AtomicLong sent = new AtomicLong();
+
+        long meanIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            long intended = start;
+            while (true) {
+                // 지수 분포 간격 = Poisson 도착
+                intended += (long) (-Math.log(1 - random.nextDouble()) * meanIntervalNanos);
+                if (intended >= end) {
+                    break;
+                }
+                parkUntil(intended);
+
+                TrafficMix.Request request = mix.next(random);
+                long scheduledAt = intended;
+                sent.incrementAndGet();
+                senders.submit(() -> send(request, scheduledAt, recorders.get(request.name()), errors));
+            }
+        } // close()는 보낸 요청이 모두 끝날 때까지 기다린다
+        long elapsedNanos = System.nanoTime() - start;
+
+        Map<String, Histogram> histograms = new LinkedHashMap<>();
+        recorders.forEach((name, recorder) -> histograms.put(name, recorder.getIntervalHistogram()));
+        return new StageResult(ratePerSecond, sent.get(), errors.get(), elapsedNanos, histograms);
+    }
+
+    private void send(TrafficMix.Request request, long scheduledAt, Recorder recorder, AtomicLong errors) {
+        HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(baseUrl + request.path()))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+        try {
+            HttpResponse<Void> response = client.send(httpRequest, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                errors.incrementAndGet();
+                return;
+            }
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledAt);
+            recorder.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errors.incrementAndGet();
+        } catch (Exception e) {
+            errors.incrementAndGet();
+        }
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.springboot.board.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 단계(목표 도착률)의 결과 - 엔드포인트별/전체 HdrHistogram (단위: µs)
+ */
+final class StageResult {
+
+    private final double targetRate;
+    private final long sent;
+    private final long errors;
+    private final long elapsedNanos;
+    private final Map<String, Histogram> byEndpoint;
+    private final Histogram total;
+
+    StageResult(double targetRate, long sent, long errors, long elapsedNanos, Map<String, Histogram> byEndpoint) {
+        this.targetRate = targetRate;
+        this.sent = sent;
+        this.errors = errors;
+        this.elapsedNanos = elapsedNanos;
+        this.byEndpoint = byEndpoint;
+        this.total = new Histogram(3);
+        byEndpoint.values().forEach(total::add);
+    }
+
+    double getTargetRate() {
+        return targetRate;
+    }
+
+    long getErrors() {
+        return errors;
+    }
+
+    double errorRatio() {
+        return sent == 0 ? 0 : (double) errors / sent;
+    }
+
+    /**
+     * 성공 응답 기준 처리량 (요청 전송이 끝난 뒤 남은 응답까지 포함한 경과 시간으로 나눈다)
+     */
+    double achievedThroughput() {
+        return total.getTotalCount() / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    static void printHeader(PrintStream out) {
+        out.printf("%n%-14s %10s %10s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "rate(/s)", "tput(/s)", "errors", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+    }
+
+    void print(PrintStream out) {
+        for (Map.Entry<String, Histogram> entry : byEndpoint.entrySet()) {
+            printRow(out, entry.getKey(), entry.getValue(), "", "", "");
+        }
+        printRow(out, "TOTAL", total, String.format("%.0f", targetRate),
+                String.format("%.1f", achievedThroughput()), String.valueOf(errors));
+    }
+
+    /**
+     * HdrHistogram 백분위 분포 파일 (.hgrm, ms 단위) - HdrHistogram plotter로 단계별 곡선을 겹쳐 볼 수 있다
+     */
+    void writePercentileDistribution(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(String.format("rate-%05.0f.hgrm", targetRate));
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            total.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    String toCsvRow() {
+        return String.format("%.0f,%.1f,%d,%d,%.2f,%.2f,%.2f,%.2f,%.2f",
+                targetRate, achievedThroughput(), total.getTotalCount(), errors,
+                millis(total, 50), millis(total, 90), millis(total, 99), millis(total, 99.9),
+                total.getMaxValue() / 1000.0);
+    }
+
+    static String csvHeader() {
+        return "target_rate,throughput,ok,errors,p50_ms,p90_ms,p99_ms,p999_ms,max_ms";
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram,
+                                 String rate, String throughput, String errorCount) {
+        out.printf("%-14s %10s %10s %8s %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                name, rate, throughput, errorCount,
+                millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                histogram.getMaxValue() / 1000.0);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
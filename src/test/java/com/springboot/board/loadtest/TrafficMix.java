@@ -0,0 +1,84 @@
+package com.springboot.board.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * 실제 트래픽 비율을 흉내낸 조회 요청 구성
+ * 유랑 대백과 페이징이 가장 많고, 영혼 상세/검색/이웃/시즌/IAP 목록 순이다.
+ * 경로 변수는 DB에 실제로 있는 id/키워드에서 고른다.
+ */
+final class TrafficMix {
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final int totalWeight;
+
+    private final List<Integer> soulIds;
+    private final List<Integer> seasonIds;
+    private final List<String> keywords;
+    private final int encyclopediaPages;
+
+    private TrafficMix(List<Integer> soulIds, List<Integer> seasonIds, List<String> keywords, int visitCount) {
+        this.soulIds = soulIds;
+        this.seasonIds = seasonIds;
+        this.keywords = keywords;
+        this.encyclopediaPages = Math.max(1, visitCount / 15);
+
+        // 대부분 앞쪽 페이지를 본다 (제곱 분포)
+        add("encyclopedia", 30, random -> "/api/v1/souls/traveling-visits?page="
+                + (int) (Math.pow(random.nextDouble(), 2) * Math.min(encyclopediaPages, 50)) + "&size=15");
+        add("soul-detail", 20, random -> "/api/v1/souls/" + pick(this.soulIds, random));
+        add("search", 15, random -> "/api/v1/souls/search?query=" + pick(this.keywords, random));
+        add("neighbors", 10, random -> "/api/v1/souls/" + pick(this.soulIds, random) + "/neighbors");
+        add("seasons", 10, random -> "/api/v1/seasons");
+        add("iap-all", 5, random -> "/api/v1/iap-items");
+        add("iap-season", 10, random -> "/api/v1/iap-items/season/" + pick(this.seasonIds, random));
+        this.totalWeight = entries.stream().mapToInt(Entry::weight).sum();
+    }
+
+    static TrafficMix fromDatabase(JdbcTemplate jdbcTemplate) {
+        List<Integer> soulIds = jdbcTemplate.queryForList("SELECT id FROM soul", Integer.class);
+        List<Integer> seasonIds = jdbcTemplate.queryForList("SELECT id FROM season", Integer.class);
+        List<String> keywords = jdbcTemplate.queryForList(
+                "SELECT name FROM keyword ORDER BY name LIMIT 500", String.class);
+        Integer visits = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM traveling_visit WHERE visit_number IS NOT NULL", Integer.class);
+        if (soulIds.isEmpty() || seasonIds.isEmpty() || keywords.isEmpty()) {
+            throw new IllegalStateException("부하 테스트용 데이터가 없습니다. synthetic-data 프로필로 먼저 생성하세요.");
+        }
+        return new TrafficMix(soulIds, seasonIds, keywords, visits == null ? 0 : visits);
+    }
+
+    List<String> names() {
+        return entries.stream().map(Entry::name).toList();
+    }
+
+    Request next(Random random) {
+        int ticket = random.nextInt(totalWeight);
+        for (Entry entry : entries) {
+            ticket -= entry.weight();
+            if (ticket < 0) {
+                return new Request(entry.name(), entry.path().apply(random));
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    private void add(String name, int weight, Function<Random, String> path) {
+        entries.add(new Entry(name, weight, path));
+    }
+
+    private static <T> T pick(List<T> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private record Entry(String name, int weight, Function<Random, String> path) {
+    }
+
+    record Request(String name, String path) {
+    }
+}
@@ -0,0 +1,306 @@
+package com.springboot.board.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 테스트용 가짜 Cloudinary 서버
+ * cloudinary.uploader()와 api()가 호출하는 upload / destroy / delete_resources 엔드포인트만 흉내낸다.
+ * Cloudinary 설정의 upload_prefix를 {@link #getUploadPrefix()}로 지정해서 사용한다.
+ */
+public class FakeCloudinaryServer implements AutoCloseable {
+
+    private static final Pattern PATH = Pattern.compile("^/v1_1/([^/]+)/(.+)$");
+    private static final Pattern BOUNDARY = Pattern.compile("boundary=\"?([^\";]+)\"?");
+
+    private final Settings settings;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    // 처리량 제한 (초당 요청 수) - 가상 스레드에서 호출되므로 ReentrantLock 사용
+    private final ReentrantLock rateLock = new ReentrantLock();
+    private long windowStartMs;
+    private int windowCount;
+
+    private final AtomicLong uploads = new AtomicLong();
+    private final AtomicLong deletions = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+    private final AtomicLong receivedBytes = new AtomicLong();
+
+    @Getter
+    @Builder
+    public static class Settings {
+        @Builder.Default
+        private final Duration latency = Duration.ZERO;          // 모든 응답에 더하는 고정 지연
+        @Builder.Default
+        private final Duration latencyJitter = Duration.ZERO;    // 0 ~ jitter 사이 추가 지연
+        @Builder.Default
+        private final double errorRate = 0.0;                    // 500 응답 비율 (0.0 ~ 1.0)
+        @Builder.Default
+        private final int maxRequestsPerSecond = 0;              // 초과 시 420 (0이면 무제한)
+        @Builder.Default
+        private final long bytesPerSecond = 0;                   // 업로드 대역폭 (0이면 무제한)
+    }
+
+    private FakeCloudinaryServer(Settings settings) throws IOException {
+        this.settings = settings;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor(); // 요청당 가상 스레드 (지연 시뮬레이션용 sleep)
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+    }
+
+    public static FakeCloudinaryServer start(Settings settings) throws IOException {
+        FakeCloudinaryServer fake = new FakeCloudinaryServer(settings);
+        fake.server.start();
+        return fake;
+    }
+
+    public static FakeCloudinaryServer start() throws IOException {
+        return start(Settings.builder().build());
+    }
+
+    public String getUploadPrefix() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long getUploadCount() {
+        return uploads.get();
+    }
+
+    public long getDeletionCount() {
+        return deletions.get();
+    }
+
+    public long getInjectedErrorCount() {
+        return injectedErrors.get();
+    }
+
+    public long getRateLimitedCount() {
+        return rateLimited.get();
+    }
+
+    public long getReceivedBytes() {
+        return receivedBytes.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] body = readBody(exchange.getRequestBody());
+            receivedBytes.addAndGet(body.length);
+
+            Matcher matcher = PATH.matcher(exchange.getRequestURI().getPath());
+            if (!matcher.matches()) {
+                respond(exchange, 404, error("Not found"));
+                return;
+            }
+
+            if (!acquireRate()) {
+                rateLimited.incrementAndGet();
+                respond(exchange, 420, error("Rate Limit Exceeded"));
+                return;
+            }
+
+            simulateLatency(body.length);
+
+            if (settings.getErrorRate() > 0 && ThreadLocalRandom.current().nextDouble() < settings.getErrorRate()) {
+                injectedErrors.incrementAndGet();
+                respond(exchange, 500, error("Injected failure"));
+                return;
+            }
+
+            String cloudName = matcher.group(1);
+            String action = matcher.group(2);
+            String method = exchange.getRequestMethod();
+
+            if ("POST".equals(method) && action.endsWith("/upload")) {
+                respond(exchange, 200, upload(cloudName, exchange, body));
+            } else if ("POST".equals(method) && action.endsWith("/destroy")) {
+                deletions.incrementAndGet();
+                respond(exchange, 200, "{\"result\":\"ok\"}");
+            } else if ("DELETE".equals(method) && action.startsWith("resources/")) {
+                respond(exchange, 200, deleteResources(exchange, body));
+            } else {
+                respond(exchange, 404, error("Unsupported action: " + method + " " + action));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String upload(String cloudName, HttpExchange exchange, byte[] body) {
+        Map<String, String> fields = multipartFields(exchange.getRequestHeaders().getFirst("Content-Type"), body);
+        String folder = fields.getOrDefault("folder", "");
+        String publicId = (folder.isEmpty() ? "" : folder + "/") + UUID.randomUUID().toString().replace("-", "");
+        long version = Instant.now().getEpochSecond();
+        String path = "/" + cloudName + "/image/upload/v" + version + "/" + publicId + ".png";
+
+        uploads.incrementAndGet();
+        return "{"
+                + "\"public_id\":\"" + publicId + "\","
+                + "\"version\":" + version + ","
+                + "\"resource_type\":\"image\","
+                + "\"type\":\"upload\","
+                + "\"format\":\"png\","
+                + "\"bytes\":" + body.length + ","
+                + "\"created_at\":\"" + Instant.now() + "\","
+                + "\"url\":\"http://res.cloudinary.com" + path + "\","
+                + "\"secure_url\":\"https://res.cloudinary.com" + path + "\""
+                + "}";
+    }
+
+    private String deleteResources(HttpExchange exchange, byte[] body) {
+        List<String> publicIds = new ArrayList<>();
+        collectParams(exchange.getRequestURI().getRawQuery(), "public_ids[]", publicIds);
+        collectParams(new String(body, StandardCharsets.UTF_8), "public_ids[]", publicIds);
+        deletions.addAndGet(publicIds.size());
+
+        StringBuilder deleted = new StringBuilder();
+        for (String id : publicIds) {
+            if (deleted.length() > 0) {
+                deleted.append(',');
+            }
+            deleted.append('"').append(id).append("\":\"deleted\"");
+        }
+        return "{\"deleted\":{" + deleted + "},\"partial\":false}";
+    }
+
+    private boolean acquireRate() {
+        if (settings.getMaxRequestsPerSecond() <= 0) {
+            return true;
+        }
+        rateLock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            if (now - windowStartMs >= 1000) {
+                windowStartMs = now;
+                windowCount = 0;
+            }
+            return ++windowCount <= settings.getMaxRequestsPerSecond();
+        } finally {
+            rateLock.unlock();
+        }
+    }
+
+    private void simulateLatency(long bytes) throws InterruptedException {
+        long delayMs = settings.getLatency().toMillis();
+        long jitterMs = settings.getLatencyJitter().toMillis();
+        if (jitterMs > 0) {
+            delayMs += ThreadLocalRandom.current().nextLong(jitterMs + 1);
+        }
+        if (settings.getBytesPerSecond() > 0) {
+            delayMs += bytes * 1000 / settings.getBytesPerSecond();
+        }
+        if (delayMs > 0) {
+            Thread.sleep(delayMs);
+        }
+    }
+
+    private static byte[] readBody(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        in.transferTo(out);
+        return out.toByteArray();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String error(String message) {
+        return "{\"error\":{\"message\":\"" + message.replace("\"", "'") + "\"}}";
+    }
+
+    /**
+     * multipart 본문에서 파일이 아닌 텍스트 필드만 추출
+     */
+    private static Map<String, String> multipartFields(String contentType, byte[] body) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        if (contentType == null) {
+            return fields;
+        }
+        Matcher boundaryMatcher = BOUNDARY.matcher(contentType);
+        if (!boundaryMatcher.find()) {
+            collectForm(new String(body, StandardCharsets.UTF_8), fields);
+            return fields;
+        }
+
+        // 바이너리 파트가 섞여 있어도 ISO-8859-1은 바이트를 그대로 보존한다
+        String text = new String(body, StandardCharsets.ISO_8859_1);
+        for (String part : text.split("--" + Pattern.quote(boundaryMatcher.group(1)))) {
+            int headerEnd = part.indexOf("\r\n\r\n");
+            if (headerEnd == -1 || part.substring(0, headerEnd).contains("filename=")) {
+                continue;
+            }
+            Matcher name = Pattern.compile("name=\"([^\"]+)\"").matcher(part.substring(0, headerEnd));
+            if (name.find()) {
+                String value = part.substring(headerEnd + 4);
+                if (value.endsWith("\r\n")) {
+                    value = value.substring(0, value.length() - 2);
+                }
+                fields.put(name.group(1), new String(value.getBytes(StandardCharsets.ISO_8859_1), StandardCharsets.UTF_8));
+            }
+        }
+        return fields;
+    }
+
+    private static void collectForm(String encoded, Map<String, String> fields) {
+        if (encoded == null || encoded.isEmpty()) {
+            return;
+        }
+        for (String pair : encoded.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                fields.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private static void collectParams(String encoded, String key, List<String> values) {
+        if (encoded == null || encoded.isEmpty()) {
+            return;
+        }
+        for (String pair : encoded.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && key.equals(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8))) {
+                values.add(URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+    }
+}
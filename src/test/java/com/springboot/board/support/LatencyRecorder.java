@@ -0,0 +1,74 @@
+package com.springboot.board.support;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 응답 코드별 건수와 성공 응답 지연 기록
+ * 가상 스레드에서 호출되므로 synchronized 대신 ReentrantLock을 쓴다 (캐리어 pinning 방지).
+ */
+public class LatencyRecorder {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private long[] latenciesNanos = new long[1024];
+    private int size;
+    private int ok;
+    private int tooManyRequests;
+    private int unavailable;
+    private int other;
+
+    public void record(int status, long elapsedNanos) {
+        lock.lock();
+        try {
+            switch (status) {
+                case 200 -> {
+                    ok++;
+                    if (size == latenciesNanos.length) {
+                        latenciesNanos = Arrays.copyOf(latenciesNanos, size * 2);
+                    }
+                    latenciesNanos[size++] = elapsedNanos;
+                }
+                case 429 -> tooManyRequests++;
+                case 503 -> unavailable++;
+                default -> other++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 성공 응답 지연 백분위(ms)
+     */
+    public double percentileMillis(double p) {
+        long[] sorted;
+        lock.lock();
+        try {
+            sorted = Arrays.copyOf(latenciesNanos, size);
+        } finally {
+            lock.unlock();
+        }
+        if (sorted.length == 0) {
+            return 0;
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    public int getOk() {
+        return ok;
+    }
+
+    public int getTooManyRequests() {
+        return tooManyRequests;
+    }
+
+    public int getUnavailable() {
+        return unavailable;
+    }
+
+    public int getOther() {
+        return other;
+    }
+}
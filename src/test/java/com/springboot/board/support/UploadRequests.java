@@ -0,0 +1,76 @@
+package com.springboot.board.support;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벤치마크/부하 테스트용 업로드 요청 생성
+ */
+public final class UploadRequests {
+
+    private static final String BOUNDARY = "----sky-planner-benchmark";
+
+    // 해시 중복 제거를 피하기 위해 요청마다 꼬리 바이트를 바꾼다
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private UploadRequests() {
+    }
+
+    /**
+     * /api/v1/images/upload 요청 (매번 내용이 다른 이미지)
+     */
+    public static HttpRequest upload(int port, byte[] image, String imageType) {
+        byte[] unique = ByteBuffer.allocate(image.length + Long.BYTES)
+                .put(image)
+                .putLong(SEQUENCE.incrementAndGet())
+                .array();
+
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/images/upload"))
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(multipartBody(unique, imageType)))
+                .timeout(Duration.ofSeconds(60))
+                .build();
+    }
+
+    public static byte[] samplePng(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        int band = Math.max(1, height / 30);
+        for (int y = 0; y < height; y += band) {
+            g.setColor(new Color((y * 7) % 256, (y * 13) % 256, (y * 29) % 256));
+            g.fillRect(0, y, width, band);
+        }
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] multipartBody(byte[] file, String imageType) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(file.length + 512);
+        out.writeBytes(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"imageType\"\r\n\r\n"
+                + imageType + "\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"bench.png\"\r\n"
+                + "Content-Type: image/png\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(file);
+        out.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+}
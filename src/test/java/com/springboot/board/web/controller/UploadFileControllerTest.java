@@ -0,0 +1,117 @@
+package com.springboot.board.web.controller;
+
+import com.springboot.board.application.storage.LocalImageStorage;
+import com.springboot.board.application.storage.StoredImage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 로컬 저장소 서빙의 조건부 요청(If-None-Match, If-Range)과 Range 처리, 보안 헤더
+ */
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+@SpringBootTest
+class UploadFileControllerTest {
+
+    private static final byte[] CONTENT = "0123456789abcdefghij".getBytes(StandardCharsets.US_ASCII);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LocalImageStorage storage;
+
+    private String path;
+    private String etag;
+
+    @BeforeEach
+    void storeFile() throws Exception {
+        StoredImage stored = storage.store(CONTENT, "image/png");
+        path = LocalImageStorage.URL_PREFIX + stored.getKey();
+        etag = mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    @Test
+    void ifNoneMatchAcceptsListsWeakTagsAndWildcard() throws Exception {
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, "\"other\", \"another\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void singleRangeAndWeakIfRange() throws Exception {
+        mockMvc.perform(get(path).header(HttpHeaders.RANGE, "bytes=2-5").header(HttpHeaders.IF_RANGE, etag))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/20"))
+                .andExpect(content().string("2345"));
+
+        // If-Range는 강한 비교 - 약한 ETag면 전체 응답
+        mockMvc.perform(get(path).header(HttpHeaders.RANGE, "bytes=2-5").header(HttpHeaders.IF_RANGE, "W/" + etag))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(CONTENT));
+
+        mockMvc.perform(get(path).header(HttpHeaders.RANGE, "bytes=50-60"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */20"));
+    }
+
+    @Test
+    void multipleRangesAreServedAsMultipartByteranges() throws Exception {
+        MvcResult result = mockMvc.perform(get(path).header(HttpHeaders.RANGE, "bytes=0-1,-3"))
+                .andExpect(status().isPartialContent())
+                .andReturn();
+
+        String contentType = result.getResponse().getContentType();
+        assertThat(contentType).startsWith("multipart/byteranges; boundary=");
+        String boundary = contentType.substring(contentType.indexOf('=') + 1);
+        String body = result.getResponse().getContentAsString(StandardCharsets.US_ASCII);
+        assertThat(body).isEqualTo(
+                "\r\n--" + boundary + "\r\nContent-Type: image/png\r\nContent-Range: bytes 0-1/20\r\n\r\n01"
+                        + "\r\n--" + boundary + "\r\nContent-Type: image/png\r\nContent-Range: bytes 17-19/20\r\n\r\nhij"
+                        + "\r\n--" + boundary + "--\r\n");
+        assertThat(result.getResponse().getContentLengthLong()).isEqualTo(body.length());
+
+        // 범위 합이 파일보다 크면 Range를 무시
+        mockMvc.perform(get(path).header(HttpHeaders.RANGE, "bytes=0-15,5-19"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    void everyResponseIsSandboxed() throws Exception {
+        assertSandboxed(mockMvc.perform(get(path)).andExpect(status().isOk()).andReturn());
+        assertSandboxed(mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified()).andReturn());
+        assertSandboxed(mockMvc.perform(get(path).header(HttpHeaders.RANGE, "bytes=50-60"))
+                .andExpect(status().isRequestedRangeNotSatisfiable()).andReturn());
+        assertSandboxed(mockMvc.perform(get(LocalImageStorage.URL_PREFIX + "00/00/missing.png"))
+                .andExpect(status().isNotFound()).andReturn());
+    }
+
+    private static void assertSandboxed(MvcResult result) {
+        assertThat(result.getResponse().getHeader("X-Content-Type-Options")).isEqualTo("nosniff");
+        assertThat(result.getResponse().getHeader("Content-Security-Policy")).isEqualTo("sandbox");
+    }
+}